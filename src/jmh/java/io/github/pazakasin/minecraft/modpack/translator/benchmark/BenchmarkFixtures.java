@@ -0,0 +1,373 @@
+package io.github.pazakasin.minecraft.modpack.translator.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * ベンチマーク用の合成フィクスチャを生成するクラス。
+ * 乱数シードを固定しているため、同じ引数からは常に同じ内容が生成され、コミット間で結果を比較できる。
+ */
+public final class BenchmarkFixtures {
+    /** 全フィクスチャ共通の乱数シード。 */
+    public static final long SEED = 0x4D6F645061636BL;
+    
+    /** 英文の生成に使う単語。 */
+    private static final String[] WORDS = {
+        "iron", "gold", "copper", "ingot", "gear", "plate", "machine", "energy", "fluid", "tank",
+        "crusher", "furnace", "generator", "cable", "pipe", "storage", "drive", "cell", "upgrade", "module",
+        "the", "a", "of", "with", "to", "and", "for", "into", "from", "your",
+        "craft", "build", "place", "collect", "power", "process", "smelt", "combine", "unlock", "explore"
+    };
+    
+    /** 既存訳を想定した日本語の語句。 */
+    private static final String[] JAPANESE_WORDS = {
+        "鉄", "金", "銅", "インゴット", "歯車", "板", "機械", "エネルギー", "液体", "タンク"
+    };
+    
+    /** 説明文に混ぜる書式コード。 */
+    private static final String[] FORMAT_CODES = {"§a", "§6", "§r", "&e", "&l"};
+    
+    /**
+     * インスタンス化を禁止します。
+     */
+    private BenchmarkFixtures() {
+    }
+    
+    /**
+     * Modの言語ファイル（en_us.json形式）を生成します。
+     * 短いアイテム名が中心で、エスケープ・改行・書式コード・日本語を含む値が一定割合で混ざります。
+     * @param entries エントリー数
+     * @return JSON文字列
+     */
+    public static String langJson(int entries) {
+        return langJson(new Random(SEED), "benchmod", entries);
+    }
+    
+    /**
+     * FTB Questsのチャプターファイル（カンマ省略形式のSNBT）を生成します。
+     * @param quests クエスト数
+     * @return SNBT文字列
+     */
+    public static String questChapter(int quests) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder(quests * 700);
+        sb.append("{\n");
+        sb.append("\tdefault_hide_dependency_lines: false\n");
+        sb.append("\tdefault_quest_shape: \"\"\n");
+        sb.append("\tfilename: \"benchmark_chapter\"\n");
+        sb.append("\tgroup: \"\"\n");
+        sb.append("\ticon: \"minecraft:iron_ingot\"\n");
+        sb.append("\tid: \"").append(hexId(random)).append("\"\n");
+        sb.append("\torder_index: 0\n");
+        sb.append("\tquest_links: [ ]\n");
+        sb.append("\tquests: [\n");
+        
+        String previousId = null;
+        for (int i = 0; i < quests; i++) {
+            String questId = hexId(random);
+            sb.append("\t\t{\n");
+            if (previousId != null) {
+                sb.append("\t\t\tdependencies: [\"").append(previousId).append("\"]\n");
+            }
+            sb.append("\t\t\tdescription: [\n");
+            int lines = 1 + random.nextInt(5);
+            for (int j = 0; j < lines; j++) {
+                String line = j % 2 == 1 ? "" : escape(description(random));
+                sb.append("\t\t\t\t\"").append(line).append("\"\n");
+            }
+            sb.append("\t\t\t]\n");
+            sb.append("\t\t\tid: \"").append(questId).append("\"\n");
+            sb.append("\t\t\trewards: [{\n");
+            sb.append("\t\t\t\tid: \"").append(hexId(random)).append("\"\n");
+            sb.append("\t\t\t\ttype: \"xp\"\n");
+            sb.append("\t\t\t\txp: ").append(10 * (1 + random.nextInt(50))).append("\n");
+            sb.append("\t\t\t}]\n");
+            if (random.nextInt(3) == 0) {
+                sb.append("\t\t\tsubtitle: \"").append(escape(sentence(random, 3, 8))).append("\"\n");
+            }
+            sb.append("\t\t\ttasks: [{\n");
+            sb.append("\t\t\t\tcount: ").append(1 + random.nextInt(64)).append("L\n");
+            sb.append("\t\t\t\tid: \"").append(hexId(random)).append("\"\n");
+            sb.append("\t\t\t\titem: \"minecraft:").append(WORDS[random.nextInt(10)]).append("_ingot\"\n");
+            sb.append("\t\t\t\ttype: \"item\"\n");
+            sb.append("\t\t\t}]\n");
+            if (random.nextInt(20) == 0) {
+                sb.append("\t\t\ttitle: \"{ftbquests.chapter.benchmark.quest").append(i).append(".title}\"\n");
+            } else {
+                sb.append("\t\t\ttitle: \"").append(escape(sentence(random, 1, 4))).append("\"\n");
+            }
+            sb.append("\t\t\tx: ").append(random.nextInt(40) - 20).append(".5d\n");
+            sb.append("\t\t\ty: ").append(random.nextInt(40) - 20).append(".0d\n");
+            sb.append("\t\t}\n");
+            previousId = questId;
+        }
+        
+        sb.append("\t]\n");
+        sb.append("\ttitle: \"Benchmark Chapter\"\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+    
+    /**
+     * FTB Questsの言語ファイル（lang/en_us.snbt、カンマ省略形式）を生成します。
+     * @param quests クエスト数
+     * @return SNBT文字列
+     */
+    public static String questLang(int quests) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder(quests * 300);
+        sb.append("{\n");
+        sb.append("\tchapter.").append(hexId(random)).append(".title: \"Benchmark Chapter\"\n");
+        for (int i = 0; i < quests; i++) {
+            String prefix = "\tquest." + hexId(random);
+            sb.append(prefix).append(".title: \"").append(escape(sentence(random, 1, 4))).append("\"\n");
+            if (random.nextInt(3) == 0) {
+                sb.append(prefix).append(".quest_subtitle: \"")
+                    .append(escape(sentence(random, 3, 8))).append("\"\n");
+            }
+            sb.append(prefix).append(".quest_desc: [\n");
+            int lines = 1 + random.nextInt(5);
+            for (int j = 0; j < lines; j++) {
+                String line = j % 2 == 1 ? "" : escape(description(random));
+                sb.append("\t\t\"").append(line).append("\"\n");
+            }
+            sb.append("\t]\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+    
+    /**
+     * 偽のModPack（modsフォルダ相当）を生成します。
+     * 大半のJARは1つの名前空間にen_us.jsonを持ち、一部は既存のja_jp.json、複数の名前空間、
+     * 翻訳対象外の言語ファイルを持ちます。言語ファイルを持たないライブラリJARも含みます。
+     * @param modsDir 出力先フォルダ（存在しない場合は作成）
+     * @param jarCount JARファイル数
+     * @throws IOException 書き込みエラー
+     */
+    public static void createModPack(File modsDir, int jarCount) throws IOException {
+        if (!modsDir.isDirectory() && !modsDir.mkdirs()) {
+            throw new IOException("フォルダを作成できません: " + modsDir);
+        }
+        Random random = new Random(SEED);
+        for (int i = 0; i < jarCount; i++) {
+            String modId = String.format("benchmod%03d", i);
+            File jarFile = new File(modsDir, modId + "-1.0." + random.nextInt(10) + ".jar");
+            writeModJar(jarFile, modId, random);
+        }
+    }
+    
+    /**
+     * フォルダを中身ごと削除します。
+     * @param file 削除対象（nullまたは存在しない場合は何もしない）
+     */
+    public static void deleteRecursively(File file) {
+        if (file == null || !file.exists()) {
+            return;
+        }
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+    
+    /**
+     * 1つのMod JARを生成します。
+     * @param jarFile 出力先
+     * @param modId ModID
+     * @param random 乱数生成器
+     * @throws IOException 書き込みエラー
+     */
+    private static void writeModJar(File jarFile, String modId, Random random) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        
+        int kind = random.nextInt(20);
+        boolean library = kind < 2;
+        boolean hasJaJp = kind >= 2 && kind < 7;
+        boolean multiNamespace = kind >= 7 && kind < 9;
+        
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(jarFile), manifest)) {
+            putEntry(jar, "META-INF/mods.toml",
+                ("modLoader=\"javafml\"\n[[mods]]\nmodId=\"" + modId + "\"\n").getBytes(StandardCharsets.UTF_8));
+            
+            int classCount = 50 + random.nextInt(250);
+            for (int i = 0; i < classCount; i++) {
+                putEntry(jar, "com/example/" + modId + "/Class" + i + ".class",
+                    binary(random, 256 + random.nextInt(1024)));
+            }
+            if (library) {
+                return;
+            }
+            
+            int textureCount = 10 + random.nextInt(40);
+            for (int i = 0; i < textureCount; i++) {
+                putEntry(jar, "assets/" + modId + "/textures/item/item" + i + ".png",
+                    binary(random, 128 + random.nextInt(512)));
+            }
+            
+            int entries = 50 + random.nextInt(750);
+            putEntry(jar, "assets/" + modId + "/lang/en_us.json", utf8(langJson(random, modId, entries)));
+            putEntry(jar, "assets/" + modId + "/lang/de_de.json", utf8(langJson(random, modId, entries / 2)));
+            if (hasJaJp) {
+                putEntry(jar, "assets/" + modId + "/lang/ja_jp.json", utf8(langJson(random, modId, entries / 2)));
+            }
+            if (multiNamespace) {
+                String secondary = modId + "_compat";
+                putEntry(jar, "assets/" + secondary + "/lang/en_us.json",
+                    utf8(langJson(random, secondary, 20 + random.nextInt(100))));
+            }
+        }
+    }
+    
+    /**
+     * クラスファイルや画像の代わりとなるバイト列を生成します。
+     * 実際のファイルと同程度に圧縮が効くよう、値の範囲を狭めています。
+     * @param random 乱数生成器
+     * @param length 長さ
+     * @return バイト列
+     */
+    private static byte[] binary(Random random, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) random.nextInt(16);
+        }
+        return bytes;
+    }
+    
+    /**
+     * JARにエントリーを1件書き込みます。
+     * @param jar 出力先
+     * @param name エントリー名
+     * @param bytes 内容
+     * @throws IOException 書き込みエラー
+     */
+    private static void putEntry(JarOutputStream jar, String name, byte[] bytes) throws IOException {
+        jar.putNextEntry(new JarEntry(name));
+        jar.write(bytes);
+        jar.closeEntry();
+    }
+    
+    /**
+     * 言語ファイルのJSONを生成します。
+     * @param random 乱数生成器
+     * @param namespace 名前空間
+     * @param entries エントリー数
+     * @return JSON文字列
+     */
+    private static String langJson(Random random, String namespace, int entries) {
+        String[] categories = {"item", "block", "tooltip", "gui", "advancements"};
+        StringBuilder sb = new StringBuilder(entries * 60);
+        sb.append("{\n");
+        for (int i = 0; i < entries; i++) {
+            String category = categories[random.nextInt(categories.length)];
+            sb.append("  \"").append(category).append('.').append(namespace).append('.')
+                .append(WORDS[random.nextInt(20)]).append('_').append(i).append("\": \"");
+            
+            int kind = random.nextInt(20);
+            if (kind < 13) {
+                sb.append(capitalize(sentence(random, 1, 3)));
+            } else if (kind < 19) {
+                sb.append(escape(description(random)));
+            } else {
+                sb.append(JAPANESE_WORDS[random.nextInt(JAPANESE_WORDS.length)])
+                    .append(JAPANESE_WORDS[random.nextInt(JAPANESE_WORDS.length)]);
+            }
+            sb.append(i < entries - 1 ? "\",\n" : "\"\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+    
+    /**
+     * 書式コード・引用符・改行・プレースホルダーを含み得る説明文を生成します（エスケープ前）。
+     * @param random 乱数生成器
+     * @return 説明文
+     */
+    private static String description(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int sentences = 1 + random.nextInt(3);
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                sb.append(random.nextInt(4) == 0 ? "\n" : " ");
+            }
+            if (random.nextInt(4) == 0) {
+                sb.append(FORMAT_CODES[random.nextInt(FORMAT_CODES.length)]);
+            }
+            String sentence = capitalize(sentence(random, 4, 14));
+            if (random.nextInt(5) == 0) {
+                sentence += " \"" + WORDS[random.nextInt(20)] + "\"";
+            }
+            if (random.nextInt(6) == 0) {
+                sentence += " (%s)";
+            }
+            sb.append(sentence).append('.');
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * 単語を並べた文を生成します。
+     * @param random 乱数生成器
+     * @param minWords 最小単語数
+     * @param maxWords 最大単語数
+     * @return 文
+     */
+    private static String sentence(Random random, int minWords, int maxWords) {
+        int words = minWords + random.nextInt(maxWords - minWords + 1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * FTB Questsの16桁の16進IDを生成します。
+     * @param random 乱数生成器
+     * @return ID
+     */
+    private static String hexId(Random random) {
+        return String.format("%016X", random.nextLong());
+    }
+    
+    /**
+     * 先頭の文字を大文字にします。
+     * @param text テキスト
+     * @return 変換後のテキスト
+     */
+    private static String capitalize(String text) {
+        return text.isEmpty() ? text : Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+    
+    /**
+     * JSON・SNBTの文字列用にエスケープします（どちらも同じ規則）。
+     * @param text テキスト
+     * @return エスケープ後のテキスト
+     */
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+    
+    /**
+     * UTF-8のバイト列に変換します。
+     * @param text テキスト
+     * @return バイト列
+     */
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * JMHベンチマークの共通フィクスチャ。
+ * 解析・SNBT処理のホットパスを計測するベンチマークは、対象クラスと同じパッケージに配置する。
+ * 
+ * <h2>実行方法</h2>
+ * <pre>
+ * mvn -P benchmark package
+ * java -jar target/benchmarks.jar -rf json -rff bench-&lt;コミット&gt;.json
+ * </pre>
+ * フィクスチャは固定シードで生成され、フォーク数・反復回数も各ベンチマークで固定しているため、
+ * 同じマシンで取得した結果JSONをコミット間で比較できる。
+ * 
+ * <h2>主要クラス</h2>
+ * <ul>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.benchmark.BenchmarkFixtures} - 言語ファイル・クエストファイル・偽ModPackの生成</li>
+ * </ul>
+ */
+package io.github.pazakasin.minecraft.modpack.translator.benchmark;
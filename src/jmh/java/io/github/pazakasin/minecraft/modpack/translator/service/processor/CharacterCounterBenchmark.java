@@ -0,0 +1,58 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.processor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.pazakasin.minecraft.modpack.translator.benchmark.BenchmarkFixtures;
+
+/**
+ * {@link CharacterCounter#countCharacters}のベンチマーク。
+ * 大きなModの言語ファイルを想定したJSONの文字数カウントを計測する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CharacterCounterBenchmark {
+    /** 言語ファイルのエントリー数。 */
+    @Param({"1000", "50000"})
+    public int entries;
+    
+    /** 計測対象のJSON。 */
+    private String content;
+    
+    /** 計測対象。 */
+    private CharacterCounter counter;
+    
+    /**
+     * フィクスチャを生成します。
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        content = BenchmarkFixtures.langJson(entries);
+        counter = new CharacterCounter();
+    }
+    
+    /**
+     * 翻訳対象文字数をカウントします。
+     * @return 文字数
+     */
+    @Benchmark
+    public int countCharacters() {
+        return counter.countCharacters(content);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.pazakasin.minecraft.modpack.translator.benchmark.BenchmarkFixtures;
+
+/**
+ * {@link JarFileAnalyzer#analyze}のベンチマーク。
+ * 偽のModPackに含まれる全JARを1スレッドで順に解析する時間を計測する。
+ * 生成したJARはOSのページキャッシュに載った状態で計測されるため、ディスク性能の影響は小さい。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class JarFileAnalyzerBenchmark {
+    /** ModPackのJAR数。 */
+    @Param({"400"})
+    public int jarCount;
+    
+    /** 偽ModPackの出力先。 */
+    private File packDir;
+    
+    /** 解析対象のJAR（ファイル名順）。 */
+    private File[] jarFiles;
+    
+    /** 計測対象。 */
+    private JarFileAnalyzer analyzer;
+    
+    /**
+     * 偽のModPackを一時フォルダに生成します。
+     * @throws IOException 書き込みエラー
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        packDir = Files.createTempDirectory("jar-analyzer-bench").toFile();
+        BenchmarkFixtures.createModPack(packDir, jarCount);
+        jarFiles = packDir.listFiles();
+        Arrays.sort(jarFiles);
+        analyzer = new JarFileAnalyzer();
+    }
+    
+    /**
+     * 生成した偽のModPackを削除します。
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.deleteRecursively(packDir);
+    }
+    
+    /**
+     * 全JARを解析します。
+     * @param blackhole 解析結果の消費先
+     * @throws IOException 読み込みエラー
+     */
+    @Benchmark
+    public void analyzePack(Blackhole blackhole) throws IOException {
+        for (File jarFile : jarFiles) {
+            blackhole.consume(analyzer.analyze(jarFile));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.quest;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.pazakasin.minecraft.modpack.translator.benchmark.BenchmarkFixtures;
+
+/**
+ * {@link SNBTParser#preprocessFTBQuestsFormat}のベンチマーク。
+ * カンマ省略形式のSNBTを標準形式に変換する前処理を、チャプターファイルと言語ファイルで計測する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SNBTParserBenchmark {
+    /** フィクスチャの種類（chapter: チャプターファイル、lang: 言語ファイル）。 */
+    @Param({"chapter", "lang"})
+    public String fixture;
+    
+    /** クエスト数。 */
+    @Param({"2000"})
+    public int quests;
+    
+    /** 計測対象のSNBT。 */
+    private String content;
+    
+    /** 計測対象。 */
+    private SNBTParser parser;
+    
+    /**
+     * フィクスチャを生成します。
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        content = "lang".equals(fixture)
+            ? BenchmarkFixtures.questLang(quests) : BenchmarkFixtures.questChapter(quests);
+        parser = new SNBTParser();
+    }
+    
+    /**
+     * カンマ省略形式を標準形式に変換します。
+     * @return 変換後のSNBT
+     */
+    @Benchmark
+    public String preprocessFTBQuestsFormat() {
+        return parser.preprocessFTBQuestsFormat(content);
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.quest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.pazakasin.minecraft.modpack.translator.benchmark.BenchmarkFixtures;
+
+/**
+ * {@link SNBTTextExtractor#extractTranslatableTexts}のベンチマーク。
+ * 大規模なチャプターファイルからの翻訳対象テキスト抽出（ファイル読み込みを含む）を計測する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SNBTTextExtractorBenchmark {
+    /** クエスト数。 */
+    @Param({"2000"})
+    public int quests;
+    
+    /** チャプターファイル。 */
+    private File chapterFile;
+    
+    /** 計測対象。 */
+    private SNBTTextExtractor extractor;
+    
+    /**
+     * チャプターファイルを一時ファイルに生成します。
+     * @throws IOException 書き込みエラー
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        chapterFile = Files.createTempFile("chapter-bench", ".snbt").toFile();
+        Files.writeString(chapterFile.toPath(), BenchmarkFixtures.questChapter(quests), StandardCharsets.UTF_8);
+        extractor = new SNBTTextExtractor();
+    }
+    
+    /**
+     * 生成したチャプターファイルを削除します。
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        chapterFile.delete();
+    }
+    
+    /**
+     * 翻訳対象テキストを抽出します。
+     * @return キーと値のマップ
+     * @throws IOException 読み込みエラー
+     */
+    @Benchmark
+    public Map<String, String> extractTranslatableTexts() throws IOException {
+        return extractor.extractTranslatableTexts(chapterFile);
+    }
+}
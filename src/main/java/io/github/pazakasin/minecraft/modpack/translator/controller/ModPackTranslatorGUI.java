@@ -61,6 +61,9 @@ public class ModPackTranslatorGUI extends JFrame {
 	/** 翻訳ボタン。 */
 	private JButton translateButton;
 	
+	/** 中断した翻訳の再開ボタン。 */
+	private JButton resumeButton;
+	
 
 	
 	/** 翻訳サービス。 */
@@ -116,6 +119,9 @@ public class ModPackTranslatorGUI extends JFrame {
 		} catch (IllegalArgumentException e) {
 			// デフォルト設定を使用
 		}
+		
+		translationService.setTranslationMemoryEnabled(
+				Boolean.parseBoolean(settings.getProperty("translation_memory.enabled", "true")));
 	}
 	
 	/**
@@ -154,6 +160,7 @@ public class ModPackTranslatorGUI extends JFrame {
 		add(mainPanel);
 		
 		translateButton.setEnabled(false);
+		resumeButton.setEnabled(false);
 	}
 	
 	/**
@@ -172,6 +179,11 @@ public class ModPackTranslatorGUI extends JFrame {
 		translateButton.setEnabled(false);
 		translateButton.addActionListener(e -> translationHandler.startTranslation());
 		
+		resumeButton = new JButton("翻訳再開");
+		resumeButton.setToolTipText("中断した翻訳の未完了ファイルのみを翻訳");
+		resumeButton.setEnabled(false);
+		resumeButton.addActionListener(e -> translationHandler.resumeTranslation());
+		
 		settingsButton = new JButton("⚙ 設定");
 		settingsButton.addActionListener(e -> openSettings());
 		
@@ -181,6 +193,7 @@ public class ModPackTranslatorGUI extends JFrame {
 		
 		buttonPanel.add(analyzeButton);
 		buttonPanel.add(translateButton);
+		buttonPanel.add(resumeButton);
 		buttonPanel.add(settingsButton);
 		buttonPanel.add(helpButton);
 		
@@ -203,6 +216,7 @@ public class ModPackTranslatorGUI extends JFrame {
 					@Override
 					public void setTranslateButtonEnabled(boolean enabled) {
 						translateButton.setEnabled(enabled);
+						resumeButton.setEnabled(enabled);
 					}
 				},
 				new AnalysisResultCallback() {
@@ -234,6 +248,7 @@ public class ModPackTranslatorGUI extends JFrame {
 					@Override
 					public void setTranslateButtonEnabled(boolean enabled) {
 						translateButton.setEnabled(enabled);
+						resumeButton.setEnabled(enabled);
 					}
 				},
 				new TranslationResultCallback() {
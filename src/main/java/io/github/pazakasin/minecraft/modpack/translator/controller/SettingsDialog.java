@@ -28,6 +28,10 @@ public class SettingsDialog extends JDialog {
     private JTextField packFormatField;
     /** デバッグモードチェックボックス */
     private JCheckBox debugModeCheckBox;
+    /** 差分解析チェックボックス */
+    private JCheckBox incrementalAnalysisCheckBox;
+    /** Claudeストリーミング応答チェックボックス */
+    private JCheckBox claudeStreamingCheckBox;
     /** 設定情報を保持するPropertiesオブジェクト */
     private Properties settings;
     /** 設定ファイルのパス */
@@ -49,7 +53,7 @@ public class SettingsDialog extends JDialog {
      */
     public SettingsDialog(Frame parent) {
         super(parent, "設定画面", true);
-        setSize(700, 680);
+        setSize(700, 710);
         setLocationRelativeTo(parent);
         
         settings = loadSettings();
@@ -127,6 +131,18 @@ public class SettingsDialog extends JDialog {
         debugModeCheckBox = new JCheckBox("デバッグモード（API呼び出しをスキップし、進捗表示のみテスト）");
         debugModeCheckBox.setFont(new Font("Dialog", Font.PLAIN, 11));
         packFormatPanel.add(debugModeCheckBox, gbc2);
+        
+        // 差分解析設定
+        gbc2.gridy = 2;
+        incrementalAnalysisCheckBox = new JCheckBox("差分解析（前回から変更のないMod JARの再解析を省略し、work/outputを保持）");
+        incrementalAnalysisCheckBox.setFont(new Font("Dialog", Font.PLAIN, 11));
+        packFormatPanel.add(incrementalAnalysisCheckBox, gbc2);
+        
+        // Claudeストリーミング設定
+        gbc2.gridy = 3;
+        claudeStreamingCheckBox = new JCheckBox("Claudeストリーミング応答（翻訳済みのキーから順に進捗表示・翻訳メモリへ保存）");
+        claudeStreamingCheckBox.setFont(new Font("Dialog", Font.PLAIN, 11));
+        packFormatPanel.add(claudeStreamingCheckBox, gbc2);
         gbc2.gridwidth = 1;
         
         // 翻訳プロンプトパネル
@@ -238,6 +254,12 @@ public class SettingsDialog extends JDialog {
         boolean debugMode = Boolean.parseBoolean(settings.getProperty("debug_mode", "false"));
         debugModeCheckBox.setSelected(debugMode);
         
+        incrementalAnalysisCheckBox.setSelected(
+                Boolean.parseBoolean(settings.getProperty("analysis.incremental", "false")));
+        
+        claudeStreamingCheckBox.setSelected(
+                Boolean.parseBoolean(settings.getProperty("claude.streaming", "false")));
+        
         String storedPrompt = settings.getProperty("translation.prompt", "");
         translationPromptField.setText(storedPrompt.isEmpty() ? DEFAULT_TRANSLATION_PROMPT : storedPrompt);
     }
@@ -264,6 +286,12 @@ public class SettingsDialog extends JDialog {
         // デバッグモード設定を保存
         settings.setProperty("debug_mode", String.valueOf(debugModeCheckBox.isSelected()));
         
+        // 差分解析設定を保存
+        settings.setProperty("analysis.incremental", String.valueOf(incrementalAnalysisCheckBox.isSelected()));
+        
+        // Claudeストリーミング設定を保存
+        settings.setProperty("claude.streaming", String.valueOf(claudeStreamingCheckBox.isSelected()));
+        
         try (FileOutputStream fos = new FileOutputStream(SETTINGS_FILE)) {
             settings.store(fos, "Translation Service Settings");
             saved = true;
@@ -340,4 +368,33 @@ public class SettingsDialog extends JDialog {
         Properties props = getStoredSettings();
         return Boolean.parseBoolean(props.getProperty("debug_mode", "false"));
     }
+    
+    /**
+     * 差分解析が有効かどうかを取得します。
+     * @return 差分解析有効時true
+     */
+    public static boolean isIncrementalAnalysis() {
+        Properties props = getStoredSettings();
+        return Boolean.parseBoolean(props.getProperty("analysis.incremental", "false"));
+    }
+    
+    /**
+     * Claudeのストリーミング応答が有効かどうかを取得します。
+     * @return ストリーミング有効時true
+     */
+    public static boolean isClaudeStreaming() {
+        Properties props = getStoredSettings();
+        return Boolean.parseBoolean(props.getProperty("claude.streaming", "false"));
+    }
+    
+    /**
+     * 翻訳APIのベースURLの上書き設定を取得します。
+     * 設定キーは「プロバイダー名（小文字）.base_url」です（例: claude.base_url）。
+     * @param providerName プロバイダー名（ProviderTypeの列挙名）
+     * @return ベースURL（未設定時は空文字列）
+     */
+    public static String getApiBaseUrl(String providerName) {
+        Properties props = getStoredSettings();
+        return props.getProperty(providerName.toLowerCase() + ".base_url", "").trim();
+    }
 }
@@ -35,6 +35,7 @@ import io.github.pazakasin.minecraft.modpack.translator.service.TranslationServi
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.FileStateUpdateCallback;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.LogCallback;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.ProgressUpdateCallback;
+import io.github.pazakasin.minecraft.modpack.translator.service.modpack.RunJournal;
 
 /**
  * 翻訳アクションを処理するハンドラークラス。
@@ -128,6 +129,47 @@ public class TranslationActionHandler {
 			return;
 		}
 		
+		if (!checkApiKey()) {
+			return;
+		}
+		
+		executeTranslation(selectedFiles, false);
+	}
+	
+	/**
+	 * 実行ジャーナルから中断した翻訳を再開します。
+	 * 解析済みファイルのうち、前回の翻訳で完了していないファイルのみを処理します。
+	 */
+	public void resumeTranslation() {
+		List<TranslatableFile> analyzedFiles = fileTablePanel.getAllFiles();
+		
+		if (analyzedFiles == null || analyzedFiles.isEmpty()) {
+			JOptionPane.showMessageDialog(parentFrame,
+					"ファイル解析が実行されていません。\n先に「ファイル解析」を実行してください。",
+					"警告", JOptionPane.WARNING_MESSAGE);
+			return;
+		}
+		
+		if (!new RunJournal(inputPanel.getInputPath()).hasPending()) {
+			JOptionPane.showMessageDialog(parentFrame,
+					"再開できる中断した翻訳がありません。",
+					"情報", JOptionPane.INFORMATION_MESSAGE);
+			return;
+		}
+		
+		if (!checkApiKey()) {
+			return;
+		}
+		
+		executeTranslation(analyzedFiles, true);
+	}
+	
+	/**
+	 * 選択中の翻訳プロバイダーのAPIキーが設定されているかを確認します。
+	 * 未設定の場合は設定画面を開くかを確認します。
+	 * @return APIキーが設定されている場合true
+	 */
+	private boolean checkApiKey() {
 		Properties settings = SettingsDialog.getStoredSettings();
 		String apiKey = settings.getProperty(
 				translationService.getProvider().name().toLowerCase() + ".apikey", "");
@@ -140,15 +182,23 @@ public class TranslationActionHandler {
 			if (result == JOptionPane.YES_OPTION) {
 				settingsDialogCallback.openSettings();
 			}
-			return;
+			return false;
 		}
-		
+		return true;
+	}
+	
+	/**
+	 * バックグラウンドで翻訳処理を実行します。
+	 * @param files 翻訳対象ファイルのリスト（再開時は解析済みの全ファイル）
+	 * @param resumeMode 中断した翻訳を再開する場合true
+	 */
+	private void executeTranslation(List<TranslatableFile> files, boolean resumeMode) {
 		buttonStateCallback.setButtonsEnabled(false);
 		translateButtonCallback.setTranslateButtonEnabled(false);
 		
 		SelectiveTranslationWorker worker = new SelectiveTranslationWorker(
 				inputPanel.getInputPath(),
-				selectedFiles,
+				files,
 				translationService,
 				new LogCallback() {
 					@Override
@@ -191,6 +241,7 @@ public class TranslationActionHandler {
 					}
 				});
 		
+		worker.setResumeMode(resumeMode);
 		worker.execute();
 	}
 	
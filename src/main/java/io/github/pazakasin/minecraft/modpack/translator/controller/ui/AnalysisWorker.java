@@ -1,5 +1,6 @@
 package io.github.pazakasin.minecraft.modpack.translator.controller.ui;
 
+import io.github.pazakasin.minecraft.modpack.translator.controller.SettingsDialog;
 import io.github.pazakasin.minecraft.modpack.translator.controller.callback.AnalysisCompletionCallback;
 import io.github.pazakasin.minecraft.modpack.translator.controller.callback.AnalysisErrorCallback;
 import io.github.pazakasin.minecraft.modpack.translator.model.TranslatableFile;
@@ -56,6 +57,7 @@ public class AnalysisWorker extends SwingWorker<List<TranslatableFile>, Void> {
     protected List<TranslatableFile> doInBackground() throws Exception {
         FileAnalysisService analysisService = new FileAnalysisService(
             logCallback, progressCallback);
+        analysisService.setIncremental(SettingsDialog.isIncrementalAnalysis());
         
         return analysisService.analyzeFiles(inputPath);
     }
@@ -42,6 +42,9 @@ public class SelectiveTranslationWorker extends SwingWorker<List<ModProcessingRe
     /** ファイル状態更新時に呼ばれるコールバック。 */
     private final FileStateUpdateCallback fileStateCallback;
     
+    /** 実行ジャーナルから中断した翻訳を再開するか。 */
+    private boolean resumeMode = false;
+    
     /**
      * SelectiveTranslationWorkerのコンストラクタ。
      * @param inputPath ModPackディレクトリパス
@@ -71,6 +74,15 @@ public class SelectiveTranslationWorker extends SwingWorker<List<ModProcessingRe
         this.fileStateCallback = fileStateCallback;
     }
     
+    /**
+     * 中断した翻訳の再開モードを設定します。
+     * 再開モードでは、selectedFilesのうち実行ジャーナルで未完了のファイルのみを処理します。
+     * @param resumeMode trueで再開モード
+     */
+    public void setResumeMode(boolean resumeMode) {
+        this.resumeMode = resumeMode;
+    }
+    
     /**
      * バックグラウンドで翻訳処理を実行します。
      */
@@ -90,6 +102,9 @@ public class SelectiveTranslationWorker extends SwingWorker<List<ModProcessingRe
         // ファイル状態更新コールバックを設定
         processor.setFileStateCallback(fileStateCallback);
         
+        if (resumeMode) {
+            return processor.resumeSelectedFiles(selectedFiles);
+        }
         return processor.processSelectedFiles(selectedFiles);
     }
     
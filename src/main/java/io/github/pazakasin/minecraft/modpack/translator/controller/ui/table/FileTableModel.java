@@ -119,7 +119,7 @@ public class FileTableModel {
 					file.getModName(),
 					file.getLangFolderPath(),
 					file.getCharacterCount(),
-					file.getFileContent() != null ? "○" : "×",
+					file.hasFileContent() ? "○" : "×",
 					jaValue,
 					file.getResultMessage()
 				};
@@ -0,0 +1,221 @@
+package io.github.pazakasin.minecraft.modpack.translator.mock;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.sun.net.httpserver.HttpExchange;
+
+import io.github.pazakasin.minecraft.modpack.translator.service.provider.TokenEstimator;
+
+/**
+ * 模擬翻訳サーバーのClaude/OpenAI形式のリクエスト処理。
+ * プロンプトに埋め込まれたJSONの各値を翻訳し、JSON文字列を応答テキストとして返す。
+ */
+class MockChatHandler {
+	/** ストリーミング応答の1チャンクあたりの文字数。 */
+	private static final int STREAM_CHUNK_CHARS = 32;
+	
+	/** 呼び出し元のサーバー。 */
+	private final MockTranslationServer server;
+	
+	/** サーバー設定。 */
+	private final MockServerConfig config;
+	
+	/** 出力トークン上限。 */
+	private final MockTokenQuota quota;
+	
+	/** JSON処理用のGsonインスタンス。 */
+	private final Gson gson;
+	
+	/**
+	 * MockChatHandlerのコンストラクタ。
+	 * @param server 呼び出し元のサーバー
+	 * @param config サーバー設定
+	 * @param quota 出力トークン上限
+	 */
+	MockChatHandler(MockTranslationServer server, MockServerConfig config, MockTokenQuota quota) {
+		this.server = server;
+		this.config = config;
+		this.quota = quota;
+		this.gson = new Gson();
+	}
+	
+	/**
+	 * Claude/OpenAI形式のリクエストを処理します。
+	 * @param exchange HTTP交換
+	 * @param protocol MockProtocol.CLAUDEまたはMockProtocol.OPENAI
+	 * @param body リクエストボディ
+	 * @throws IOException 通信エラー
+	 * @throws InterruptedException ストリーミング中の割り込み
+	 */
+	void handle(HttpExchange exchange, int protocol, String body) throws IOException, InterruptedException {
+		JsonObject request = JsonParser.parseString(body).getAsJsonObject();
+		JsonArray messages = request.getAsJsonArray("messages");
+		String prompt = messages.get(messages.size() - 1).getAsJsonObject().get("content").getAsString();
+		
+		JsonObject entries = extractJsonObject(prompt);
+		if (entries == null) {
+			MockResponses.sendError(exchange, protocol, 400, "プロンプトに翻訳対象のJSONがありません", 0);
+			return;
+		}
+		JsonObject translated = new JsonObject();
+		for (Map.Entry<String, JsonElement> entry : entries.entrySet()) {
+			translated.addProperty(entry.getKey(), MockTranslationServer.translate(entry.getValue().getAsString()));
+		}
+		String text = gson.toJson(translated);
+		
+		int inputTokens = TokenEstimator.estimate(prompt);
+		int outputTokens = TokenEstimator.estimate(text);
+		if (!quota.acquire(exchange, protocol, outputTokens)) {
+			return;
+		}
+		server.addTranslatedEntries(translated.size());
+		
+		if (protocol == MockProtocol.CLAUDE) {
+			quota.addClaudeHeaders(exchange);
+			if (request.has("stream") && request.get("stream").getAsBoolean()) {
+				streamClaude(exchange, text, inputTokens, outputTokens);
+				return;
+			}
+			JsonObject block = new JsonObject();
+			block.addProperty("type", "text");
+			block.addProperty("text", text);
+			JsonArray content = new JsonArray();
+			content.add(block);
+			
+			JsonObject response = new JsonObject();
+			response.addProperty("id", "msg_mock_" + server.getRequestCount());
+			response.addProperty("type", "message");
+			response.addProperty("role", "assistant");
+			response.add("content", content);
+			response.addProperty("stop_reason", "end_turn");
+			response.add("usage", MockResponses.createUsage("input_tokens", inputTokens, "output_tokens", outputTokens));
+			MockResponses.sendJson(exchange, 200, response);
+		} else {
+			quota.addOpenAiHeaders(exchange);
+			JsonObject message = new JsonObject();
+			message.addProperty("role", "assistant");
+			message.addProperty("content", text);
+			JsonObject choice = new JsonObject();
+			choice.addProperty("index", 0);
+			choice.add("message", message);
+			choice.addProperty("finish_reason", "stop");
+			JsonArray choices = new JsonArray();
+			choices.add(choice);
+			
+			JsonObject response = new JsonObject();
+			response.addProperty("id", "chatcmpl-mock-" + server.getRequestCount());
+			response.addProperty("object", "chat.completion");
+			response.add("choices", choices);
+			JsonObject usage = MockResponses.createUsage("prompt_tokens", inputTokens, "completion_tokens", outputTokens);
+			usage.addProperty("total_tokens", inputTokens + outputTokens);
+			response.add("usage", usage);
+			MockResponses.sendJson(exchange, 200, response);
+		}
+	}
+	
+	/**
+	 * Claudeのストリーミング応答（SSE）を送信します。
+	 * 翻訳結果のJSON文字列を一定の文字数ごとにcontent_block_deltaイベントとして送ります。
+	 * @param exchange HTTP交換
+	 * @param text 応答テキスト
+	 * @param inputTokens 入力トークン数
+	 * @param outputTokens 出力トークン数
+	 * @throws IOException 通信エラー
+	 * @throws InterruptedException チャンク間隔の待機中の割り込み
+	 */
+	private void streamClaude(HttpExchange exchange, String text, int inputTokens, int outputTokens)
+			throws IOException, InterruptedException {
+		exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+		exchange.sendResponseHeaders(200, 0);
+		
+		try (OutputStream out = exchange.getResponseBody()) {
+			JsonObject messageBody = new JsonObject();
+			messageBody.addProperty("id", "msg_mock_" + server.getRequestCount());
+			messageBody.addProperty("type", "message");
+			messageBody.addProperty("role", "assistant");
+			messageBody.add("usage", MockResponses.createUsage("input_tokens", inputTokens, "output_tokens", 1));
+			JsonObject start = MockResponses.createEvent("message_start");
+			start.add("message", messageBody);
+			MockResponses.writeEvent(out, start);
+			
+			JsonObject block = new JsonObject();
+			block.addProperty("type", "text");
+			block.addProperty("text", "");
+			JsonObject blockStart = MockResponses.createEvent("content_block_start");
+			blockStart.addProperty("index", 0);
+			blockStart.add("content_block", block);
+			MockResponses.writeEvent(out, blockStart);
+			
+			for (int i = 0; i < text.length(); i += STREAM_CHUNK_CHARS) {
+				JsonObject delta = new JsonObject();
+				delta.addProperty("type", "text_delta");
+				delta.addProperty("text", text.substring(i, Math.min(text.length(), i + STREAM_CHUNK_CHARS)));
+				JsonObject event = MockResponses.createEvent("content_block_delta");
+				event.addProperty("index", 0);
+				event.add("delta", delta);
+				MockResponses.writeEvent(out, event);
+				if (config.streamChunkDelayMs > 0) {
+					Thread.sleep(config.streamChunkDelayMs);
+				}
+			}
+			
+			JsonObject blockStop = MockResponses.createEvent("content_block_stop");
+			blockStop.addProperty("index", 0);
+			MockResponses.writeEvent(out, blockStop);
+			
+			JsonObject stopDelta = new JsonObject();
+			stopDelta.addProperty("stop_reason", "end_turn");
+			JsonObject messageDelta = MockResponses.createEvent("message_delta");
+			messageDelta.add("delta", stopDelta);
+			JsonObject usage = new JsonObject();
+			usage.addProperty("output_tokens", outputTokens);
+			messageDelta.add("usage", usage);
+			MockResponses.writeEvent(out, messageDelta);
+			
+			MockResponses.writeEvent(out, MockResponses.createEvent("message_stop"));
+		}
+	}
+	
+	/**
+	 * プロンプトから翻訳対象のJSONオブジェクトを取り出します。
+	 * 最後の「}」までを範囲として、先頭側の「{」から順に解析を試みます。
+	 * @param prompt プロンプト
+	 * @return 値がすべて文字列のJSONオブジェクト（見つからない場合はnull）
+	 */
+	private JsonObject extractJsonObject(String prompt) {
+		int end = prompt.lastIndexOf('}');
+		for (int start = prompt.indexOf('{'); start >= 0 && start < end; start = prompt.indexOf('{', start + 1)) {
+			try {
+				JsonElement element = JsonParser.parseString(prompt.substring(start, end + 1));
+				if (element.isJsonObject() && isStringObject(element.getAsJsonObject())) {
+					return element.getAsJsonObject();
+				}
+			} catch (JsonSyntaxException e) {
+				// 次の「{」から再試行
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * JSONオブジェクトの値がすべて文字列かを判定します。
+	 * @param object JSONオブジェクト
+	 * @return すべて文字列の場合true
+	 */
+	private boolean isStringObject(JsonObject object) {
+		for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+			if (!entry.getValue().isJsonPrimitive() || !entry.getValue().getAsJsonPrimitive().isString()) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
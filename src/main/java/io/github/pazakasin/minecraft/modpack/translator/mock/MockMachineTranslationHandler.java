@@ -0,0 +1,125 @@
+package io.github.pazakasin.minecraft.modpack.translator.mock;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+
+import io.github.pazakasin.minecraft.modpack.translator.service.provider.TokenEstimator;
+
+/**
+ * 模擬翻訳サーバーのGoogle Cloud Translation/DeepL形式のリクエスト処理。
+ * 原文のリストを受け取り、同じ順序で翻訳結果のリストを返す。
+ */
+class MockMachineTranslationHandler {
+	/** 呼び出し元のサーバー。 */
+	private final MockTranslationServer server;
+	
+	/** 出力トークン上限。 */
+	private final MockTokenQuota quota;
+	
+	/**
+	 * MockMachineTranslationHandlerのコンストラクタ。
+	 * @param server 呼び出し元のサーバー
+	 * @param quota 出力トークン上限
+	 */
+	MockMachineTranslationHandler(MockTranslationServer server, MockTokenQuota quota) {
+		this.server = server;
+		this.quota = quota;
+	}
+	
+	/**
+	 * Google Cloud Translation API形式のリクエストを処理します。
+	 * @param exchange HTTP交換
+	 * @param body リクエストボディ
+	 * @throws IOException 通信エラー
+	 */
+	void handleGoogle(HttpExchange exchange, String body) throws IOException {
+		JsonObject request = JsonParser.parseString(body).getAsJsonObject();
+		List<String> texts = new ArrayList<String>();
+		for (JsonElement element : request.getAsJsonArray("q")) {
+			texts.add(element.getAsString());
+		}
+		List<String> results = translateAll(texts);
+		if (!quota.acquire(exchange, MockProtocol.GOOGLE, countTokens(results))) {
+			return;
+		}
+		server.addTranslatedEntries(results.size());
+		
+		JsonArray translations = new JsonArray();
+		for (String result : results) {
+			JsonObject translation = new JsonObject();
+			translation.addProperty("translatedText", result);
+			translations.add(translation);
+		}
+		JsonObject data = new JsonObject();
+		data.add("translations", translations);
+		JsonObject response = new JsonObject();
+		response.add("data", data);
+		MockResponses.sendJson(exchange, 200, response);
+	}
+	
+	/**
+	 * DeepL API形式（フォーム送信）のリクエストを処理します。
+	 * @param exchange HTTP交換
+	 * @param body リクエストボディ
+	 * @throws IOException 通信エラー
+	 */
+	void handleDeepL(HttpExchange exchange, String body) throws IOException {
+		List<String> texts = new ArrayList<String>();
+		for (String param : body.split("&")) {
+			if (param.startsWith("text=")) {
+				texts.add(URLDecoder.decode(param.substring(5), StandardCharsets.UTF_8));
+			}
+		}
+		List<String> results = translateAll(texts);
+		if (!quota.acquire(exchange, MockProtocol.DEEPL, countTokens(results))) {
+			return;
+		}
+		server.addTranslatedEntries(results.size());
+		
+		JsonArray translations = new JsonArray();
+		for (String result : results) {
+			JsonObject translation = new JsonObject();
+			translation.addProperty("detected_source_language", "EN");
+			translation.addProperty("text", result);
+			translations.add(translation);
+		}
+		JsonObject response = new JsonObject();
+		response.add("translations", translations);
+		MockResponses.sendJson(exchange, 200, response);
+	}
+	
+	/**
+	 * 原文のリストを模擬翻訳します。
+	 * @param texts 原文のリスト
+	 * @return 翻訳結果のリスト（同じ順序）
+	 */
+	private List<String> translateAll(List<String> texts) {
+		List<String> results = new ArrayList<String>(texts.size());
+		for (String text : texts) {
+			results.add(MockTranslationServer.translate(text));
+		}
+		return results;
+	}
+	
+	/**
+	 * 翻訳結果の合計トークン数を見積もります。
+	 * @param results 翻訳結果のリスト
+	 * @return トークン数
+	 */
+	private int countTokens(List<String> results) {
+		int tokens = 0;
+		for (String result : results) {
+			tokens += TokenEstimator.estimate(result);
+		}
+		return tokens;
+	}
+}
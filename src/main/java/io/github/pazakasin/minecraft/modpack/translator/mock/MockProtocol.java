@@ -0,0 +1,25 @@
+package io.github.pazakasin.minecraft.modpack.translator.mock;
+
+/**
+ * 模擬翻訳サーバーが再現するAPIのプロトコル定数。
+ * エラー応答の形式やレート制限ヘッダーの種類をプロトコルごとに切り替えるために使用。
+ */
+class MockProtocol {
+	/** プロトコル: Claude Messages API。 */
+	static final int CLAUDE = 0;
+	
+	/** プロトコル: OpenAI Chat Completions API。 */
+	static final int OPENAI = 1;
+	
+	/** プロトコル: Google Cloud Translation API v2。 */
+	static final int GOOGLE = 2;
+	
+	/** プロトコル: DeepL API v2。 */
+	static final int DEEPL = 3;
+	
+	/**
+	 * インスタンス化を禁止するコンストラクタ。
+	 */
+	private MockProtocol() {
+	}
+}
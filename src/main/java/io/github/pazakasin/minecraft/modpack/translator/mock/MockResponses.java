@@ -0,0 +1,119 @@
+package io.github.pazakasin.minecraft.modpack.translator.mock;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * 模擬翻訳サーバーの応答を送信するユーティリティクラス。
+ * JSON応答、プロトコルごとの形式のエラー応答、SSEイベントを扱う。
+ */
+class MockResponses {
+	/** JSON処理用のGsonインスタンス。 */
+	private static final Gson GSON = new Gson();
+	
+	/**
+	 * インスタンス化を禁止するコンストラクタ。
+	 */
+	private MockResponses() {
+	}
+	
+	/**
+	 * プロトコルごとの形式でエラー応答を送信します。
+	 * @param exchange HTTP交換
+	 * @param protocol プロトコル（{@link MockProtocol}の定数）
+	 * @param status HTTPステータス
+	 * @param message エラーメッセージ
+	 * @param retryAfterSeconds Retry-After（秒、0以下は付けない）
+	 * @throws IOException 通信エラー
+	 */
+	static void sendError(HttpExchange exchange, int protocol, int status, String message,
+			int retryAfterSeconds) throws IOException {
+		if (retryAfterSeconds > 0) {
+			exchange.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+		}
+		
+		JsonObject response = new JsonObject();
+		JsonObject error = new JsonObject();
+		switch (protocol) {
+			case MockProtocol.CLAUDE:
+				response.addProperty("type", "error");
+				error.addProperty("type", status == 429 ? "rate_limit_error" : "api_error");
+				error.addProperty("message", message);
+				response.add("error", error);
+				break;
+			case MockProtocol.OPENAI:
+				error.addProperty("message", message);
+				error.addProperty("type", status == 429 ? "rate_limit_exceeded" : "server_error");
+				response.add("error", error);
+				break;
+			case MockProtocol.GOOGLE:
+				error.addProperty("code", status);
+				error.addProperty("message", message);
+				response.add("error", error);
+				break;
+			default:
+				response.addProperty("message", message);
+				break;
+		}
+		sendJson(exchange, status, response);
+	}
+	
+	/**
+	 * JSON応答を送信します。
+	 * @param exchange HTTP交換
+	 * @param status HTTPステータス
+	 * @param response 応答ボディ
+	 * @throws IOException 通信エラー
+	 */
+	static void sendJson(HttpExchange exchange, int status, JsonObject response) throws IOException {
+		byte[] bytes = GSON.toJson(response).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+	
+	/**
+	 * 入力・出力トークン数のusageオブジェクトを生成します。
+	 * @param inputName 入力トークン数の項目名
+	 * @param inputTokens 入力トークン数
+	 * @param outputName 出力トークン数の項目名
+	 * @param outputTokens 出力トークン数
+	 * @return usageオブジェクト
+	 */
+	static JsonObject createUsage(String inputName, int inputTokens, String outputName, int outputTokens) {
+		JsonObject usage = new JsonObject();
+		usage.addProperty(inputName, inputTokens);
+		usage.addProperty(outputName, outputTokens);
+		return usage;
+	}
+	
+	/**
+	 * 種別を設定したSSEイベントを生成します。
+	 * @param type イベント種別
+	 * @return イベント
+	 */
+	static JsonObject createEvent(String type) {
+		JsonObject event = new JsonObject();
+		event.addProperty("type", type);
+		return event;
+	}
+	
+	/**
+	 * SSEイベントを1件送信し、即座にフラッシュします。
+	 * @param out 出力ストリーム
+	 * @param event イベント
+	 * @throws IOException 通信エラー
+	 */
+	static void writeEvent(OutputStream out, JsonObject event) throws IOException {
+		String data = "event: " + event.get("type").getAsString() + "\ndata: " + GSON.toJson(event) + "\n\n";
+		out.write(data.getBytes(StandardCharsets.UTF_8));
+		out.flush();
+	}
+}
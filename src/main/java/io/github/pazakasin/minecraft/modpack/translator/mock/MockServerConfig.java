@@ -0,0 +1,157 @@
+package io.github.pazakasin.minecraft.modpack.translator.mock;
+
+import java.util.Random;
+
+/**
+ * 模擬翻訳サーバーの設定。
+ * 応答遅延の分布、429/5xxエラーの注入率、1分間あたりのトークン上限を指定する。
+ */
+public class MockServerConfig {
+	/** 遅延分布: 常に一定の遅延。 */
+	public static final int LATENCY_CONSTANT = 0;
+	
+	/** 遅延分布: 基準値±ばらつき幅の一様分布。 */
+	public static final int LATENCY_UNIFORM = 1;
+	
+	/** 遅延分布: 基準値を中央値とする対数正規分布。 */
+	public static final int LATENCY_LOGNORMAL = 2;
+	
+	/** 待ち受けポート（0で空きポートを自動選択）。 */
+	public int port = 8089;
+	
+	/** 遅延分布（LATENCY_CONSTANT、LATENCY_UNIFORM、LATENCY_LOGNORMAL）。 */
+	public int latencyDistribution = LATENCY_CONSTANT;
+	
+	/** 遅延の基準値（ミリ秒、対数正規分布では中央値）。 */
+	public long latencyMs = 200;
+	
+	/** 一様分布のばらつき幅（ミリ秒）。 */
+	public long latencyJitterMs = 100;
+	
+	/** 対数正規分布の形状パラメーター（σ）。 */
+	public double latencySigma = 0.5;
+	
+	/** 429エラーを返す確率（0.0～1.0）。 */
+	public double rateLimitErrorRate = 0.0;
+	
+	/** 5xxエラーを返す確率（0.0～1.0）。 */
+	public double serverErrorRate = 0.0;
+	
+	/** 1分間あたりの出力トークン上限（0以下は無制限）。 */
+	public int tokensPerMinute = 0;
+	
+	/** 注入した429エラーで返すRetry-After（秒）。 */
+	public int retryAfterSeconds = 5;
+	
+	/** ストリーミング応答のチャンク間隔（ミリ秒）。 */
+	public long streamChunkDelayMs = 20;
+	
+	/**
+	 * 遅延分布に従って1回分の遅延を求めます。
+	 * @param random 乱数生成器
+	 * @return 遅延（ミリ秒、0以上）
+	 */
+	public long sampleLatency(Random random) {
+		switch (latencyDistribution) {
+			case LATENCY_UNIFORM:
+				return Math.max(0, latencyMs + (long) ((random.nextDouble() * 2 - 1) * latencyJitterMs));
+			case LATENCY_LOGNORMAL:
+				return Math.max(0, (long) (latencyMs * Math.exp(latencySigma * random.nextGaussian())));
+			default:
+				return Math.max(0, latencyMs);
+		}
+	}
+	
+	/**
+	 * コマンドライン引数（--名前=値 形式）から設定を生成します。
+	 * 指定できる名前: port, latency（constant/uniform/lognormal）, latency-ms, jitter-ms, sigma,
+	 * error-429, error-5xx, tpm, retry-after, chunk-delay-ms
+	 * @param args コマンドライン引数
+	 * @return 設定
+	 * @throws IllegalArgumentException 不明な引数または不正な値
+	 */
+	public static MockServerConfig fromArgs(String[] args) {
+		MockServerConfig config = new MockServerConfig();
+		for (String arg : args) {
+			int eq = arg.indexOf('=');
+			if (!arg.startsWith("--") || eq < 0) {
+				throw new IllegalArgumentException("引数は --名前=値 の形式で指定してください: " + arg);
+			}
+			String name = arg.substring(2, eq);
+			String value = arg.substring(eq + 1).trim();
+			
+			try {
+				switch (name) {
+					case "port":
+						config.port = Integer.parseInt(value);
+						break;
+					case "latency":
+						config.latencyDistribution = parseDistribution(value);
+						break;
+					case "latency-ms":
+						config.latencyMs = Long.parseLong(value);
+						break;
+					case "jitter-ms":
+						config.latencyJitterMs = Long.parseLong(value);
+						break;
+					case "sigma":
+						config.latencySigma = Double.parseDouble(value);
+						break;
+					case "error-429":
+						config.rateLimitErrorRate = Double.parseDouble(value);
+						break;
+					case "error-5xx":
+						config.serverErrorRate = Double.parseDouble(value);
+						break;
+					case "tpm":
+						config.tokensPerMinute = Integer.parseInt(value);
+						break;
+					case "retry-after":
+						config.retryAfterSeconds = Integer.parseInt(value);
+						break;
+					case "chunk-delay-ms":
+						config.streamChunkDelayMs = Long.parseLong(value);
+						break;
+					default:
+						throw new IllegalArgumentException("不明な引数です: " + arg);
+				}
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("数値が不正です: " + arg, e);
+			}
+		}
+		return config;
+	}
+	
+	/**
+	 * 遅延分布の名前を定数に変換します。
+	 * @param name 分布名（constant、uniform、lognormal）
+	 * @return 遅延分布の定数
+	 * @throws IllegalArgumentException 不明な分布名
+	 */
+	private static int parseDistribution(String name) {
+		switch (name.toLowerCase()) {
+			case "constant":
+				return LATENCY_CONSTANT;
+			case "uniform":
+				return LATENCY_UNIFORM;
+			case "lognormal":
+				return LATENCY_LOGNORMAL;
+			default:
+				throw new IllegalArgumentException("不明な遅延分布です: " + name);
+		}
+	}
+	
+	/**
+	 * 設定内容を表示用の文字列にします。
+	 * @return 設定内容
+	 */
+	@Override
+	public String toString() {
+		String[] names = {"constant", "uniform", "lognormal"};
+		String distribution = latencyDistribution >= 0 && latencyDistribution < names.length
+				? names[latencyDistribution] : String.valueOf(latencyDistribution);
+		return String.format("遅延=%s(%dms) 429率=%.1f%% 5xx率=%.1f%% TPM=%s",
+				distribution, latencyMs, rateLimitErrorRate * 100, serverErrorRate * 100,
+				tokensPerMinute > 0 ? String.valueOf(tokensPerMinute) : "無制限");
+	}
+}
@@ -0,0 +1,34 @@
+package io.github.pazakasin.minecraft.modpack.translator.mock;
+
+/**
+ * 模擬翻訳サーバーを単体で起動するエントリーポイント。
+ * 起動後、translator_settings.propertiesの「claude.base_url」などに表示されたURLを設定して使用する。
+ */
+public class MockServerLauncher {
+	/**
+	 * インスタンス化を禁止するコンストラクタ。
+	 */
+	private MockServerLauncher() {
+	}
+	
+	/**
+	 * 模擬翻訳サーバーを起動し、終了時に集計を表示します。
+	 * @param args サーバー設定（{@link MockServerConfig#fromArgs}の形式）
+	 * @throws Exception 起動エラー
+	 */
+	public static void main(String[] args) throws Exception {
+		MockServerConfig config = MockServerConfig.fromArgs(args);
+		final MockTranslationServer mockServer = new MockTranslationServer(config);
+		mockServer.start();
+		System.out.println("[模擬翻訳サーバー] " + mockServer.getBaseUrl() + " で起動しました (" + config + ")");
+		Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+			@Override
+			public void run() {
+				mockServer.stop();
+				System.out.println(String.format("[模擬翻訳サーバー] 停止: リクエスト %d 件, 翻訳 %d 件, 429 %d 件, 5xx %d 件",
+						mockServer.getRequestCount(), mockServer.getTranslatedEntryCount(),
+						mockServer.getRateLimitedCount(), mockServer.getServerErrorCount()));
+			}
+		}));
+	}
+}
@@ -0,0 +1,99 @@
+package io.github.pazakasin.minecraft.modpack.translator.mock;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import io.github.pazakasin.minecraft.modpack.translator.service.provider.SlidingWindowRateLimiter;
+
+/**
+ * 模擬翻訳サーバーの1分間あたりの出力トークン上限。
+ * 上限を超えたリクエストに429エラーを返し、プロバイダーごとのレート制限ヘッダーを設定する。
+ */
+class MockTokenQuota {
+	/** 1分間あたりの出力トークン上限（0以下は無制限）。 */
+	private final int tokensPerMinute;
+	
+	/** 出力トークン数のレート制限。 */
+	private final SlidingWindowRateLimiter rateLimiter;
+	
+	/** 429エラーを返した回数（注入とトークン上限超過の合計）。 */
+	private final AtomicLong rateLimitedCount = new AtomicLong();
+	
+	/**
+	 * MockTokenQuotaのコンストラクタ。
+	 * @param tokensPerMinute 1分間あたりの出力トークン上限（0以下は無制限）
+	 */
+	MockTokenQuota(int tokensPerMinute) {
+		this.tokensPerMinute = tokensPerMinute;
+		this.rateLimiter = new SlidingWindowRateLimiter(tokensPerMinute);
+	}
+	
+	/**
+	 * 出力トークン数をレート制限に計上します。上限を超える場合は429エラーを返します。
+	 * @param exchange HTTP交換
+	 * @param protocol プロトコル（{@link MockProtocol}の定数）
+	 * @param tokens 出力トークン数
+	 * @return 計上できた場合true（429エラーを返した場合false）
+	 * @throws IOException 通信エラー
+	 */
+	boolean acquire(HttpExchange exchange, int protocol, int tokens) throws IOException {
+		if (tokensPerMinute <= 0 || rateLimiter.tryAcquire(tokens) != null) {
+			return true;
+		}
+		rateLimitedCount.incrementAndGet();
+		int retryAfter = (int) Math.max(1, Math.ceil(rateLimiter.getWaitMillis(tokens) / 1000.0));
+		if (protocol == MockProtocol.CLAUDE) {
+			addClaudeHeaders(exchange);
+		}
+		MockResponses.sendError(exchange, protocol, 429, "1分間あたりのトークン上限を超えました", retryAfter);
+		return false;
+	}
+	
+	/**
+	 * 注入した429エラーを回数に計上します。
+	 */
+	void recordInjectedRateLimit() {
+		rateLimitedCount.incrementAndGet();
+	}
+	
+	/**
+	 * 429エラーを返した回数を取得します。
+	 * @return 429エラーの回数
+	 */
+	long getRateLimitedCount() {
+		return rateLimitedCount.get();
+	}
+	
+	/**
+	 * Claude形式のレート制限ヘッダーを設定します。トークン上限が無制限の場合は設定しません。
+	 * @param exchange HTTP交換
+	 */
+	void addClaudeHeaders(HttpExchange exchange) {
+		if (tokensPerMinute <= 0) {
+			return;
+		}
+		int remaining = Math.max(0, tokensPerMinute - rateLimiter.getWindowTokens());
+		String reset = OffsetDateTime.now(ZoneOffset.UTC).plusMinutes(1).withNano(0).toString();
+		exchange.getResponseHeaders().set("anthropic-ratelimit-output-tokens-limit",
+				String.valueOf(tokensPerMinute));
+		exchange.getResponseHeaders().set("anthropic-ratelimit-output-tokens-remaining", String.valueOf(remaining));
+		exchange.getResponseHeaders().set("anthropic-ratelimit-output-tokens-reset", reset);
+	}
+	
+	/**
+	 * OpenAI形式のレート制限ヘッダーを設定します。トークン上限が無制限の場合は設定しません。
+	 * @param exchange HTTP交換
+	 */
+	void addOpenAiHeaders(HttpExchange exchange) {
+		if (tokensPerMinute <= 0) {
+			return;
+		}
+		int remaining = Math.max(0, tokensPerMinute - rateLimiter.getWindowTokens());
+		exchange.getResponseHeaders().set("x-ratelimit-limit-tokens", String.valueOf(tokensPerMinute));
+		exchange.getResponseHeaders().set("x-ratelimit-remaining-tokens", String.valueOf(remaining));
+	}
+}
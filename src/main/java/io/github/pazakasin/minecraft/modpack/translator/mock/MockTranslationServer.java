@@ -0,0 +1,225 @@
+package io.github.pazakasin.minecraft.modpack.translator.mock;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.JsonSyntaxException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 負荷試験・結合試験用の模擬翻訳サーバー。
+ * Claude、OpenAI、Google Cloud Translation、DeepLの各APIと同じ形式で応答し、
+ * 原文に「[模擬翻訳] 」を付けた文字列を翻訳結果として返す。
+ * 設定に従って応答遅延、429/5xxエラー、1分間あたりのトークン上限を再現する。
+ * 各プロバイダーの接続先は「プロバイダー名.base_url」設定で{@link #getBaseUrl()}に切り替える。
+ */
+public class MockTranslationServer {
+	/** 翻訳結果に付ける接頭辞。 */
+	public static final String TRANSLATION_PREFIX = "[模擬翻訳] ";
+	
+	/** サーバー設定。 */
+	private final MockServerConfig config;
+	
+	/** 出力トークン上限。 */
+	private final MockTokenQuota quota;
+	
+	/** Claude/OpenAI形式のリクエスト処理。 */
+	private final MockChatHandler chatHandler;
+	
+	/** Google/DeepL形式のリクエスト処理。 */
+	private final MockMachineTranslationHandler machineHandler;
+	
+	/** 遅延・エラー注入用の乱数生成器。 */
+	private final Random random;
+	
+	/** 受信したリクエスト数。 */
+	private final AtomicLong requestCount = new AtomicLong();
+	
+	/** 5xxエラーを返した回数。 */
+	private final AtomicLong serverErrorCount = new AtomicLong();
+	
+	/** 翻訳して返したエントリー数。 */
+	private final AtomicLong translatedEntryCount = new AtomicLong();
+	
+	/** HTTPサーバー（未起動時はnull）。 */
+	private HttpServer server;
+	
+	/** リクエスト処理用のスレッドプール。 */
+	private ExecutorService executor;
+	
+	/**
+	 * MockTranslationServerのコンストラクタ。
+	 * @param config サーバー設定
+	 */
+	public MockTranslationServer(MockServerConfig config) {
+		this.config = config;
+		this.quota = new MockTokenQuota(config.tokensPerMinute);
+		this.chatHandler = new MockChatHandler(this, config, quota);
+		this.machineHandler = new MockMachineTranslationHandler(this, quota);
+		this.random = new Random();
+	}
+	
+	/**
+	 * サーバーを起動します。ループバックアドレスでのみ待ち受けます。
+	 * @throws IOException ポートを使用できない場合
+	 */
+	public synchronized void start() throws IOException {
+		if (server != null) {
+			return;
+		}
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", config.port), 0);
+		server.createContext("/v1/messages", createHandler(MockProtocol.CLAUDE));
+		server.createContext("/v1/chat/completions", createHandler(MockProtocol.OPENAI));
+		server.createContext("/language/translate/v2", createHandler(MockProtocol.GOOGLE));
+		server.createContext("/v2/translate", createHandler(MockProtocol.DEEPL));
+		executor = Executors.newCachedThreadPool();
+		server.setExecutor(executor);
+		server.start();
+	}
+	
+	/**
+	 * サーバーを停止します。
+	 */
+	public synchronized void stop() {
+		if (server == null) {
+			return;
+		}
+		server.stop(0);
+		executor.shutdownNow();
+		server = null;
+		executor = null;
+	}
+	
+	/**
+	 * プロバイダーに設定するベースURLを取得します。
+	 * @return ベースURL（例: http://127.0.0.1:8089）
+	 * @throws IllegalStateException サーバーが起動していない場合
+	 */
+	public synchronized String getBaseUrl() {
+		if (server == null) {
+			throw new IllegalStateException("サーバーが起動していません");
+		}
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+	
+	/**
+	 * 受信したリクエスト数を取得します。
+	 * @return リクエスト数
+	 */
+	public long getRequestCount() {
+		return requestCount.get();
+	}
+	
+	/**
+	 * 429エラーを返した回数を取得します。
+	 * @return 429エラーの回数
+	 */
+	public long getRateLimitedCount() {
+		return quota.getRateLimitedCount();
+	}
+	
+	/**
+	 * 5xxエラーを返した回数を取得します。
+	 * @return 5xxエラーの回数
+	 */
+	public long getServerErrorCount() {
+		return serverErrorCount.get();
+	}
+	
+	/**
+	 * 翻訳して返したエントリー数を取得します。
+	 * @return エントリー数
+	 */
+	public long getTranslatedEntryCount() {
+		return translatedEntryCount.get();
+	}
+	
+	/**
+	 * 翻訳して返したエントリー数を加算します。
+	 * @param count 加算するエントリー数
+	 */
+	void addTranslatedEntries(int count) {
+		translatedEntryCount.addAndGet(count);
+	}
+	
+	/**
+	 * 1つの原文を模擬翻訳します。
+	 * @param text 原文
+	 * @return 翻訳結果
+	 */
+	static String translate(String text) {
+		return TRANSLATION_PREFIX + text;
+	}
+	
+	/**
+	 * 指定したプロトコルでリクエストを処理するハンドラーを生成します。
+	 * @param protocol プロトコル（{@link MockProtocol}の定数）
+	 * @return HTTPハンドラー
+	 */
+	private HttpHandler createHandler(final int protocol) {
+		return new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				MockTranslationServer.this.handle(exchange, protocol);
+			}
+		};
+	}
+	
+	/**
+	 * 1リクエストを処理します。遅延とエラー注入の後、プロトコルごとの形式で応答します。
+	 * @param exchange HTTP交換
+	 * @param protocol プロトコル
+	 * @throws IOException 通信エラー
+	 */
+	private void handle(HttpExchange exchange, int protocol) throws IOException {
+		try {
+			requestCount.incrementAndGet();
+			if (!"POST".equals(exchange.getRequestMethod())) {
+				MockResponses.sendError(exchange, protocol, 405, "POSTのみ対応しています", 0);
+				return;
+			}
+			String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+			
+			Thread.sleep(config.sampleLatency(random));
+			
+			double roll = random.nextDouble();
+			if (roll < config.rateLimitErrorRate) {
+				quota.recordInjectedRateLimit();
+				MockResponses.sendError(exchange, protocol, 429, "模擬レート制限エラー", config.retryAfterSeconds);
+				return;
+			}
+			if (roll < config.rateLimitErrorRate + config.serverErrorRate) {
+				serverErrorCount.incrementAndGet();
+				MockResponses.sendError(exchange, protocol, random.nextBoolean() ? 500 : 503, "模擬サーバーエラー", 0);
+				return;
+			}
+			
+			switch (protocol) {
+				case MockProtocol.CLAUDE:
+				case MockProtocol.OPENAI:
+					chatHandler.handle(exchange, protocol, body);
+					break;
+				case MockProtocol.GOOGLE:
+					machineHandler.handleGoogle(exchange, body);
+					break;
+				default:
+					machineHandler.handleDeepL(exchange, body);
+					break;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			MockResponses.sendError(exchange, protocol, 503, "サーバー停止中", 0);
+		} catch (JsonSyntaxException | IllegalStateException | NullPointerException e) {
+			MockResponses.sendError(exchange, protocol, 400, "リクエストが不正です: " + e.getMessage(), 0);
+		} finally {
+			exchange.close();
+		}
+	}
+}
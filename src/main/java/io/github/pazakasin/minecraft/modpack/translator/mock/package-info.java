@@ -0,0 +1,17 @@
+/**
+ * 負荷試験・結合試験用の模擬翻訳サーバー。
+ * 実際の翻訳APIと同じ形式で応答し、遅延・エラー・トークン上限を再現する。
+ * 
+ * <h2>主要クラス</h2>
+ * <ul>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.mock.MockTranslationServer} - 模擬翻訳サーバー本体</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.mock.MockServerConfig} - 遅延分布・エラー注入・TPM上限の設定</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.mock.MockServerLauncher} - 模擬翻訳サーバーを単体で起動するエントリーポイント</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.mock.MockChatHandler} - Claude/OpenAI形式のリクエスト処理</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.mock.MockMachineTranslationHandler} - Google/DeepL形式のリクエスト処理</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.mock.MockTokenQuota} - 1分間あたりの出力トークン上限とレート制限ヘッダー</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.mock.MockResponses} - JSON・エラー・SSE応答の送信</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.mock.MockProtocol} - 再現するAPIのプロトコル定数</li>
+ * </ul>
+ */
+package io.github.pazakasin.minecraft.modpack.translator.mock;
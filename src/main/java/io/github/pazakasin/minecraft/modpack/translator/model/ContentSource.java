@@ -0,0 +1,38 @@
+package io.github.pazakasin.minecraft.modpack.translator.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * ファイル内容の読み込み元。
+ * 翻訳対象ファイルの内容をメモリから解放した後、必要になった時点で再読み込みするために使用。
+ */
+public interface ContentSource {
+    /**
+     * 内容を読み込みます。
+     * @return ファイル内容
+     * @throws IOException 読み込み失敗
+     */
+    String load() throws IOException;
+    
+    /**
+     * ファイルをUTF-8文字列として読み込む読み込み元を生成します。
+     * @param file 読み込むファイル
+     * @return 読み込み元
+     */
+    static ContentSource ofFile(final File file) {
+        return new ContentSource() {
+            @Override
+            public String load() throws IOException {
+                return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            }
+            
+            @Override
+            public String toString() {
+                return file.getPath();
+            }
+        };
+    }
+}
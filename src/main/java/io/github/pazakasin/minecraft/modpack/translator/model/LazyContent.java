@@ -0,0 +1,85 @@
+package io.github.pazakasin.minecraft.modpack.translator.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+
+/**
+ * 必要になった時点で読み込まれるファイル内容。
+ * 読み込み元がある場合は内容をソフト参照で保持し、メモリ不足で解放された後は読み込み元から再読み込みする。
+ * 読み込み元がない場合は内容を通常の参照で保持する。
+ */
+class LazyContent {
+    /** 読み込み元がない場合に保持する内容。 */
+    private volatile String value;
+    
+    /** 読み込み元から読み込んだ内容のキャッシュ。 */
+    private volatile SoftReference<String> cache;
+    
+    /** 内容の読み込み元（null時は再読み込み不可）。 */
+    private volatile ContentSource source;
+    
+    /**
+     * 内容を取得します。解放済みの場合は読み込み元から再読み込みします。
+     * @return 内容（未設定の場合はnull）
+     * @throws UncheckedIOException 再読み込みの失敗
+     */
+    String get() {
+        String current = value;
+        if (current != null) {
+            return current;
+        }
+        
+        SoftReference<String> ref = cache;
+        current = ref != null ? ref.get() : null;
+        if (current != null) {
+            return current;
+        }
+        
+        ContentSource currentSource = source;
+        if (currentSource == null) {
+            return null;
+        }
+        
+        try {
+            current = currentSource.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("ファイル内容の再読み込みに失敗しました: " + currentSource, e);
+        }
+        cache = new SoftReference<String>(current);
+        return current;
+    }
+    
+    /**
+     * 内容を設定します。読み込み元は解除され、内容は通常の参照で保持されます。
+     * @param content 内容（null可）
+     */
+    void set(String content) {
+        this.source = null;
+        this.cache = null;
+        this.value = content;
+    }
+    
+    /**
+     * 読み込み元を設定します。保持中の内容はソフト参照に切り替えます。
+     * @param contentSource 読み込み元（nullの場合は何もしない）
+     */
+    void setSource(ContentSource contentSource) {
+        if (contentSource == null) {
+            return;
+        }
+        
+        String current = value;
+        this.source = contentSource;
+        this.cache = current != null ? new SoftReference<String>(current) : null;
+        this.value = null;
+    }
+    
+    /**
+     * 内容を取得できるか判定します。内容の読み込みは行いません。
+     * @return 内容を保持しているか、読み込み元がある場合true
+     */
+    boolean isAvailable() {
+        return value != null || source != null;
+    }
+}
@@ -5,6 +5,7 @@ import java.io.File;
 /**
  * 翻訳対象ファイルの情報を保持するモデルクラス。
  * 解析フェーズで作成され、ファイル選択UIと翻訳実行フェーズで使用される。
+ * ファイル内容は読み込み元を設定するとソフト参照で保持し、解放後は必要な時点で再読み込みする。
  */
 public class TranslatableFile {
     /** ファイルの種別。 */
@@ -29,10 +30,10 @@ public class TranslatableFile {
     private boolean selected;
     
     /** 元のファイル内容（en_us.jsonまたはen_us.snbtの内容）。 */
-    private String fileContent;
+    private final LazyContent fileContent = new LazyContent();
     
     /** 既存の日本語ファイル内容（存在する場合）。 */
-    private String existingJaJpContent;
+    private final LazyContent existingJaJpContent = new LazyContent();
     
     /** ModIDまたはファイル識別子。 */
     private String fileId;
@@ -90,8 +91,8 @@ public class TranslatableFile {
         file.fileId = fileId;
         file.characterCount = characterCount;
         file.hasExistingJaJp = hasExistingJaJp;
-        file.fileContent = fileContent;
-        file.existingJaJpContent = existingJaJpContent;
+        file.fileContent.set(fileContent);
+        file.existingJaJpContent.set(existingJaJpContent);
         file.selected = !hasExistingJaJp;
         return file;
     }
@@ -117,8 +118,8 @@ public class TranslatableFile {
         file.fileId = fileId;
         file.characterCount = characterCount;
         file.hasExistingJaJp = hasExistingJaJp;
-        file.fileContent = fileContent;
-        file.existingJaJpContent = existingJaJpContent;
+        file.fileContent.set(fileContent);
+        file.existingJaJpContent.set(existingJaJpContent);
         file.selected = !hasExistingJaJp;
         return file;
     }
@@ -142,7 +143,7 @@ public class TranslatableFile {
         file.fileId = fileId;
         file.characterCount = characterCount;
         file.hasExistingJaJp = false;
-        file.fileContent = fileContent;
+        file.fileContent.set(fileContent);
         file.selected = true;
         return file;
     }
@@ -168,8 +169,8 @@ public class TranslatableFile {
         file.fileId = fileId;
         file.characterCount = characterCount;
         file.hasExistingJaJp = hasExistingJaJp;
-        file.fileContent = fileContent;
-        file.existingJaJpContent = existingJaJpContent;
+        file.fileContent.set(fileContent);
+        file.existingJaJpContent.set(existingJaJpContent);
         file.selected = !hasExistingJaJp;
         return file;
     }
@@ -261,19 +262,53 @@ public class TranslatableFile {
     }
     
     public String getFileContent() {
-        return fileContent;
+        return fileContent.get();
     }
     
     public void setFileContent(String fileContent) {
-        this.fileContent = fileContent;
+        this.fileContent.set(fileContent);
     }
     
     public String getExistingJaJpContent() {
-        return existingJaJpContent;
+        return existingJaJpContent.get();
     }
     
     public void setExistingJaJpContent(String existingJaJpContent) {
-        this.existingJaJpContent = existingJaJpContent;
+        this.existingJaJpContent.set(existingJaJpContent);
+    }
+    
+    /**
+     * 元のファイル内容の読み込み元を設定します。
+     * 以降、内容はソフト参照で保持され、解放後は読み込み元から再読み込みされます。
+     * @param source 読み込み元（nullの場合は何もしない）
+     */
+    public void setFileContentSource(ContentSource source) {
+        this.fileContent.setSource(source);
+    }
+    
+    /**
+     * 既存の日本語ファイル内容の読み込み元を設定します。
+     * @param source 読み込み元（nullの場合は何もしない）
+     * @see #setFileContentSource(ContentSource)
+     */
+    public void setExistingJaJpContentSource(ContentSource source) {
+        this.existingJaJpContent.setSource(source);
+    }
+    
+    /**
+     * 元のファイル内容を取得できるか判定します。内容の読み込みは行いません。
+     * @return 内容を保持しているか、読み込み元がある場合true
+     */
+    public boolean hasFileContent() {
+        return fileContent.isAvailable();
+    }
+    
+    /**
+     * 既存の日本語ファイル内容を取得できるか判定します。内容の読み込みは行いません。
+     * @return 内容を保持しているか、読み込み元がある場合true
+     */
+    public boolean hasExistingJaJpContent() {
+        return existingJaJpContent.isAvailable();
     }
     
     public String getFileId() {
@@ -5,6 +5,7 @@
  * <h2>主要クラス</h2>
  * <ul>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.model.TranslatableFile} - 翻訳対象ファイル情報</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.model.ContentSource} - ファイル内容の読み込み元</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.model.ModProcessingResult} - Mod処理結果</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.model.QuestTranslationResult} - Quest翻訳結果</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.model.ProcessingState} - 処理状態列挙型</li>
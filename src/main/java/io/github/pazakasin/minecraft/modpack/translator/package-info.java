@@ -10,6 +10,7 @@
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service} - ビジネスロジックと翻訳処理</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.comparison} - 翻訳結果の比較機能</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.util} - 共通ユーティリティ</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.mock} - 試験用の模擬翻訳サーバー</li>
  * </ul>
  * 
  * @since 2.0
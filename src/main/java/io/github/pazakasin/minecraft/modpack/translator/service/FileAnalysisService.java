@@ -3,11 +3,14 @@ package io.github.pazakasin.minecraft.modpack.translator.service;
 import io.github.pazakasin.minecraft.modpack.translator.model.TranslatableFile;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.LogCallback;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.ProgressUpdateCallback;
+import io.github.pazakasin.minecraft.modpack.translator.service.analyzer.AnalysisIndex;
 import io.github.pazakasin.minecraft.modpack.translator.service.analyzer.ModFileAnalyzer;
 import io.github.pazakasin.minecraft.modpack.translator.service.analyzer.KubeJSFileAnalyzer;
 import io.github.pazakasin.minecraft.modpack.translator.service.analyzer.QuestFileAnalyzer;
 import io.github.pazakasin.minecraft.modpack.translator.service.analyzer.WorkFolderExporter;
 import io.github.pazakasin.minecraft.modpack.translator.service.backup.BackupManager;
+import io.github.pazakasin.minecraft.modpack.translator.service.modpack.RunJournal;
+import io.github.pazakasin.minecraft.modpack.translator.util.PathUtil;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -45,6 +48,9 @@ public class FileAnalysisService {
     /** workフォルダをバックアップするかどうか。 */
     private boolean backupWork = true;
     
+    /** 解析インデックスを使用して変更のないJARの解析を省略するかどうか。 */
+    private boolean incremental = false;
+    
     /**
      * FileAnalysisServiceのコンストラクタ。
      * @param logger ログコールバック
@@ -83,6 +89,17 @@ public class FileAnalysisService {
         this.backupWork = backupWork;
     }
     
+    /**
+     * 差分解析を有効化/無効化。
+     * 有効時はworkフォルダの解析インデックスを参照し、変更のないJARの解析とエクスポートを省略します。
+     * 同じModPackのインデックスが存在する場合、work/outputフォルダはクリアしません。
+     * 別のModPackのインデックスは存在しないものとして扱います。
+     * @param incremental trueで差分解析する
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+    
     /**
      * ModPack全体の翻訳対象ファイルを解析します。
      * @param inputPath ModPackディレクトリパス
@@ -92,9 +109,30 @@ public class FileAnalysisService {
     public List<TranslatableFile> analyzeFiles(String inputPath) throws Exception {
         List<TranslatableFile> files = new ArrayList<TranslatableFile>();
         
-        if (clearFolders) {
-            clearWorkFolder();
-            clearOutputFolder();
+        AnalysisIndex analysisIndex = null;
+        if (incremental && exportWork) {
+            analysisIndex = new AnalysisIndex(new File("work"), PathUtil.canonicalPath(inputPath));
+        }
+        boolean useIndex = analysisIndex != null && analysisIndex.exists();
+        if (analysisIndex != null && !useIndex && new File("work", AnalysisIndex.FILE_NAME).exists()) {
+            log("解析インデックスが別のModPackまたは旧形式のため、全ファイルを解析します");
+        }
+        
+        if (clearFolders && !useIndex) {
+            if (new RunJournal(inputPath).hasPending()) {
+                // 中断した翻訳の再開に必要なため、ジャーナルと出力済みファイルを残す
+                log("中断した翻訳があるため、work/output フォルダのクリアをスキップします");
+            } else {
+                clearWorkFolder();
+                clearOutputFolder();
+            }
+        }
+        
+        if (analysisIndex != null) {
+            if (useIndex) {
+                analysisIndex.load();
+            }
+            modAnalyzer.setAnalysisIndex(analysisIndex);
         }
         
         log("=== ファイル解析開始 ===");
@@ -109,7 +147,16 @@ public class FileAnalysisService {
         files.addAll(modFiles);
         
         if (exportWork) {
-            workExporter.export(files);
+            workExporter.export(filesToExport(files));
+        }
+        
+        if (analysisIndex != null) {
+            try {
+                analysisIndex.save();
+            } catch (Exception e) {
+                log("解析インデックスの保存に失敗しました: " + e.getMessage());
+                logStackTrace(e);
+            }
         }
         
         int totalCharCount = 0;
@@ -135,6 +182,22 @@ public class FileAnalysisService {
         return files;
     }
     
+    /**
+     * エクスポートが必要なファイルを抽出します。
+     * 解析インデックスから復元したファイルはworkフォルダに出力済みのため除外します。
+     * @param files 翻訳対象ファイルのリスト
+     * @return エクスポート対象のファイルリスト
+     */
+    private List<TranslatableFile> filesToExport(List<TranslatableFile> files) {
+        List<TranslatableFile> result = new ArrayList<TranslatableFile>();
+        for (TranslatableFile file : files) {
+            if (file.getWorkFilePath() == null) {
+                result.add(file);
+            }
+        }
+        return result;
+    }
+    
     /**
      * ログメッセージを出力します。
      * @param message ログメッセージ
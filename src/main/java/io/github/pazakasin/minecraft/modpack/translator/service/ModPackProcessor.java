@@ -14,8 +14,12 @@ import io.github.pazakasin.minecraft.modpack.translator.service.callback.Progres
 import io.github.pazakasin.minecraft.modpack.translator.service.modpack.KubeJSProcessor;
 import io.github.pazakasin.minecraft.modpack.translator.service.modpack.ModJarProcessor;
 import io.github.pazakasin.minecraft.modpack.translator.service.modpack.ModLanguageFileHandler;
+import io.github.pazakasin.minecraft.modpack.translator.service.modpack.PackBatchTranslator;
 import io.github.pazakasin.minecraft.modpack.translator.service.modpack.SelectiveTranslationHandler;
+import io.github.pazakasin.minecraft.modpack.translator.service.processor.JarFileAnalyzer;
+import io.github.pazakasin.minecraft.modpack.translator.service.processor.JarScanResult;
 import io.github.pazakasin.minecraft.modpack.translator.service.processor.LanguageFileWriter;
+import io.github.pazakasin.minecraft.modpack.translator.service.processor.ParallelJarScanner;
 import io.github.pazakasin.minecraft.modpack.translator.service.quest.QuestFileProcessor;
 import io.github.pazakasin.minecraft.modpack.translator.service.backup.BackupManager;
 
@@ -33,6 +37,9 @@ public class ModPackProcessor {
 	/** 進捗状況を更新するコールバック。 */
 	private final ProgressUpdateCallback progressUpdater;
 	
+	/** 翻訳サービス。 */
+	private final TranslationService translationService;
+	
 	/** 翻訳結果の出力先ディレクトリ。デフォルトは「output/MyJPpack」。 */
 	private final File outputDir;
 	
@@ -63,6 +70,7 @@ public class ModPackProcessor {
 		this.inputPath = inputPath;
 		this.logger = logger;
 		this.progressUpdater = progressUpdater;
+		this.translationService = translationService;
 		this.outputDir = new File("output/MyJPpack");
 		
 		LanguageFileWriter fileWriter = new LanguageFileWriter(outputDir);
@@ -74,8 +82,9 @@ public class ModPackProcessor {
 				translationService, logger, fileWriter);
 		KubeJSProcessor kubeJsProcessor = new KubeJSProcessor(translationService, logger);
 		
-		this.selectiveHandler = new SelectiveTranslationHandler(logger, modLangHandler,
+		this.selectiveHandler = new SelectiveTranslationHandler(logger, translationService, modLangHandler,
 				kubeJsProcessor, questProcessor, inputPath);
+		this.selectiveHandler.setPackBatchTranslator(new PackBatchTranslator(translationService, logger));
 		
 		this.backupManager = new BackupManager();
 		this.fileStateCallback = null;
@@ -114,28 +123,50 @@ public class ModPackProcessor {
 		logModList(jarFiles);
 		
 		log("=== 翻訳処理開始 ===");
+		translationService.startRun();
 		int processed = 0;
 		int skipped = 0;
 		int translated = 0;
 		int totalMods = jarFiles.length;
 		
-		for (int modIndex = 0; modIndex < jarFiles.length; modIndex++) {
-			File jarFile = jarFiles[modIndex];
+		List<JarScanResult> scanResults = new ParallelJarScanner().scan(jarFiles, progressUpdater);
+		
+		for (int modIndex = 0; modIndex < scanResults.size(); modIndex++) {
+			JarScanResult scanResult = scanResults.get(modIndex);
+			File jarFile = scanResult.jarFile;
 			int currentModNum = modIndex + 1;
 			
 			try {
-				ModProcessingResult result = modJarProcessor.process(jarFile, currentModNum, totalMods);
-				results.add(result);
-				processed++;
-				
-				logProcessingResult(result, currentModNum, totalMods, jarFile.getName());
+				if (!scanResult.isSuccess()) {
+					throw scanResult.error;
+				}
 				
-				if (result.hasJaJp && !result.translated) {
-					skipped++;
-				} else if (result.translated && result.translationSuccess) {
-					translated++;
-				} else if (!result.hasEnUs) {
+				List<JarFileAnalyzer.LanguageFileInfo> namespaces = scanResult.namespaces;
+				if (namespaces.isEmpty()) {
+					ModProcessingResult result = createNoLanguageResult(jarFile);
+					results.add(result);
+					processed++;
 					skipped++;
+					logProcessingResult(result, currentModNum, totalMods, jarFile.getName());
+					continue;
+				}
+				
+				int namespaceCount = countTranslatableNamespaces(namespaces);
+				for (JarFileAnalyzer.LanguageFileInfo langInfo : namespaces) {
+					ModProcessingResult result = modJarProcessor.process(jarFile, langInfo,
+							namespaceCount, currentModNum, totalMods);
+					results.add(result);
+					processed++;
+					
+					logProcessingResult(result, currentModNum, totalMods, result.modName);
+					
+					if (result.hasJaJp && !result.translated) {
+						skipped++;
+					} else if (result.translated && result.translationSuccess) {
+						translated++;
+					} else if (!result.hasEnUs) {
+						skipped++;
+					}
 				}
 			} catch (Exception e) {
 				log(String.format("[%d/%d][エラー] %s: %s",
@@ -197,6 +228,19 @@ public class ModPackProcessor {
 		return results;
 	}
 	
+	/**
+	 * 前回中断した翻訳を実行ジャーナルから再開し、未完了のファイルのみを処理します。
+	 * @param analyzedFiles 解析済みの全翻訳対象ファイルのリスト
+	 * @return 再開したファイルの処理結果リスト
+	 * @throws Exception ファイルアクセスエラー等
+	 */
+	public List<ModProcessingResult> resumeSelectedFiles(List<TranslatableFile> analyzedFiles) throws Exception {
+		List<ModProcessingResult> results = selectiveHandler.resume(analyzedFiles);
+		writePackMcmeta();
+		backupOutputFolder();
+		return results;
+	}
+	
 	/**
 	 * Mod一覧をログ出力します。
 	 * @param jarFiles JARファイルリスト
@@ -251,6 +295,7 @@ public class ModPackProcessor {
 		log("処理したMod数: " + processed);
 		log("翻訳したMod数: " + translated);
 		log("スキップしたMod数: " + skipped);
+		log(translationService.getDeduplicationSummary());
 		log("出力先: " + new File("output").getAbsolutePath());
 	}
 	
@@ -267,6 +312,34 @@ public class ModPackProcessor {
 		return errorResult;
 	}
 	
+	/**
+	 * 言語ファイルを含まないJARの処理結果を生成します。
+	 * @param jarFile JARファイル
+	 * @return スキップ結果
+	 */
+	private ModProcessingResult createNoLanguageResult(File jarFile) {
+		ModProcessingResult result = new ModProcessingResult();
+		result.modName = jarFile.getName().replace(".jar", "");
+		result.langFolderPath = "見つかりません";
+		result.translationSuccess = false;
+		return result;
+	}
+	
+	/**
+	 * en_us.jsonを持つ名前空間の数を数えます。
+	 * @param namespaces 名前空間ごとの言語ファイル情報
+	 * @return en_us.jsonを持つ名前空間数
+	 */
+	private int countTranslatableNamespaces(List<JarFileAnalyzer.LanguageFileInfo> namespaces) {
+		int count = 0;
+		for (JarFileAnalyzer.LanguageFileInfo info : namespaces) {
+			if (info.enUsContent != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+	
 	/**
 	 * pack.mcmetaファイルを出力します。
 	 */
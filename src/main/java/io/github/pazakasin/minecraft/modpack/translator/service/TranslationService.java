@@ -1,7 +1,26 @@
 package io.github.pazakasin.minecraft.modpack.translator.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.ProgressCallback;
+import io.github.pazakasin.minecraft.modpack.translator.service.callback.TranslationCheckpointCallback;
+import io.github.pazakasin.minecraft.modpack.translator.service.memory.TranslationMemory;
 import io.github.pazakasin.minecraft.modpack.translator.service.provider.*;
+import io.github.pazakasin.minecraft.modpack.translator.util.HashUtil;
 
 /**
  * 翻訳サービスの統合管理クラス。
@@ -14,11 +33,20 @@ public class TranslationService {
      * @param debugMode trueでデバッグモード有効
      */
     public void setDebugMode(boolean debugMode) {
+        this.debugMode = debugMode;
         if (currentProvider != null) {
             currentProvider.setDebugMode(debugMode);
         }
     }
     
+    /**
+     * デバッグモードが有効かを返します。
+     * @return デバッグモード有効時true
+     */
+    public boolean isDebugMode() {
+        return debugMode;
+    }
+    
     /** 現在設定されているAPIキー。プロバイダーの認証に使用。 */
     private String apiKey;
     
@@ -31,12 +59,49 @@ public class TranslationService {
     /** 現在アクティブな翻訳プロバイダーのインスタンス。 */
     private TranslationProvider currentProvider;
     
+    /** デバッグモードが有効か。有効時は翻訳メモリを使用しない。 */
+    private boolean debugMode = false;
+    
+    /** 翻訳メモリ。 */
+    private final TranslationMemory translationMemory;
+    
+    /** 翻訳メモリを使用するか。 */
+    private boolean translationMemoryEnabled = true;
+    
+    /** 翻訳メモリのキーに含める翻訳先言語コード。 */
+    private static final String TARGET_LANGUAGE = "ja_jp";
+    
+    /** JSON処理用のGsonインスタンス。 */
+    private final Gson gson;
+    
+    /** 実行中の翻訳で共有する翻訳単位（メモリキーと翻訳結果）。ファイル間で同一の原文を1回だけ翻訳するために使用。 */
+    private final Map<String, CompletableFuture<String>> sharedUnits = new ConcurrentHashMap<String, CompletableFuture<String>>();
+    
+    /** 実行中の翻訳で翻訳メモリにヒットしなかった文字列エントリー数。 */
+    private final AtomicInteger requestedEntries = new AtomicInteger(0);
+    
+    /** 実行中の翻訳でプロバイダーに送信した文字列エントリー数。 */
+    private final AtomicInteger dispatchedEntries = new AtomicInteger(0);
+    
+    /** 実行中の翻訳で翻訳結果が得られず原文のまま出力したエントリー数。 */
+    private final AtomicInteger untranslatedEntries = new AtomicInteger(0);
+    
     /**
      * TranslationServiceのデフォルトコンストラクタ。
      * 初期プロバイダーはGoogleに設定。
      */
     public TranslationService() {
         this.providerType = ProviderType.GOOGLE;
+        this.translationMemory = new TranslationMemory();
+        this.gson = new GsonBuilder().setPrettyPrinting().create();
+    }
+    
+    /**
+     * 翻訳メモリの使用有無を設定します。
+     * @param enabled trueで翻訳メモリを使用
+     */
+    public void setTranslationMemoryEnabled(boolean enabled) {
+        this.translationMemoryEnabled = enabled;
     }
     
     /**
@@ -100,19 +165,50 @@ public class TranslationService {
                 throw new IllegalStateException("Unknown provider: " + providerType);
         }
         
+        // ベースURLの上書き（システムプロパティを設定ファイルより優先）
+        String baseUrlKey = providerType.name().toLowerCase() + ".base_url";
+        String baseUrl = System.getProperty(baseUrlKey);
+        if (baseUrl == null || baseUrl.trim().isEmpty()) {
+            baseUrl = loadStoredBaseUrl();
+        }
+        if (baseUrl != null && !baseUrl.trim().isEmpty()) {
+            currentProvider.setBaseUrl(baseUrl);
+            System.out.println("[接続先] " + providerType.getDisplayName() + ": " + baseUrl.trim());
+        }
+        
         // 設定ファイルからデバッグモードを読み込んで適用
         try {
             Class<?> settingsClass = Class.forName("io.github.pazakasin.minecraft.modpack.translator.controller.SettingsDialog");
             java.lang.reflect.Method isDebugModeMethod = settingsClass.getMethod("isDebugMode");
             Boolean debugMode = (Boolean) isDebugModeMethod.invoke(null);
-            if (debugMode != null && debugMode) {
+            this.debugMode = debugMode != null && debugMode;
+            if (this.debugMode) {
                 currentProvider.setDebugMode(true);
             }
+            if (currentProvider instanceof ClaudeTranslationProvider) {
+                java.lang.reflect.Method isStreamingMethod = settingsClass.getMethod("isClaudeStreaming");
+                Boolean streaming = (Boolean) isStreamingMethod.invoke(null);
+                ((ClaudeTranslationProvider) currentProvider).setStreamingEnabled(streaming != null && streaming);
+            }
         } catch (Exception e) {
             // デバッグモード設定の読み込み失敗しても無視
         }
     }
     
+    /**
+     * 設定ファイルから現在のプロバイダーのベースURLを読み込みます。
+     * @return ベースURL（未設定または読み込み失敗時はnull）
+     */
+    private String loadStoredBaseUrl() {
+        try {
+            Class<?> settingsClass = Class.forName("io.github.pazakasin.minecraft.modpack.translator.controller.SettingsDialog");
+            java.lang.reflect.Method getBaseUrlMethod = settingsClass.getMethod("getApiBaseUrl", String.class);
+            return (String) getBaseUrlMethod.invoke(null, providerType.name());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+    
     /**
      * JSON形式の言語ファイルを翻訳します（進捗コールバックなし）。
      * @param jsonContent 翻訳元のJSONコンテンツ
@@ -123,8 +219,58 @@ public class TranslationService {
         return translateJsonFile(jsonContent, null);
     }
     
+    /**
+     * 翻訳結果に影響するプロバイダーとプロンプトの組み合わせを識別する値を取得します。
+     * 設定の異なる過去の翻訳結果を再利用しないために使用します。
+     * @return プロバイダー名とプロンプトのハッシュ（プロバイダー未設定時はnull）
+     */
+    public String getTranslatorFingerprint() {
+        if (currentProvider == null) {
+            return null;
+        }
+        return HashUtil.sha256(currentProvider.getProviderName() + "\n" + currentPromptHash());
+    }
+    
+    /**
+     * 翻訳結果に影響するプロンプトのハッシュを取得します。
+     * @return カスタムプロンプトを使用するプロバイダーの場合はプロンプトのハッシュ、それ以外は空文字列
+     */
+    private String currentPromptHash() {
+        return (providerType == ProviderType.CHATGPT || providerType == ProviderType.CLAUDE)
+                ? TranslationMemory.hashPrompt(customPrompt) : "";
+    }
+    
+    /**
+     * 新しい翻訳の実行を開始します。
+     * ファイル間で共有する翻訳単位、重複排除と翻訳結果なしの集計をリセットします。
+     */
+    public void startRun() {
+        sharedUnits.clear();
+        requestedEntries.set(0);
+        dispatchedEntries.set(0);
+        untranslatedEntries.set(0);
+    }
+    
+    /**
+     * 実行中の翻訳の重複排除の結果を取得します。
+     * 翻訳結果が得られず原文のまま出力したエントリーがある場合はその件数も含めます。
+     * @return 重複排除のサマリー文字列
+     */
+    public String getDeduplicationSummary() {
+        int requested = requestedEntries.get();
+        int dispatched = dispatchedEntries.get();
+        double ratio = requested > 0 ? (requested - dispatched) * 100.0 / requested : 0;
+        String summary = String.format("重複排除: 翻訳対象 %d 件 → 送信 %d 件 (%.1f%% 削減)", requested, dispatched, ratio);
+        int untranslated = untranslatedEntries.get();
+        if (untranslated > 0) {
+            summary += String.format(" / 翻訳結果なし %d 件（原文のまま出力）", untranslated);
+        }
+        return summary;
+    }
+    
     /**
      * JSON形式の言語ファイルを翻訳します。
+     * 同一の原文（正規化後）はファイル内・ファイル間で1回だけ翻訳し、結果を全キーに適用します。
      * @param jsonContent 翻訳元のJSONコンテンツ
      * @param progressCallback 進捗コールバック（null可）
      * @return 翻訳後のJSONコンテンツ
@@ -136,6 +282,286 @@ public class TranslationService {
             throw new IllegalStateException("APIキーが設定されていません");
         }
         
-        return currentProvider.translateJsonFile(jsonContent, progressCallback);
+        if (debugMode) {
+            return currentProvider.translateJsonFile(jsonContent, progressCallback);
+        }
+        
+        return translateUnits(jsonContent, progressCallback);
+    }
+    
+    /**
+     * 原文ごとの翻訳単位に集約し、翻訳メモリと他ファイルで翻訳済み・翻訳中の単位を除いてプロバイダーで翻訳します。
+     * 自ファイルが担当する単位を先に翻訳してから他ファイルの単位を待つため、ファイル間で待ち合いは発生しません。
+     * @param jsonContent 翻訳元のJSONコンテンツ
+     * @param progressCallback 進捗コールバック（null可）
+     * @return 翻訳後のJSONコンテンツ（元のキー順）
+     * @throws Exception 翻訳エラー
+     */
+    private String translateUnits(String jsonContent, final ProgressCallback progressCallback) throws Exception {
+        JsonObject source = gson.fromJson(jsonContent, JsonObject.class);
+        if (source == null) {
+            return currentProvider.translateJsonFile(jsonContent, progressCallback);
+        }
+        
+        String providerName = currentProvider.getProviderName();
+        String promptHash = currentPromptHash();
+        
+        Map<String, String> keyToUnit = new LinkedHashMap<String, String>();
+        Map<String, String> unitTranslations = new LinkedHashMap<String, String>();
+        Map<String, String> ownedUnits = new LinkedHashMap<String, String>();
+        Map<String, CompletableFuture<String>> awaitedUnits = new LinkedHashMap<String, CompletableFuture<String>>();
+        Set<String> seenUnits = new HashSet<String>();
+        Set<String> memoryUnits = new HashSet<String>();
+        JsonObject misses = new JsonObject();
+        int hitCount = 0;
+        int requestedCount = 0;
+        
+        for (Map.Entry<String, JsonElement> entry : source.entrySet()) {
+            JsonElement value = entry.getValue();
+            if (!value.isJsonPrimitive() || !value.getAsJsonPrimitive().isString()) {
+                misses.add(entry.getKey(), value);
+                continue;
+            }
+            
+            String memoryKey = TranslationMemory.buildKey(value.getAsString(),
+                    providerName, TARGET_LANGUAGE, promptHash);
+            keyToUnit.put(entry.getKey(), memoryKey);
+            if (!seenUnits.add(memoryKey)) {
+                if (memoryUnits.contains(memoryKey)) {
+                    hitCount++;
+                } else {
+                    requestedCount++;
+                }
+                continue;
+            }
+            
+            String cached = translationMemoryEnabled ? translationMemory.lookup(memoryKey) : null;
+            if (cached != null) {
+                unitTranslations.put(memoryKey, cached);
+                memoryUnits.add(memoryKey);
+                hitCount++;
+                continue;
+            }
+            
+            requestedCount++;
+            CompletableFuture<String> unit = new CompletableFuture<String>();
+            CompletableFuture<String> existing = sharedUnits.putIfAbsent(memoryKey, unit);
+            if (existing != null) {
+                awaitedUnits.put(memoryKey, existing);
+                continue;
+            }
+            ownedUnits.put(entry.getKey(), memoryKey);
+            misses.add(entry.getKey(), value);
+        }
+        
+        requestedEntries.addAndGet(requestedCount);
+        dispatchedEntries.addAndGet(ownedUnits.size());
+        
+        final int totalCount = source.size();
+        if (hitCount > 0) {
+            System.out.println("[翻訳メモリ] ヒット: " + hitCount + "/" + totalCount + " 件");
+        }
+        int duplicateCount = requestedCount - ownedUnits.size();
+        if (duplicateCount > 0) {
+            System.out.println("[重複排除] " + duplicateCount + "/" + requestedCount + " 件を他のキーの翻訳結果で代用");
+        }
+        
+        JsonObject translated = null;
+        try {
+            if (misses.size() > 0) {
+                translated = dispatch(misses, ownedUnits, totalCount - misses.size(), totalCount, progressCallback);
+                for (Map.Entry<String, String> entry : ownedUnits.entrySet()) {
+                    JsonElement value = translated.get(entry.getKey());
+                    if (value != null && value.isJsonPrimitive() && value.getAsJsonPrimitive().isString()) {
+                        unitTranslations.put(entry.getValue(), value.getAsString());
+                        completeUnit(entry.getValue(), value.getAsString());
+                    }
+                }
+            }
+        } finally {
+            for (String memoryKey : ownedUnits.values()) {
+                releaseUnit(memoryKey);
+            }
+        }
+        
+        Map<String, String> retryKeys = new LinkedHashMap<String, String>();
+        for (Map.Entry<String, CompletableFuture<String>> entry : awaitedUnits.entrySet()) {
+            try {
+                unitTranslations.put(entry.getKey(), entry.getValue().get());
+            } catch (ExecutionException e) {
+                for (Map.Entry<String, String> keyEntry : keyToUnit.entrySet()) {
+                    if (keyEntry.getValue().equals(entry.getKey())) {
+                        retryKeys.put(keyEntry.getKey(), entry.getKey());
+                        break;
+                    }
+                }
+            }
+        }
+        if (!retryKeys.isEmpty()) {
+            // 担当したファイルの翻訳が失敗した単位は自ファイルで翻訳し直す
+            JsonObject retry = new JsonObject();
+            for (String key : retryKeys.keySet()) {
+                retry.add(key, source.get(key));
+            }
+            dispatchedEntries.addAndGet(retry.size());
+            JsonObject retried = dispatch(retry, retryKeys, 0, retry.size(), null);
+            for (Map.Entry<String, String> entry : retryKeys.entrySet()) {
+                JsonElement value = retried.get(entry.getKey());
+                if (value != null && value.isJsonPrimitive() && value.getAsJsonPrimitive().isString()) {
+                    unitTranslations.put(entry.getValue(), value.getAsString());
+                }
+            }
+        }
+        
+        if (progressCallback != null) {
+            progressCallback.onProgress(totalCount, totalCount);
+        }
+        
+        JsonObject merged = new JsonObject();
+        List<String> untranslatedKeys = new ArrayList<String>();
+        for (String key : source.keySet()) {
+            String memoryKey = keyToUnit.get(key);
+            if (memoryKey != null && unitTranslations.containsKey(memoryKey)) {
+                merged.addProperty(key, unitTranslations.get(memoryKey));
+            } else if (translated != null && translated.has(key)) {
+                merged.add(key, translated.get(key));
+            } else {
+                // 翻訳結果が得られなかったキーは欠落させず原文のまま出力する
+                merged.add(key, source.get(key));
+                untranslatedKeys.add(key);
+            }
+        }
+        logUntranslatedKeys(untranslatedKeys, totalCount);
+        
+        return gson.toJson(merged);
+    }
+    
+    /**
+     * 翻訳結果が得られず原文のまま出力したキーを警告としてログ出力し、実行中の集計に加算します。
+     * @param untranslatedKeys 原文のまま出力したキーのリスト
+     * @param totalCount ファイルの全エントリー数
+     */
+    private void logUntranslatedKeys(List<String> untranslatedKeys, int totalCount) {
+        if (untranslatedKeys.isEmpty()) {
+            return;
+        }
+        untranslatedEntries.addAndGet(untranslatedKeys.size());
+        int shown = Math.min(5, untranslatedKeys.size());
+        String keys = String.join(", ", untranslatedKeys.subList(0, shown));
+        if (untranslatedKeys.size() > shown) {
+            keys += String.format(" ... 他 %d 件", untranslatedKeys.size() - shown);
+        }
+        System.err.println(String.format("[警告] 翻訳結果が得られなかった %d/%d 件を原文のまま出力します: %s",
+                untranslatedKeys.size(), totalCount, keys));
+    }
+    
+    /**
+     * 翻訳単位をプロバイダーで翻訳し、翻訳メモリに登録します。
+     * @param units 翻訳するキーと原文のJSONオブジェクト
+     * @param unitKeys 翻訳キーとメモリキーのマップ
+     * @param doneBefore 翻訳前に完了済みとみなすエントリー数
+     * @param totalCount 進捗の全エントリー数
+     * @param progressCallback 進捗コールバック（null可）
+     * @return プロバイダーが返したJSONオブジェクト
+     * @throws Exception 翻訳エラー
+     */
+    private JsonObject dispatch(JsonObject units, Map<String, String> unitKeys, final int doneBefore,
+            final int totalCount, final ProgressCallback progressCallback) throws Exception {
+        ProgressCallback offsetCallback = null;
+        if (progressCallback != null) {
+            offsetCallback = new ProgressCallback() {
+                @Override
+                public void onProgress(int current, int total) {
+                    int remaining = totalCount - doneBefore;
+                    int scaled = total > 0 ? (int) ((long) current * remaining / total) : remaining;
+                    progressCallback.onProgress(doneBefore + scaled, totalCount);
+                }
+            };
+        }
+        
+        String result = currentProvider.translateJsonFile(gson.toJson(units), offsetCallback,
+                createCheckpointCallback(unitKeys));
+        storeTranslations(result, unitKeys);
+        JsonObject translated = gson.fromJson(result, JsonObject.class);
+        return translated != null ? translated : new JsonObject();
+    }
+    
+    /**
+     * 翻訳済みのキーを受け取り次第、翻訳メモリに登録し、待機中の他ファイルに翻訳単位を公開するコールバックを生成します。
+     * リクエストが途中で失敗しても、登録済みのキーは次回の翻訳で再利用されます。
+     * @param unitKeys 翻訳キーとメモリキーのマップ
+     * @return チェックポイントコールバック
+     */
+    private TranslationCheckpointCallback createCheckpointCallback(final Map<String, String> unitKeys) {
+        return new TranslationCheckpointCallback() {
+            @Override
+            public void onTranslated(Map<String, String> translations) {
+                Map<String, String> newEntries = new LinkedHashMap<String, String>();
+                for (Map.Entry<String, String> entry : translations.entrySet()) {
+                    String memoryKey = unitKeys.get(entry.getKey());
+                    if (memoryKey != null && entry.getValue() != null) {
+                        newEntries.put(memoryKey, entry.getValue());
+                        completeUnit(memoryKey, entry.getValue());
+                    }
+                }
+                if (translationMemoryEnabled) {
+                    translationMemory.storeAll(newEntries);
+                }
+            }
+        };
+    }
+    
+    /**
+     * 共有中の翻訳単位に翻訳結果を設定します。
+     * @param memoryKey メモリキー
+     * @param translation 翻訳結果
+     */
+    private void completeUnit(String memoryKey, String translation) {
+        CompletableFuture<String> unit = sharedUnits.get(memoryKey);
+        if (unit != null) {
+            unit.complete(translation);
+        }
+    }
+    
+    /**
+     * 担当した翻訳単位の処理を終了します。翻訳結果が得られなかった単位は失敗として公開し、
+     * 以降のファイルが改めて翻訳できるよう共有から外します。
+     * @param memoryKey メモリキー
+     */
+    private void releaseUnit(String memoryKey) {
+        CompletableFuture<String> unit = sharedUnits.get(memoryKey);
+        if (unit != null && unit.completeExceptionally(new IllegalStateException("翻訳に失敗しました"))) {
+            sharedUnits.remove(memoryKey, unit);
+        }
+    }
+    
+    /**
+     * プロバイダーの翻訳結果を翻訳メモリに登録します。
+     * @param resultJson プロバイダーが返したJSONコンテンツ
+     * @param unitKeys 翻訳キーとメモリキーのマップ
+     */
+    private void storeTranslations(String resultJson, Map<String, String> unitKeys) {
+        if (unitKeys.isEmpty() || !translationMemoryEnabled) {
+            return;
+        }
+        
+        JsonObject result;
+        try {
+            result = gson.fromJson(resultJson, JsonObject.class);
+        } catch (Exception e) {
+            return;
+        }
+        if (result == null) {
+            return;
+        }
+        
+        Map<String, String> newEntries = new LinkedHashMap<String, String>();
+        for (Map.Entry<String, String> entry : unitKeys.entrySet()) {
+            JsonElement value = result.get(entry.getKey());
+            if (value != null && value.isJsonPrimitive() && value.getAsJsonPrimitive().isString()) {
+                newEntries.put(entry.getValue(), value.getAsString());
+            }
+        }
+        translationMemory.storeAll(newEntries);
     }
 }
@@ -0,0 +1,181 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.analyzer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mod JARの解析結果を記録する永続インデックス。
+ * workフォルダに保存し、変更のないJARの再解析を省略するために使用。
+ * 解析したModPackのパスを記録し、別のModPackのインデックスは存在しないものとして扱う。
+ */
+public class AnalysisIndex {
+    /** インデックスファイル名。 */
+    public static final String FILE_NAME = "analysis_index.json";
+    
+    /** インデックス形式のバージョン。 */
+    private static final int FORMAT_VERSION = 2;
+    
+    /** workディレクトリ。 */
+    private final File workDir;
+    
+    /** 解析対象ModPackの正規化されたパス。 */
+    private final String packPath;
+    
+    /** インデックスファイル。 */
+    private final File indexFile;
+    
+    /** JARファイル名とインデックスエントリーのマップ。 */
+    private final Map<String, AnalysisIndexEntry> entries;
+    
+    /** JSON処理用のGsonインスタンス。 */
+    private final Gson gson;
+    
+    /**
+     * AnalysisIndexのコンストラクタ。
+     * @param workDir workディレクトリ
+     * @param packPath 解析対象ModPackの正規化されたパス
+     */
+    public AnalysisIndex(File workDir, String packPath) {
+        this.workDir = workDir;
+        this.packPath = packPath;
+        this.indexFile = new File(workDir, FILE_NAME);
+        this.entries = new LinkedHashMap<String, AnalysisIndexEntry>();
+        this.gson = new GsonBuilder().setPrettyPrinting().create();
+    }
+    
+    /**
+     * workディレクトリを取得します。
+     * @return workディレクトリ
+     */
+    public File getWorkDir() {
+        return workDir;
+    }
+    
+    /**
+     * 同じModPackを解析した現行形式のインデックスファイルが存在するかを返します。
+     * 別のModPackや旧形式のインデックスは存在しないものとして扱います。
+     * @return 存在する場合true
+     */
+    public boolean exists() {
+        return readMatchingRoot() != null;
+    }
+    
+    /**
+     * インデックスファイルを読み込みます。形式・ModPackが異なる、または破損している場合は空のインデックスになります。
+     */
+    public void load() {
+        entries.clear();
+        JsonObject root = readMatchingRoot();
+        if (root == null) {
+            return;
+        }
+        
+        try {
+            JsonObject jars = root.getAsJsonObject("jars");
+            for (Map.Entry<String, JsonElement> jar : jars.entrySet()) {
+                entries.put(jar.getKey(), gson.fromJson(jar.getValue(), AnalysisIndexEntry.class));
+            }
+        } catch (Exception e) {
+            entries.clear();
+        }
+    }
+    
+    /**
+     * インデックスファイルを保存します。
+     * @throws IOException 書き込み失敗
+     */
+    public void save() throws IOException {
+        JsonObject root = new JsonObject();
+        root.addProperty("version", FORMAT_VERSION);
+        root.addProperty("pack", packPath);
+        
+        JsonObject jars = new JsonObject();
+        for (Map.Entry<String, AnalysisIndexEntry> entry : entries.entrySet()) {
+            jars.add(entry.getKey(), gson.toJsonTree(entry.getValue()));
+        }
+        root.add("jars", jars);
+        
+        indexFile.getParentFile().mkdirs();
+        Files.write(indexFile.toPath(), gson.toJson(root).getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * インデックスファイルを読み込み、形式とModPackが一致する場合のみ返します。
+     * @return インデックスのルート要素（存在しない・不一致・破損時はnull）
+     */
+    private JsonObject readMatchingRoot() {
+        if (!indexFile.exists()) {
+            return null;
+        }
+        
+        try {
+            String content = new String(Files.readAllBytes(indexFile.toPath()), StandardCharsets.UTF_8);
+            JsonObject root = gson.fromJson(content, JsonObject.class);
+            if (root == null || !root.has("version") || root.get("version").getAsInt() != FORMAT_VERSION
+                    || !root.has("pack") || !packPath.equals(root.get("pack").getAsString())) {
+                return null;
+            }
+            return root;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+    
+    /**
+     * JARファイル名に対応するエントリーを取得します。
+     * @param jarName JARファイル名
+     * @return インデックスエントリー（未登録時はnull）
+     */
+    public AnalysisIndexEntry get(String jarName) {
+        return entries.get(jarName);
+    }
+    
+    /**
+     * JARファイル名に対応するエントリーを登録します。
+     * @param jarName JARファイル名
+     * @param entry インデックスエントリー
+     */
+    public void put(String jarName, AnalysisIndexEntry entry) {
+        entries.put(jarName, entry);
+    }
+    
+    /**
+     * JARファイル名に対応するエントリーを削除します。
+     * @param jarName JARファイル名
+     */
+    public void remove(String jarName) {
+        entries.remove(jarName);
+    }
+    
+    /**
+     * 指定されたJARファイル名以外のエントリーを削除します。
+     * @param jarNames 残すJARファイル名
+     * @return 削除したエントリー
+     */
+    public List<AnalysisIndexEntry> retainOnly(Set<String> jarNames) {
+        List<AnalysisIndexEntry> removed = new ArrayList<AnalysisIndexEntry>();
+        List<String> removedNames = new ArrayList<String>();
+        for (Map.Entry<String, AnalysisIndexEntry> entry : entries.entrySet()) {
+            if (!jarNames.contains(entry.getKey())) {
+                removed.add(entry.getValue());
+                removedNames.add(entry.getKey());
+            }
+        }
+        for (String name : removedNames) {
+            entries.remove(name);
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.analyzer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 解析インデックスに記録するJARファイル1件分の情報。
+ * サイズ・更新日時・内容ダイジェストと、抽出した言語ファイルのメタデータを保持。
+ */
+public class AnalysisIndexEntry {
+    /** JARファイルのサイズ（バイト）。 */
+    public long size;
+    
+    /** JARファイルの最終更新日時（ミリ秒）。 */
+    public long lastModified;
+    
+    /** JARファイル内容のSHA-256ダイジェスト。 */
+    public String digest;
+    
+    /** JARから抽出した言語ファイルのメタデータ。 */
+    public List<IndexedLangFile> langFiles = new ArrayList<IndexedLangFile>();
+}
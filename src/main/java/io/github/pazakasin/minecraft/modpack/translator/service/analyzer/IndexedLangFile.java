@@ -0,0 +1,22 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.analyzer;
+
+/**
+ * 解析インデックスに記録する言語ファイル1件分のメタデータ。
+ * 内容本体はworkフォルダのエクスポートから復元する。
+ */
+public class IndexedLangFile {
+    /** Mod名（表示名）。 */
+    public String modName;
+    
+    /** JAR内の言語ファイルパス。 */
+    public String langFolderPath;
+    
+    /** 名前空間（ファイル識別子）。 */
+    public String fileId;
+    
+    /** 翻訳対象文字数。 */
+    public int characterCount;
+    
+    /** 既存の日本語ファイルの有無。 */
+    public boolean hasExistingJaJp;
+}
@@ -1,5 +1,6 @@
 package io.github.pazakasin.minecraft.modpack.translator.service.analyzer;
 
+import io.github.pazakasin.minecraft.modpack.translator.model.ContentSource;
 import io.github.pazakasin.minecraft.modpack.translator.model.TranslatableFile;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.LogCallback;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.ProgressUpdateCallback;
@@ -142,20 +143,20 @@ public class KubeJSFileAnalyzer {
         
         File jaJpFile = new File(langFile.getParent(), "ja_jp.json");
         boolean hasJaJp = jaJpFile.exists();
-        String jaJpContent = null;
         
-        if (hasJaJp) {
-            jaJpContent = new String(Files.readAllBytes(jaJpFile.toPath()), "UTF-8");
-        }
-        
-        return TranslatableFile.createKubeJSLangFile(
+        TranslatableFile file = TranslatableFile.createKubeJSLangFile(
             langFile.getAbsolutePath(),
             fileId,
             charCount,
             hasJaJp,
             enUsContent,
-            jaJpContent
+            null
         );
+        file.setFileContentSource(ContentSource.ofFile(langFile));
+        if (hasJaJp) {
+            file.setExistingJaJpContentSource(ContentSource.ofFile(jaJpFile));
+        }
+        return file;
     }
     
     /**
@@ -0,0 +1,80 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.analyzer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.github.pazakasin.minecraft.modpack.translator.model.ContentSource;
+import io.github.pazakasin.minecraft.modpack.translator.model.TranslatableFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 同じ名前空間を持つ複数JARの言語ファイルを1つに統合する読み込み元。
+ * Minecraftのリソース読み込みと同様に、後のJARの同じキーが先のJARの値を上書きする。
+ */
+public class MergedLangContentSource implements ContentSource {
+    /** JSON出力用のGson。 */
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    
+    /** 統合対象の翻訳対象ファイル（JARの検出順）。 */
+    private final List<TranslatableFile> parts;
+    
+    /** ja_jp.jsonを統合する場合true、en_us.jsonを統合する場合false。 */
+    private final boolean jaJp;
+    
+    /**
+     * MergedLangContentSourceのコンストラクタ。
+     * @param parts 統合対象の翻訳対象ファイル
+     * @param jaJp ja_jp.jsonを統合する場合true
+     */
+    public MergedLangContentSource(List<TranslatableFile> parts, boolean jaJp) {
+        this.parts = parts;
+        this.jaJp = jaJp;
+    }
+    
+    /**
+     * 各ファイルの内容を読み込み、キーを統合したJSONを返します。
+     * @return 統合後の言語ファイル内容
+     * @throws IOException 読み込み失敗、またはJSONオブジェクトとして解析できない
+     */
+    @Override
+    public String load() throws IOException {
+        JsonObject merged = new JsonObject();
+        for (TranslatableFile part : parts) {
+            String content = jaJp
+                ? (part.isHasExistingJaJp() ? part.getExistingJaJpContent() : null)
+                : part.getFileContent();
+            if (content == null) {
+                continue;
+            }
+            
+            JsonElement element;
+            try {
+                element = JsonParser.parseString(content);
+            } catch (JsonParseException e) {
+                throw new IOException("言語ファイルを解析できません: " + part.getModName(), e);
+            }
+            if (!element.isJsonObject()) {
+                throw new IOException("言語ファイルがJSONオブジェクトではありません: " + part.getModName());
+            }
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                merged.add(entry.getKey(), entry.getValue());
+            }
+        }
+        return GSON.toJson(merged);
+    }
+    
+    /**
+     * 読み込み元を表示用の文字列にします。
+     * @return 統合対象の名前空間とファイル数
+     */
+    @Override
+    public String toString() {
+        return parts.get(0).getFileId() + " (" + parts.size() + " JAR統合)";
+    }
+}
@@ -1,15 +1,25 @@
 package io.github.pazakasin.minecraft.modpack.translator.service.analyzer;
 
+import io.github.pazakasin.minecraft.modpack.translator.model.ContentSource;
 import io.github.pazakasin.minecraft.modpack.translator.model.TranslatableFile;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.LogCallback;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.ProgressUpdateCallback;
 import io.github.pazakasin.minecraft.modpack.translator.service.processor.CharacterCounter;
+import io.github.pazakasin.minecraft.modpack.translator.service.processor.JarEntryContentSource;
 import io.github.pazakasin.minecraft.modpack.translator.service.processor.JarFileAnalyzer;
+import io.github.pazakasin.minecraft.modpack.translator.service.processor.JarScanResult;
+import io.github.pazakasin.minecraft.modpack.translator.service.processor.ParallelJarScanner;
+import io.github.pazakasin.minecraft.modpack.translator.util.HashUtil;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Mod JARファイルの解析を担当するクラス。
@@ -22,12 +32,18 @@ public class ModFileAnalyzer {
     /** 進捗コールバック。 */
     private final ProgressUpdateCallback progressUpdater;
     
-    /** JARファイルアナライザー。 */
-    private final JarFileAnalyzer jarAnalyzer;
+    /** JARファイル並列スキャナー。 */
+    private final ParallelJarScanner jarScanner;
     
     /** 文字数カウンター。 */
     private final CharacterCounter charCounter;
     
+    /** 同じ名前空間の言語ファイルの統合処理。 */
+    private final ModLangFileMerger langFileMerger;
+    
+    /** 差分解析用の解析インデックス（null時は全JARを解析）。 */
+    private AnalysisIndex analysisIndex;
+    
     /**
      * ModFileAnalyzerのコンストラクタ。
      * @param logger ログコールバック
@@ -36,8 +52,18 @@ public class ModFileAnalyzer {
     public ModFileAnalyzer(LogCallback logger, ProgressUpdateCallback progressUpdater) {
         this.logger = logger;
         this.progressUpdater = progressUpdater;
-        this.jarAnalyzer = new JarFileAnalyzer();
+        this.jarScanner = new ParallelJarScanner();
         this.charCounter = new CharacterCounter();
+        this.langFileMerger = new ModLangFileMerger();
+    }
+    
+    /**
+     * 差分解析用の解析インデックスを設定します。
+     * 設定時は変更のないJARの解析を省略し、workフォルダのエクスポートから内容を復元します。
+     * @param analysisIndex 解析インデックス（nullで無効）
+     */
+    public void setAnalysisIndex(AnalysisIndex analysisIndex) {
+        this.analysisIndex = analysisIndex;
     }
     
     /**
@@ -65,54 +91,252 @@ public class ModFileAnalyzer {
         log("検出されたMod数: " + jarFiles.length);
         log("");
         
-        for (int i = 0; i < jarFiles.length; i++) {
+        Map<String, List<TranslatableFile>> restored = new HashMap<String, List<TranslatableFile>>();
+        List<File> changedJars = new ArrayList<File>();
+        for (File jarFile : jarFiles) {
+            List<TranslatableFile> cached = analysisIndex != null ? restoreUnchanged(jarFile) : null;
+            if (cached != null) {
+                restored.put(jarFile.getName(), cached);
+            } else {
+                changedJars.add(jarFile);
+            }
+        }
+        
+        if (analysisIndex != null) {
+            removeStaleEntries(restored);
+            log(String.format("差分解析: 変更なし %d件 / 解析対象 %d件", restored.size(), changedJars.size()));
+            log("");
+        }
+        
+        jarScanner.setComputeDigest(analysisIndex != null);
+        List<JarScanResult> scanResults = jarScanner.scan(
+            changedJars.toArray(new File[changedJars.size()]), progressUpdater);
+        int scanIndex = 0;
+        int totalMods = jarFiles.length;
+        
+        for (int i = 0; i < totalMods; i++) {
             File jarFile = jarFiles[i];
             int currentModNum = i + 1;
-            int totalMods = jarFiles.length;
             
-            updateProgress(String.format("[%d/%d] 解析中: %s", 
-                currentModNum, totalMods, jarFile.getName()));
+            List<TranslatableFile> cached = restored.get(jarFile.getName());
+            if (cached != null) {
+                files.addAll(cached);
+                log(String.format("[%d/%d] %s - 変更なし", currentModNum, totalMods, jarFile.getName()));
+                continue;
+            }
             
-            try {
-                TranslatableFile file = analyzeJar(jarFile);
-                if (file != null) {
-                    files.add(file);
+            JarScanResult scanResult = scanResults.get(scanIndex++);
+            
+            if (!scanResult.isSuccess()) {
+                log(String.format("[%d/%d][エラー] %s: %s", 
+                    currentModNum, totalMods, jarFile.getName(), scanResult.error.getMessage()));
+                logStackTrace(scanResult.error);
+                continue;
+            }
+            
+            List<JarFileAnalyzer.LanguageFileInfo> namespaces = withEnUs(scanResult.namespaces);
+            if (namespaces.isEmpty()) {
+                log(String.format("[%d/%d] %s - en_us.jsonなし", 
+                    currentModNum, totalMods, jarFile.getName()));
+                recordEntry(jarFile, scanResult.digest, new ArrayList<TranslatableFile>());
+                continue;
+            }
+            
+            List<TranslatableFile> jarLangFiles = new ArrayList<TranslatableFile>();
+            boolean allSucceeded = true;
+            for (JarFileAnalyzer.LanguageFileInfo langInfo : namespaces) {
+                try {
+                    TranslatableFile file = createTranslatableFile(jarFile, langInfo, namespaces.size());
+                    jarLangFiles.add(file);
                     log(String.format("[%d/%d] %s - %s (%d文字)", 
-                        currentModNum, totalMods, jarFile.getName(),
+                        currentModNum, totalMods, file.getModName(),
                         file.isHasExistingJaJp() ? "既存ja_jp有" : "翻訳対象",
                         file.getCharacterCount()));
-                } else {
-                    log(String.format("[%d/%d] %s - en_us.jsonなし", 
-                        currentModNum, totalMods, jarFile.getName()));
+                } catch (Exception e) {
+                    allSucceeded = false;
+                    log(String.format("[%d/%d][エラー] %s: %s", 
+                        currentModNum, totalMods, jarFile.getName(), e.getMessage()));
+                    logStackTrace(e);
                 }
-            } catch (Exception e) {
-                log(String.format("[%d/%d][エラー] %s: %s", 
-                    currentModNum, totalMods, jarFile.getName(), e.getMessage()));
-                logStackTrace(e);
+            }
+            files.addAll(jarLangFiles);
+            
+            if (allSucceeded) {
+                recordEntry(jarFile, scanResult.digest, jarLangFiles);
             }
         }
         
         updateProgress(" ");
-        return files;
+        return mergeSameNamespace(files);
     }
     
     /**
-     * 単一のMod JARファイルを解析します。
+     * 複数のJARが同じ名前空間を持つ場合、言語ファイルを1つの翻訳対象ファイルに統合します。
+     * 統合したJARは次回も再解析するため、解析インデックスから除外します。
+     * @param files JARごとの翻訳対象ファイル
+     * @return 名前空間ごとに1件となる翻訳対象ファイル
+     */
+    private List<TranslatableFile> mergeSameNamespace(List<TranslatableFile> files) {
+        List<TranslatableFile> result = new ArrayList<TranslatableFile>();
+        for (List<TranslatableFile> group : langFileMerger.groupByNamespace(files).values()) {
+            if (group.size() == 1) {
+                result.add(group.get(0));
+                continue;
+            }
+            
+            for (TranslatableFile part : group) {
+                if (analysisIndex != null) {
+                    analysisIndex.remove(new File(part.getSourceFilePath()).getName());
+                }
+            }
+            try {
+                TranslatableFile merged = langFileMerger.merge(group);
+                result.add(merged);
+                log(String.format("名前空間 %s を %d個のJARから統合: %s (%d文字)",
+                    merged.getFileId(), group.size(), merged.getModName(), merged.getCharacterCount()));
+            } catch (IOException e) {
+                result.add(group.get(0));
+                log(String.format("[エラー] 名前空間 %s の統合に失敗したため %s のみ翻訳対象にします: %s",
+                    group.get(0).getFileId(), group.get(0).getModName(), e.getMessage()));
+                logStackTrace(e);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * インデックスと照合し、変更のないJARの翻訳対象ファイルをworkフォルダから復元します。
+     * サイズが一致し更新日時のみ異なる場合はダイジェストで内容を比較します。
+     * ファイル内容は読み込まず、workフォルダのファイルを読み込み元として設定します。
      * @param jarFile JARファイル
-     * @return 翻訳対象ファイル
-     * @throws Exception 解析エラー
+     * @return 復元した翻訳対象ファイル（変更あり・復元不可の場合はnull）
      */
-    private TranslatableFile analyzeJar(File jarFile) throws Exception {
-        JarFileAnalyzer.LanguageFileInfo langInfo = jarAnalyzer.analyze(jarFile);
+    private List<TranslatableFile> restoreUnchanged(File jarFile) {
+        AnalysisIndexEntry entry = analysisIndex.get(jarFile.getName());
+        if (entry == null || entry.size != jarFile.length()) {
+            return null;
+        }
         
-        if (langInfo.modId == null || langInfo.enUsContent == null) {
+        try {
+            if (entry.lastModified != jarFile.lastModified()) {
+                if (entry.digest == null || !entry.digest.equals(HashUtil.sha256(jarFile))) {
+                    return null;
+                }
+                entry.lastModified = jarFile.lastModified();
+            }
+            
+            List<TranslatableFile> restoredFiles = new ArrayList<TranslatableFile>();
+            for (IndexedLangFile langFile : entry.langFiles) {
+                File langDir = WorkFolderExporter.getModLangDir(analysisIndex.getWorkDir(), langFile.fileId);
+                File enUsFile = new File(langDir, "en_us.json");
+                File jaJpFile = new File(langDir, "ja_jp.json");
+                if (!enUsFile.exists() || (langFile.hasExistingJaJp && !jaJpFile.exists())) {
+                    return null;
+                }
+                
+                TranslatableFile file = TranslatableFile.createModLangFile(
+                    langFile.modName,
+                    jarFile.getAbsolutePath(),
+                    langFile.langFolderPath,
+                    langFile.fileId,
+                    langFile.characterCount,
+                    langFile.hasExistingJaJp,
+                    null,
+                    null
+                );
+                file.setFileContentSource(ContentSource.ofFile(enUsFile));
+                if (langFile.hasExistingJaJp) {
+                    file.setExistingJaJpContentSource(ContentSource.ofFile(jaJpFile));
+                }
+                file.setWorkFilePath((langFile.hasExistingJaJp ? jaJpFile : enUsFile).getAbsolutePath());
+                restoredFiles.add(file);
+            }
+            return restoredFiles;
+        } catch (IOException e) {
             return null;
         }
+    }
+    
+    /**
+     * 変更・削除されたJARのエントリーをインデックスから除き、workフォルダの古い言語ファイルを削除します。
+     * @param restored 復元済みのJARファイル名と翻訳対象ファイルのマップ
+     */
+    private void removeStaleEntries(Map<String, List<TranslatableFile>> restored) {
+        Set<String> restoredIds = new HashSet<String>();
+        for (List<TranslatableFile> restoredFiles : restored.values()) {
+            for (TranslatableFile file : restoredFiles) {
+                restoredIds.add(file.getFileId());
+            }
+        }
         
+        for (AnalysisIndexEntry staleEntry : analysisIndex.retainOnly(restored.keySet())) {
+            for (IndexedLangFile langFile : staleEntry.langFiles) {
+                if (restoredIds.contains(langFile.fileId)) {
+                    continue;
+                }
+                File langDir = WorkFolderExporter.getModLangDir(analysisIndex.getWorkDir(), langFile.fileId);
+                new File(langDir, "en_us.json").delete();
+                new File(langDir, "ja_jp.json").delete();
+            }
+        }
+    }
+    
+    /**
+     * 解析したJARの情報をインデックスに記録します。
+     * @param jarFile JARファイル
+     * @param digest JARファイル内容のダイジェスト
+     * @param jarLangFiles JARから生成した翻訳対象ファイル
+     */
+    private void recordEntry(File jarFile, String digest, List<TranslatableFile> jarLangFiles) {
+        if (analysisIndex == null || digest == null) {
+            return;
+        }
+        
+        AnalysisIndexEntry entry = new AnalysisIndexEntry();
+        entry.size = jarFile.length();
+        entry.lastModified = jarFile.lastModified();
+        entry.digest = digest;
+        for (TranslatableFile file : jarLangFiles) {
+            IndexedLangFile langFile = new IndexedLangFile();
+            langFile.modName = file.getModName();
+            langFile.langFolderPath = file.getLangFolderPath();
+            langFile.fileId = file.getFileId();
+            langFile.characterCount = file.getCharacterCount();
+            langFile.hasExistingJaJp = file.isHasExistingJaJp();
+            entry.langFiles.add(langFile);
+        }
+        analysisIndex.put(jarFile.getName(), entry);
+    }
+    
+    /**
+     * en_us.jsonを持つ名前空間のみを抽出します。
+     * @param namespaces 名前空間ごとの言語ファイル情報
+     * @return en_us.jsonを持つ言語ファイル情報
+     */
+    private List<JarFileAnalyzer.LanguageFileInfo> withEnUs(List<JarFileAnalyzer.LanguageFileInfo> namespaces) {
+        List<JarFileAnalyzer.LanguageFileInfo> result = new ArrayList<JarFileAnalyzer.LanguageFileInfo>();
+        for (JarFileAnalyzer.LanguageFileInfo info : namespaces) {
+            if (info.enUsContent != null) {
+                result.add(info);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 名前空間の言語ファイル情報から翻訳対象ファイルを生成します。
+     * ファイル内容はJARエントリーを読み込み元として、メモリ不足時に解放できるようにします。
+     * @param jarFile JARファイル
+     * @param langInfo 言語ファイル情報
+     * @param namespaceCount JAR内の翻訳対象の名前空間数
+     * @return 翻訳対象ファイル
+     */
+    private TranslatableFile createTranslatableFile(File jarFile, JarFileAnalyzer.LanguageFileInfo langInfo,
+                                                    int namespaceCount) {
         int charCount = charCounter.countCharacters(langInfo.enUsContent);
-        String modName = jarFile.getName().replace(".jar", "");
+        String modName = JarFileAnalyzer.getDisplayName(jarFile, langInfo.modId, namespaceCount);
         
-        return TranslatableFile.createModLangFile(
+        TranslatableFile file = TranslatableFile.createModLangFile(
             modName,
             jarFile.getAbsolutePath(),
             langInfo.langFolderPath,
@@ -120,8 +344,13 @@ public class ModFileAnalyzer {
             charCount,
             langInfo.hasJaJp,
             langInfo.enUsContent,
-            langInfo.jaJpContent
+            null
         );
+        file.setFileContentSource(new JarEntryContentSource(jarFile, langInfo.enUsEntryName));
+        if (langInfo.jaJpEntryName != null) {
+            file.setExistingJaJpContentSource(new JarEntryContentSource(jarFile, langInfo.jaJpEntryName));
+        }
+        return file;
     }
     
     /**
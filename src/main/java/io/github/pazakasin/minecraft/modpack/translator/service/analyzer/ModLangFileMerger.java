@@ -0,0 +1,104 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.analyzer;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.github.pazakasin.minecraft.modpack.translator.model.TranslatableFile;
+import io.github.pazakasin.minecraft.modpack.translator.service.processor.CharacterCounter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 同じ名前空間を持つ複数JARのMod言語ファイルを1つの翻訳対象ファイルに統合するクラス。
+ * 出力先・workフォルダ・差分翻訳のスナップショットはいずれも名前空間単位のため、
+ * 統合しないと同じファイルを複数の翻訳結果が上書きし合う。
+ */
+public class ModLangFileMerger {
+    /** 文字数カウンター。 */
+    private final CharacterCounter charCounter = new CharacterCounter();
+    
+    /**
+     * Mod言語ファイルを名前空間ごとにまとめます。
+     * @param files Mod言語ファイルのリスト
+     * @return 名前空間と該当ファイルのマップ（検出順）
+     */
+    public Map<String, List<TranslatableFile>> groupByNamespace(List<TranslatableFile> files) {
+        Map<String, List<TranslatableFile>> groups = new LinkedHashMap<String, List<TranslatableFile>>();
+        for (TranslatableFile file : files) {
+            List<TranslatableFile> group = groups.get(file.getFileId());
+            if (group == null) {
+                group = new ArrayList<TranslatableFile>();
+                groups.put(file.getFileId(), group);
+            }
+            group.add(file);
+        }
+        return groups;
+    }
+    
+    /**
+     * 同じ名前空間のファイルを1つに統合します。
+     * 統合後の内容は各ファイルを読み込み元とし、メモリ不足時に解放できるようにします。
+     * 既存のja_jpは、統合後のja_jpがen_usの全キーを含む場合のみ有りとします。
+     * 一部のJARだけがja_jpを持つ場合は、残りのキーが未翻訳のまま残らないよう翻訳対象とします。
+     * @param parts 同じ名前空間のファイル（2件以上）
+     * @return 統合した翻訳対象ファイル
+     * @throws IOException 言語ファイルの読み込み・解析失敗
+     */
+    public TranslatableFile merge(List<TranslatableFile> parts) throws IOException {
+        TranslatableFile first = parts.get(0);
+        StringBuilder modName = new StringBuilder();
+        boolean anyJaJp = false;
+        for (TranslatableFile part : parts) {
+            if (modName.length() > 0) {
+                modName.append(" + ");
+            }
+            modName.append(part.getModName());
+            anyJaJp |= part.isHasExistingJaJp();
+        }
+        
+        MergedLangContentSource enUsSource = new MergedLangContentSource(parts, false);
+        MergedLangContentSource jaJpSource = new MergedLangContentSource(parts, true);
+        String enUsContent = enUsSource.load();
+        String jaJpContent = anyJaJp ? jaJpSource.load() : null;
+        boolean hasJaJp = jaJpContent != null && coversAllKeys(jaJpContent, enUsContent);
+        if (!hasJaJp) {
+            jaJpContent = null;
+        }
+        
+        TranslatableFile merged = TranslatableFile.createModLangFile(
+            modName.toString(),
+            first.getSourceFilePath(),
+            first.getLangFolderPath(),
+            first.getFileId(),
+            charCounter.countCharacters(enUsContent),
+            hasJaJp,
+            enUsContent,
+            jaJpContent
+        );
+        merged.setFileContentSource(enUsSource);
+        if (hasJaJp) {
+            merged.setExistingJaJpContentSource(jaJpSource);
+        }
+        return merged;
+    }
+    
+    /**
+     * ja_jpがen_usの全キーを含むか判定します。
+     * @param jaJpContent 統合後のja_jp.jsonの内容
+     * @param enUsContent 統合後のen_us.jsonの内容
+     * @return en_usの全キーがja_jpにある場合true
+     */
+    private boolean coversAllKeys(String jaJpContent, String enUsContent) {
+        JsonObject jaJp = JsonParser.parseString(jaJpContent).getAsJsonObject();
+        for (Map.Entry<String, JsonElement> entry : JsonParser.parseString(enUsContent).getAsJsonObject().entrySet()) {
+            if (!jaJp.has(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.pazakasin.minecraft.modpack.translator.service.analyzer;
 
+import io.github.pazakasin.minecraft.modpack.translator.model.ContentSource;
 import io.github.pazakasin.minecraft.modpack.translator.model.TranslatableFile;
 import io.github.pazakasin.minecraft.modpack.translator.model.FileType;
 import io.github.pazakasin.minecraft.modpack.translator.service.quest.QuestFileInfo;
@@ -9,16 +10,23 @@ import io.github.pazakasin.minecraft.modpack.translator.service.quest.LangFileSN
 import io.github.pazakasin.minecraft.modpack.translator.service.quest.SNBTParser;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.LogCallback;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.ProgressUpdateCallback;
+import io.github.pazakasin.minecraft.modpack.translator.service.processor.ParallelJarScanner;
 import net.querz.nbt.tag.Tag;
 
 import java.io.File;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * クエストファイルの解析を担当するクラス。
- * FTB Questsのファイルを検出し解析。
+ * FTB Questsのファイルを検出し、スレッド数を制限して並列に解析。結果とログ（解析エラーを含む）は検出順で出力する。
  */
 public class QuestFileAnalyzer {
     /** ログコールバック。 */
@@ -36,17 +44,31 @@ public class QuestFileAnalyzer {
     /** SNBTパーサー。 */
     private final SNBTParser snbtParser;
     
+    /** 並列解析のスレッド数。 */
+    private final int threadCount;
+    
     /**
-     * QuestFileAnalyzerのコンストラクタ。
+     * 設定ファイルのスレッド数を使用するQuestFileAnalyzerのコンストラクタ。
      * @param logger ログコールバック
      * @param progressUpdater 進捗コールバック
      */
     public QuestFileAnalyzer(LogCallback logger, ProgressUpdateCallback progressUpdater) {
+        this(logger, progressUpdater, ParallelJarScanner.getConfiguredThreadCount());
+    }
+    
+    /**
+     * QuestFileAnalyzerのコンストラクタ。
+     * @param logger ログコールバック
+     * @param progressUpdater 進捗コールバック
+     * @param threadCount 並列解析のスレッド数（1未満は1として扱う）
+     */
+    public QuestFileAnalyzer(LogCallback logger, ProgressUpdateCallback progressUpdater, int threadCount) {
         this.logger = logger;
         this.progressUpdater = progressUpdater;
         this.questDetector = new QuestFileDetector();
         this.snbtExtractor = new LangFileSNBTExtractor();
         this.snbtParser = new SNBTParser();
+        this.threadCount = Math.max(1, threadCount);
     }
     
     /**
@@ -71,29 +93,62 @@ public class QuestFileAnalyzer {
         log("検出されたクエストファイル数: " + questFileInfos.size());
         log("");
         
-        for (int i = 0; i < questFileInfos.size(); i++) {
-            QuestFileInfo info = questFileInfos.get(i);
-            int currentNum = i + 1;
-            int totalNum = questFileInfos.size();
-            
-            updateProgress(String.format("[Quest %d/%d] 解析中: %s", 
-                currentNum, totalNum, info.getFile().getName()));
+        final int totalNum = questFileInfos.size();
+        final AtomicInteger completed = new AtomicInteger(0);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, totalNum),
+            new ThreadFactory() {
+                private final AtomicInteger threadNumber = new AtomicInteger(1);
+                
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "quest-analyzer-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        
+        List<Future<TranslatableFile>> futures = new ArrayList<Future<TranslatableFile>>();
+        try {
+            for (final QuestFileInfo info : questFileInfos) {
+                futures.add(executor.submit(new Callable<TranslatableFile>() {
+                    @Override
+                    public TranslatableFile call() throws Exception {
+                        try {
+                            return analyzeFile(info);
+                        } finally {
+                            updateProgress(String.format("[Quest] 解析中... %d/%d 件完了", 
+                                completed.incrementAndGet(), totalNum));
+                        }
+                    }
+                }));
+            }
             
-            try {
-                TranslatableFile file = analyzeFile(info);
-                if (file != null) {
-                    files.add(file);
-                    log(String.format("[Quest %d/%d] %s - %s (%d文字)", 
-                        currentNum, totalNum, info.getFile().getName(),
-                        info.getType() == QuestFileType.LANG_FILE ? 
-                            "言語ファイル" : "クエストファイル",
-                        file.getCharacterCount()));
+            for (int i = 0; i < totalNum; i++) {
+                QuestFileInfo info = questFileInfos.get(i);
+                int currentNum = i + 1;
+                
+                try {
+                    TranslatableFile file = futures.get(i).get();
+                    if (file != null) {
+                        files.add(file);
+                        log(String.format("[Quest %d/%d] %s - %s (%d文字)", 
+                            currentNum, totalNum, info.getFile().getName(),
+                            info.getType() == QuestFileType.LANG_FILE ? 
+                                "言語ファイル" : "クエストファイル",
+                            file.getCharacterCount()));
+                    }
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    Exception error = cause instanceof Exception ? (Exception) cause : new Exception(cause);
+                    log(String.format("[Quest %d/%d][エラー] %s解析エラー: %s - %s", 
+                        currentNum, totalNum,
+                        info.getType() == QuestFileType.LANG_FILE ? "Quest言語ファイル" : "Questファイル",
+                        info.getFile().getName(), error.getMessage()));
+                    logStackTrace(error);
                 }
-            } catch (Exception e) {
-                log(String.format("[Quest %d/%d][エラー] %s: %s", 
-                    currentNum, totalNum, info.getFile().getName(), e.getMessage()));
-                logStackTrace(e);
             }
+        } finally {
+            executor.shutdownNow();
         }
         
         updateProgress(" ");
@@ -102,70 +157,60 @@ public class QuestFileAnalyzer {
     
     /**
      * 単一のクエストファイルを解析します。
+     * ワーカースレッドで実行されるため、ログは出力せず解析エラーは呼び出し元に送出します。
      * @param info クエストファイル情報
-     * @return 翻訳対象ファイル
+     * @return 翻訳対象ファイル（翻訳対象のテキストがない言語ファイルの場合はnull）
      * @throws Exception 解析エラー
      */
     private TranslatableFile analyzeFile(QuestFileInfo info) throws Exception {
         File file = info.getFile();
-        String content = new String(Files.readAllBytes(file.toPath()), "UTF-8");
         
         int charCount = 0;
         String fileId = file.getName().replace(".snbt", "");
         
         if (info.getType() == QuestFileType.LANG_FILE) {
-            try {
-                Tag<?> rootTag = snbtParser.parse(file);
-                java.util.List<LangFileSNBTExtractor.ExtractedText> texts = snbtExtractor.extract(rootTag);
-                
-                for (LangFileSNBTExtractor.ExtractedText text : texts) {
-                    charCount += text.getValue().length();
-                }
-                
-                if (charCount == 0) {
-                    return null;
-                }
-                
-                File jaJpFile = info.getJaJpFile();
-                boolean hasJaJp = info.hasJaJp();
-                String jaJpContent = null;
-                
-                if (hasJaJp && jaJpFile != null && jaJpFile.exists()) {
-                    jaJpContent = new String(Files.readAllBytes(jaJpFile.toPath()), "UTF-8");
-                }
-                
-                return TranslatableFile.createQuestLangFile(
-                    file.getAbsolutePath(),
-                    fileId,
-                    charCount,
-                    hasJaJp,
-                    content,
-                    jaJpContent
-                );
-            } catch (Exception e) {
-                log("Quest言語ファイル解析エラー: " + file.getName() + " - " + e.getMessage());
-                logStackTrace(e);
+            Tag<?> rootTag = snbtParser.parse(file);
+            java.util.List<LangFileSNBTExtractor.ExtractedText> texts = snbtExtractor.extract(rootTag);
+            
+            for (LangFileSNBTExtractor.ExtractedText text : texts) {
+                charCount += text.getValue().length();
+            }
+            
+            if (charCount == 0) {
                 return null;
             }
+            
+            File jaJpFile = info.getJaJpFile();
+            boolean hasJaJp = info.hasJaJp();
+            
+            TranslatableFile langFile = TranslatableFile.createQuestLangFile(
+                file.getAbsolutePath(),
+                fileId,
+                charCount,
+                hasJaJp,
+                null,
+                null
+            );
+            langFile.setFileContentSource(ContentSource.ofFile(file));
+            if (hasJaJp && jaJpFile != null && jaJpFile.exists()) {
+                langFile.setExistingJaJpContentSource(ContentSource.ofFile(jaJpFile));
+            }
+            return langFile;
         } else {
-            try {
-                java.util.Map<String, String> texts = snbtParser.extractTranslatableTexts(file);
-                
-                for (String value : texts.values()) {
-                    charCount += value.length();
-                }
-                
-                return TranslatableFile.createQuestFile(
-                    file.getAbsolutePath(),
-                    fileId,
-                    charCount,
-                    content
-                );
-            } catch (Exception e) {
-                log("Questファイル解析エラー: " + file.getName() + " - " + e.getMessage());
-                logStackTrace(e);
-                return null;
+            java.util.Map<String, String> texts = snbtParser.extractTranslatableTexts(file);
+            
+            for (String value : texts.values()) {
+                charCount += value.length();
             }
+            
+            TranslatableFile questFile = TranslatableFile.createQuestFile(
+                file.getAbsolutePath(),
+                fileId,
+                charCount,
+                null
+            );
+            questFile.setFileContentSource(ContentSource.ofFile(file));
+            return questFile;
         }
     }
     
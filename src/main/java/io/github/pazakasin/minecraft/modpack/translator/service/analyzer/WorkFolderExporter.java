@@ -71,7 +71,7 @@ public class WorkFolderExporter {
      * @throws Exception ファイルI/Oエラー
      */
     private void exportModLangFile(TranslatableFile file, File workDir) throws Exception {
-        File outputDir = new File(workDir, "resourcepacks/MyJPpack/assets/" + file.getFileId() + "/lang");
+        File outputDir = getModLangDir(workDir, file.getFileId());
         outputDir.mkdirs();
         
         File enUsFile = new File(outputDir, "en_us.json");
@@ -86,6 +86,16 @@ public class WorkFolderExporter {
         }
     }
     
+    /**
+     * Mod言語ファイルのエクスポート先ディレクトリを取得します。
+     * @param workDir workディレクトリ
+     * @param fileId ModIDまたは名前空間
+     * @return エクスポート先ディレクトリ
+     */
+    public static File getModLangDir(File workDir, String fileId) {
+        return new File(workDir, "resourcepacks/MyJPpack/assets/" + fileId + "/lang");
+    }
+    
     /**
      * KubeJS言語ファイルをエクスポートします。
      * @param file 翻訳対象ファイル
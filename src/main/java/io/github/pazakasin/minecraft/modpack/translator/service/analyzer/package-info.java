@@ -5,9 +5,14 @@
  * <h2>主要クラス</h2>
  * <ul>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.analyzer.ModFileAnalyzer} - Modファイル解析</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.analyzer.ModLangFileMerger} - 同じ名前空間の言語ファイル統合</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.analyzer.MergedLangContentSource} - 統合した言語ファイルの読み込み元</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.analyzer.QuestFileAnalyzer} - Questファイル解析</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.analyzer.KubeJSFileAnalyzer} - KubeJSファイル解析</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.analyzer.WorkFolderExporter} - workフォルダへのエクスポート</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.analyzer.AnalysisIndex} - 差分解析用の解析インデックス</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.analyzer.AnalysisIndexEntry} - JAR単位のインデックスエントリー</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.analyzer.IndexedLangFile} - インデックス内の言語ファイル情報</li>
  * </ul>
  */
 package io.github.pazakasin.minecraft.modpack.translator.service.analyzer;
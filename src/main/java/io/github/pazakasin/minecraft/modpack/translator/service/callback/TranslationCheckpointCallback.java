@@ -0,0 +1,16 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.callback;
+
+import java.util.Map;
+
+/**
+ * 翻訳が完了したキーをリクエストの完了前に受け取るコールバックインターフェース。
+ * 途中で失敗しても受け取り済みのキーを保存できるようにするために使用する。
+ * ワーカースレッドから呼び出される場合がある。
+ */
+public interface TranslationCheckpointCallback {
+    /**
+     * 翻訳が完了したキーを受け取ります。
+     * @param translations 翻訳キーと翻訳結果のマップ
+     */
+    void onTranslated(Map<String, String> translations);
+}
@@ -10,6 +10,7 @@
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.callback.CompletionCallback} - 完了通知</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.callback.ErrorCallback} - エラー通知</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.callback.FileStateUpdateCallback} - ファイル状態更新</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.callback.TranslationCheckpointCallback} - 翻訳済みキーの途中保存</li>
  * </ul>
  */
 package io.github.pazakasin.minecraft.modpack.translator.service.callback;
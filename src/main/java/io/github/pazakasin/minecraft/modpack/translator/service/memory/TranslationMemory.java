@@ -0,0 +1,189 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.memory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.Normalizer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+import io.github.pazakasin.minecraft.modpack.translator.util.HashUtil;
+
+/**
+ * 翻訳済みテキストをディスクに永続化する翻訳メモリ。
+ * 正規化した原文・プロバイダー・翻訳先言語・プロンプトハッシュをキーに翻訳結果を保持。
+ * 保存形式は1行1エントリーのJSON Lines（追記のみ）。
+ */
+public class TranslationMemory {
+    /** 翻訳メモリの既定保存先。work/outputのクリア対象外。 */
+    public static final String DEFAULT_STORE_PATH = "cache/translation_memory.jsonl";
+
+    /** キー構成要素の区切り文字。 */
+    private static final char KEY_SEPARATOR = '\u001F';
+
+    /** 保存先ファイル。 */
+    private final File storeFile;
+
+    /** メモリキーと翻訳結果のマップ。 */
+    private final Map<String, String> entries;
+
+    /** JSON処理用のGsonインスタンス。 */
+    private final Gson gson;
+
+    /** 保存先ファイルを読み込み済みか。 */
+    private boolean loaded = false;
+
+    /**
+     * 既定の保存先を使用するTranslationMemoryのコンストラクタ。
+     */
+    public TranslationMemory() {
+        this(new File(DEFAULT_STORE_PATH));
+    }
+
+    /**
+     * TranslationMemoryのコンストラクタ。
+     * @param storeFile 保存先ファイル
+     */
+    public TranslationMemory(File storeFile) {
+        this.storeFile = storeFile;
+        this.entries = new ConcurrentHashMap<String, String>();
+        this.gson = new Gson();
+    }
+
+    /**
+     * 保存先ファイルから翻訳メモリを読み込みます。読み込み済みの場合は何もしません。
+     * 途中で途切れた行などの不正な行は読み飛ばします。
+     */
+    public synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        if (!storeFile.exists()) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(storeFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    JsonObject entry = gson.fromJson(line, JsonObject.class);
+                    if (entry != null && entry.has("k") && entry.has("t")) {
+                        entries.put(entry.get("k").getAsString(), entry.get("t").getAsString());
+                    }
+                } catch (JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+                    // 不正な行は無視
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[翻訳メモリ] 読み込みに失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * メモリキーに対応する翻訳結果を取得します。
+     * @param memoryKey {@link #buildKey}で生成したキー
+     * @return 翻訳結果（未登録時はnull）
+     */
+    public String lookup(String memoryKey) {
+        load();
+        return entries.get(memoryKey);
+    }
+
+    /**
+     * 翻訳結果を登録し、保存先ファイルに追記します。
+     * @param newEntries メモリキーと翻訳結果のマップ
+     */
+    public synchronized void storeAll(Map<String, String> newEntries) {
+        load();
+        if (newEntries.isEmpty()) {
+            return;
+        }
+
+        File parent = storeFile.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(storeFile.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (Map.Entry<String, String> entry : newEntries.entrySet()) {
+                if (entry.getValue() == null || entry.getValue().equals(entries.get(entry.getKey()))) {
+                    continue;
+                }
+                JsonObject line = new JsonObject();
+                line.addProperty("k", entry.getKey());
+                line.addProperty("t", entry.getValue());
+                writer.write(gson.toJson(line));
+                writer.newLine();
+                entries.put(entry.getKey(), entry.getValue());
+            }
+        } catch (IOException e) {
+            System.err.println("[翻訳メモリ] 書き込みに失敗しました: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 登録済みエントリー数を取得します。
+     * @return エントリー数
+     */
+    public int size() {
+        load();
+        return entries.size();
+    }
+
+    /**
+     * 翻訳メモリのキーを生成します。
+     * @param sourceText 原文
+     * @param providerName プロバイダー名
+     * @param targetLanguage 翻訳先言語コード
+     * @param promptHash プロンプトのハッシュ（{@link #hashPrompt}）
+     * @return SHA-256の16進文字列
+     */
+    public static String buildKey(String sourceText, String providerName,
+                                  String targetLanguage, String promptHash) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(providerName).append(KEY_SEPARATOR)
+          .append(targetLanguage).append(KEY_SEPARATOR)
+          .append(promptHash).append(KEY_SEPARATOR)
+          .append(normalize(sourceText));
+        return HashUtil.sha256(sb.toString());
+    }
+
+    /**
+     * 原文を正規化します。Unicode正規化（NFC）と改行コードの統一のみを行い、空白は保持します。
+     * @param text 原文
+     * @return 正規化済みテキスト
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return normalized.replace("\r\n", "\n").replace('\r', '\n');
+    }
+
+    /**
+     * プロンプトのハッシュを計算します。
+     * @param prompt プロンプト（null・空文字列はデフォルトプロンプト扱い）
+     * @return ハッシュ文字列
+     */
+    public static String hashPrompt(String prompt) {
+        if (prompt == null || prompt.trim().isEmpty()) {
+            return "default";
+        }
+        return HashUtil.sha256(prompt.trim());
+    }
+}
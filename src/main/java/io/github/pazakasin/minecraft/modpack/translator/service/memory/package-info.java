@@ -0,0 +1,10 @@
+/**
+ * 翻訳メモリ機能。
+ * 翻訳済みテキストを永続化し、再実行時にAPI呼び出しを省略。
+ *
+ * <h2>主要クラス</h2>
+ * <ul>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.memory.TranslationMemory} - ディスク永続化された翻訳メモリ</li>
+ * </ul>
+ */
+package io.github.pazakasin.minecraft.modpack.translator.service.memory;
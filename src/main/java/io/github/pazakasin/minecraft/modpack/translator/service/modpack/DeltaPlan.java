@@ -0,0 +1,99 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.modpack;
+
+import java.io.File;
+
+import com.google.gson.JsonObject;
+
+/**
+ * 1ファイル分の差分翻訳計画を保持するクラス。
+ * 翻訳が必要なキーと、前回の翻訳結果から引き継ぐ訳文を保持。
+ */
+public class DeltaPlan {
+	/** ファイルごとのスナップショット保存先。 */
+	private final File snapshotDir;
+	
+	/** 翻訳元のJSONコンテンツ。 */
+	private final String enUsContent;
+	
+	/** 翻訳元のJSONオブジェクト。 */
+	private final JsonObject current;
+	
+	/** 翻訳が必要なエントリー。 */
+	private final JsonObject delta;
+	
+	/** 前回の翻訳結果（全件翻訳時はnull）。 */
+	private final JsonObject previousJaJp;
+	
+	/**
+	 * DeltaPlanのコンストラクタ。
+	 * @param snapshotDir ファイルごとのスナップショット保存先
+	 * @param enUsContent 翻訳元のJSONコンテンツ
+	 * @param current 翻訳元のJSONオブジェクト
+	 * @param delta 翻訳が必要なエントリー
+	 * @param previousJaJp 前回の翻訳結果（全件翻訳時はnull）
+	 */
+	public DeltaPlan(File snapshotDir, String enUsContent, JsonObject current,
+			JsonObject delta, JsonObject previousJaJp) {
+		this.snapshotDir = snapshotDir;
+		this.enUsContent = enUsContent;
+		this.current = current;
+		this.delta = delta;
+		this.previousJaJp = previousJaJp;
+	}
+	
+	/**
+	 * 全件翻訳かを返します。
+	 * @return 前回の翻訳結果を使用しない場合true
+	 */
+	public boolean isFull() {
+		return previousJaJp == null;
+	}
+	
+	/**
+	 * 前回の翻訳結果から引き継ぐ件数を返します。
+	 * @return 引き継ぎ件数
+	 */
+	public int getRetainedCount() {
+		return current.size() - delta.size();
+	}
+	
+	/**
+	 * スナップショット保存先を取得します。
+	 * @return スナップショット保存先
+	 */
+	public File getSnapshotDir() {
+		return snapshotDir;
+	}
+	
+	/**
+	 * 翻訳元のJSONコンテンツを取得します。
+	 * @return JSONコンテンツ
+	 */
+	public String getEnUsContent() {
+		return enUsContent;
+	}
+	
+	/**
+	 * 翻訳元のJSONオブジェクトを取得します。
+	 * @return JSONオブジェクト
+	 */
+	public JsonObject getCurrent() {
+		return current;
+	}
+	
+	/**
+	 * 翻訳が必要なエントリーを取得します。
+	 * @return 翻訳対象エントリー
+	 */
+	public JsonObject getDelta() {
+		return delta;
+	}
+	
+	/**
+	 * 前回の翻訳結果を取得します。
+	 * @return 前回の翻訳結果（全件翻訳時はnull）
+	 */
+	public JsonObject getPreviousJaJp() {
+		return previousJaJp;
+	}
+}
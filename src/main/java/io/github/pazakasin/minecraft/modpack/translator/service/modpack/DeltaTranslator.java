@@ -0,0 +1,274 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.modpack;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Properties;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import io.github.pazakasin.minecraft.modpack.translator.service.TranslationService;
+import io.github.pazakasin.minecraft.modpack.translator.service.callback.LogCallback;
+import io.github.pazakasin.minecraft.modpack.translator.service.callback.ProgressCallback;
+
+/**
+ * 前回の翻訳結果との差分のみを翻訳するクラス。
+ * 前回のen_us/ja_jpをスナップショットとして保存し、追加・変更されたキーのみを翻訳して既存訳とマージ。
+ * スナップショットのヘッダーにプロバイダーとプロンプトの識別値を記録し、設定が異なる場合は全件翻訳する。
+ */
+public class DeltaTranslator {
+	/** スナップショットの保存先ルート。 */
+	public static final String SNAPSHOT_ROOT = "cache/snapshots";
+	
+	/** スナップショットのヘッダーファイル名。 */
+	private static final String HEADER_FILE = "header.json";
+	
+	/** ヘッダーに記録するプロバイダーとプロンプトの識別値のキー。 */
+	private static final String TRANSLATOR_KEY = "translator";
+	
+	/** 差分翻訳の設定キー。 */
+	public static final String DELTA_MODE_KEY = "translation.delta";
+	
+	/** 翻訳サービス。 */
+	private final TranslationService translationService;
+	
+	/** ログコールバック。 */
+	private final LogCallback logger;
+	
+	/** 種別ごとのスナップショット保存先。 */
+	private final File snapshotDir;
+	
+	/** 差分翻訳が有効か。 */
+	private final boolean enabled;
+	
+	/** JSON処理用のGsonインスタンス。 */
+	private final Gson gson;
+	
+	/**
+	 * DeltaTranslatorのコンストラクタ。
+	 * @param translationService 翻訳サービス
+	 * @param logger ログコールバック
+	 * @param category スナップショットの種別（例: "mods"、"kubejs"）
+	 */
+	public DeltaTranslator(TranslationService translationService, LogCallback logger, String category) {
+		this.translationService = translationService;
+		this.logger = logger;
+		this.snapshotDir = new File(SNAPSHOT_ROOT, category);
+		this.enabled = isDeltaModeEnabled();
+		this.gson = new GsonBuilder().setPrettyPrinting().create();
+	}
+	
+	/**
+	 * 言語ファイルを翻訳します。前回のスナップショットがある場合は差分のみを翻訳します。
+	 * @param fileId ファイル識別子（ModIDまたは名前空間）
+	 * @param enUsContent 翻訳元のJSONコンテンツ
+	 * @param progressCallback 進捗コールバック（null可）
+	 * @return 翻訳後のJSONコンテンツ
+	 * @throws Exception 翻訳エラー
+	 */
+	public String translate(String fileId, String enUsContent, final ProgressCallback progressCallback)
+			throws Exception {
+		DeltaPlan plan = plan(fileId, enUsContent);
+		
+		if (plan == null || plan.isFull()) {
+			String translated = translationService.translateJsonFile(enUsContent, progressCallback);
+			if (plan != null) {
+				saveSnapshot(plan.getSnapshotDir(), enUsContent, translated);
+			}
+			return translated;
+		}
+		
+		JsonObject delta = plan.getDelta();
+		final int retainedCount = plan.getRetainedCount();
+		final int totalCount = plan.getCurrent().size();
+		log(String.format("[差分翻訳] %s - 翻訳対象 %d件 / 既存訳 %d件", fileId, delta.size(), retainedCount));
+		
+		JsonObject translatedDelta = new JsonObject();
+		if (delta.size() > 0) {
+			ProgressCallback offsetCallback = null;
+			if (progressCallback != null) {
+				offsetCallback = new ProgressCallback() {
+					@Override
+					public void onProgress(int current, int total) {
+						progressCallback.onProgress(retainedCount + current, totalCount);
+					}
+				};
+			}
+			JsonObject parsed = parse(translationService.translateJsonFile(gson.toJson(delta), offsetCallback));
+			if (parsed != null) {
+				translatedDelta = parsed;
+			}
+		} else if (progressCallback != null) {
+			progressCallback.onProgress(totalCount, totalCount);
+		}
+		
+		return complete(plan, translatedDelta);
+	}
+	
+	/**
+	 * 差分翻訳の計画を作成します。
+	 * 差分翻訳が無効な場合やスナップショットがない場合は全件翻訳の計画になります。
+	 * @param fileId ファイル識別子（ModIDまたは名前空間）
+	 * @param enUsContent 翻訳元のJSONコンテンツ
+	 * @return 差分翻訳計画（JSONとして解析できない場合はnull）
+	 */
+	public DeltaPlan plan(String fileId, String enUsContent) {
+		File fileSnapshotDir = new File(snapshotDir, fileId);
+		JsonObject current = parse(enUsContent);
+		if (current == null) {
+			return null;
+		}
+		
+		if (!isActive()) {
+			return new DeltaPlan(fileSnapshotDir, enUsContent, current, current, null);
+		}
+		
+		JsonObject header = readSnapshot(new File(fileSnapshotDir, HEADER_FILE));
+		String fingerprint = translationService.getTranslatorFingerprint();
+		if (header == null || fingerprint == null || !header.has(TRANSLATOR_KEY)
+				|| !fingerprint.equals(header.get(TRANSLATOR_KEY).getAsString())) {
+			// プロバイダーやプロンプトが変わった場合は前回の訳文を引き継がない
+			return new DeltaPlan(fileSnapshotDir, enUsContent, current, current, null);
+		}
+		
+		JsonObject previousEnUs = readSnapshot(new File(fileSnapshotDir, "en_us.json"));
+		JsonObject previousJaJp = readSnapshot(new File(fileSnapshotDir, "ja_jp.json"));
+		if (previousEnUs == null || previousJaJp == null) {
+			return new DeltaPlan(fileSnapshotDir, enUsContent, current, current, null);
+		}
+		
+		JsonObject delta = new JsonObject();
+		for (Map.Entry<String, JsonElement> entry : current.entrySet()) {
+			JsonElement previousValue = previousEnUs.get(entry.getKey());
+			if (previousValue == null || !previousValue.equals(entry.getValue())
+					|| !previousJaJp.has(entry.getKey())) {
+				delta.add(entry.getKey(), entry.getValue());
+			}
+		}
+		
+		return new DeltaPlan(fileSnapshotDir, enUsContent, current, delta, previousJaJp);
+	}
+	
+	/**
+	 * 差分の翻訳結果を前回の訳文とマージし、スナップショットを更新します。
+	 * @param plan 差分翻訳計画
+	 * @param translatedDelta 差分エントリーの翻訳結果
+	 * @return 元のキー順にマージした翻訳後のJSONコンテンツ
+	 */
+	public String complete(DeltaPlan plan, JsonObject translatedDelta) {
+		JsonObject delta = plan.getDelta();
+		JsonObject previousJaJp = plan.getPreviousJaJp();
+		
+		JsonObject merged = new JsonObject();
+		for (String key : plan.getCurrent().keySet()) {
+			if (delta.has(key)) {
+				if (translatedDelta.has(key)) {
+					merged.add(key, translatedDelta.get(key));
+				}
+			} else {
+				merged.add(key, previousJaJp.get(key));
+			}
+		}
+		
+		String result = gson.toJson(merged);
+		saveSnapshot(plan.getSnapshotDir(), plan.getEnUsContent(), result);
+		return result;
+	}
+	
+	/**
+	 * 差分翻訳とスナップショット保存を行う状態かを返します。
+	 * @return 有効かつデバッグモードでない場合true
+	 */
+	private boolean isActive() {
+		return enabled && !translationService.isDebugMode();
+	}
+	
+	/**
+	 * 翻訳元と翻訳結果をスナップショットとして保存します。
+	 * ヘッダーは内容の保存後に書き込むため、途中で失敗したスナップショットは次回使用されません。
+	 * @param fileSnapshotDir ファイルごとのスナップショット保存先
+	 * @param enUsContent 翻訳元のJSONコンテンツ
+	 * @param jaJpContent 翻訳後のJSONコンテンツ
+	 */
+	private void saveSnapshot(File fileSnapshotDir, String enUsContent, String jaJpContent) {
+		if (!isActive()) {
+			return;
+		}
+		String fingerprint = translationService.getTranslatorFingerprint();
+		if (fingerprint == null) {
+			return;
+		}
+		try {
+			fileSnapshotDir.mkdirs();
+			File headerFile = new File(fileSnapshotDir, HEADER_FILE);
+			Files.deleteIfExists(headerFile.toPath());
+			Files.write(new File(fileSnapshotDir, "en_us.json").toPath(),
+					enUsContent.getBytes(StandardCharsets.UTF_8));
+			Files.write(new File(fileSnapshotDir, "ja_jp.json").toPath(),
+					jaJpContent.getBytes(StandardCharsets.UTF_8));
+			
+			JsonObject header = new JsonObject();
+			header.addProperty(TRANSLATOR_KEY, fingerprint);
+			Files.write(headerFile.toPath(), gson.toJson(header).getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			log("[差分翻訳] スナップショットの保存に失敗しました: " + e.getMessage());
+		}
+	}
+	
+	/**
+	 * スナップショットファイルを読み込みます。
+	 * @param file スナップショットファイル
+	 * @return JSONオブジェクト（存在しない・不正な場合はnull）
+	 */
+	private JsonObject readSnapshot(File file) {
+		if (!file.exists()) {
+			return null;
+		}
+		try {
+			return parse(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * JSON文字列をオブジェクトとして解析します。
+	 * @param content JSON文字列
+	 * @return JSONオブジェクト（不正な場合はnull）
+	 */
+	private JsonObject parse(String content) {
+		try {
+			return gson.fromJson(content, JsonObject.class);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * 設定ファイルから差分翻訳の有効/無効を取得します。
+	 * @return 有効時true（未設定時は有効）
+	 */
+	private static boolean isDeltaModeEnabled() {
+		try {
+			Properties settings = io.github.pazakasin.minecraft.modpack.translator.controller.SettingsDialog.getStoredSettings();
+			return Boolean.parseBoolean(settings.getProperty(DELTA_MODE_KEY, "true"));
+		} catch (Exception e) {
+			return true;
+		}
+	}
+	
+	/**
+	 * ログメッセージを出力します。
+	 * @param message ログメッセージ
+	 */
+	private void log(String message) {
+		if (logger != null) {
+			logger.onLog(message);
+		}
+	}
+}
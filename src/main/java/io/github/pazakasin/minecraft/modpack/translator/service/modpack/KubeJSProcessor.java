@@ -92,6 +92,12 @@ public class KubeJSProcessor {
 	/** ログコールバック。 */
 	private final LogCallback logger;
 	
+	/** 差分翻訳処理。 */
+	private final DeltaTranslator deltaTranslator;
+	
+	/** 小規模ファイルのまとめ翻訳処理（null時は使用しない）。 */
+	private PackBatchTranslator packBatchTranslator;
+	
 	/** ファイル状態更新コールバック。 */
 	private FileStateUpdateCallback fileStateCallback;
 	
@@ -103,6 +109,15 @@ public class KubeJSProcessor {
 	public KubeJSProcessor(TranslationService translationService, LogCallback logger) {
 		this.translationService = translationService;
 		this.logger = logger;
+		this.deltaTranslator = new DeltaTranslator(translationService, logger, "kubejs");
+	}
+	
+	/**
+	 * 小規模ファイルのまとめ翻訳処理を設定します。
+	 * @param packBatchTranslator まとめ翻訳処理（nullで使用しない）
+	 */
+	public void setPackBatchTranslator(PackBatchTranslator packBatchTranslator) {
+		this.packBatchTranslator = packBatchTranslator;
 	}
 	
 	/**
@@ -196,7 +211,14 @@ public class KubeJSProcessor {
 	 */
 	private String translateWithProgress(final TranslatableFile file, String content, 
 			final int currentNum, final int totalFiles) throws Exception {
-		return translationService.translateJsonFile(content, new ProgressCallback() {
+		if (packBatchTranslator != null) {
+			String prefetched = packBatchTranslator.take(file);
+			if (prefetched != null) {
+				return prefetched;
+			}
+		}
+		
+		return deltaTranslator.translate(file.getFileId(), content, new ProgressCallback() {
 			@Override
 			public void onProgress(int current, int total) {
 				file.setProgress(current, total);
@@ -6,6 +6,7 @@ import io.github.pazakasin.minecraft.modpack.translator.model.ModProcessingResul
 import io.github.pazakasin.minecraft.modpack.translator.service.TranslationService;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.LogCallback;
 import io.github.pazakasin.minecraft.modpack.translator.service.processor.CharacterCounter;
+import io.github.pazakasin.minecraft.modpack.translator.service.processor.JarEntryContentSource;
 import io.github.pazakasin.minecraft.modpack.translator.service.processor.JarFileAnalyzer;
 import io.github.pazakasin.minecraft.modpack.translator.service.processor.LanguageFileWriter;
 
@@ -20,9 +21,6 @@ public class ModJarProcessor {
 	/** ログコールバック。 */
 	private final LogCallback logger;
 	
-	/** JARファイルアナライザー。 */
-	private final JarFileAnalyzer jarAnalyzer;
-	
 	/** ファイルライター。 */
 	private final LanguageFileWriter fileWriter;
 	
@@ -39,24 +37,24 @@ public class ModJarProcessor {
 			LanguageFileWriter fileWriter) {
 		this.translationService = translationService;
 		this.logger = logger;
-		this.jarAnalyzer = new JarFileAnalyzer();
 		this.fileWriter = fileWriter;
 		this.charCounter = new CharacterCounter();
 	}
 	
 	/**
-	 * 単一のMod JARファイルを処理します。
+	 * 解析済みの言語ファイル情報を使用してMod JAR内の1つの名前空間を処理します。
 	 * @param jarFile 処理対象JARファイル
+	 * @param langInfo 解析済みの名前空間の言語ファイル情報
+	 * @param namespaceCount JAR内の翻訳対象の名前空間数
 	 * @param currentModNum 現在のMod番号
 	 * @param totalMods 全Mod数
 	 * @return 処理結果
 	 * @throws Exception 処理エラー
 	 */
-	public ModProcessingResult process(File jarFile, int currentModNum, int totalMods) throws Exception {
+	public ModProcessingResult process(File jarFile, JarFileAnalyzer.LanguageFileInfo langInfo,
+			int namespaceCount, int currentModNum, int totalMods) throws Exception {
 		ModProcessingResult result = new ModProcessingResult();
-		result.modName = jarFile.getName().replace(".jar", "");
-		
-		JarFileAnalyzer.LanguageFileInfo langInfo = jarAnalyzer.analyze(jarFile);
+		result.modName = JarFileAnalyzer.getDisplayName(jarFile, langInfo.modId, namespaceCount);
 		
 		result.langFolderPath = langInfo.langFolderPath;
 		result.hasEnUs = langInfo.hasEnUs;
@@ -69,8 +67,9 @@ public class ModJarProcessor {
 		
 		result.characterCount = charCounter.countCharacters(langInfo.enUsContent);
 		
-		if (langInfo.jaJpContent != null) {
-			fileWriter.writeLanguageFiles(langInfo.modId, langInfo.enUsContent, langInfo.jaJpContent);
+		if (langInfo.hasJaJp) {
+			String jaJpContent = new JarEntryContentSource(jarFile, langInfo.jaJpEntryName).load();
+			fileWriter.writeLanguageFiles(langInfo.modId, langInfo.enUsContent, jaJpContent);
 			result.translationSuccess = true;
 		} else {
 			try {
@@ -96,6 +96,12 @@ public class ModLanguageFileHandler {
 	/** ファイルライター。 */
 	private final LanguageFileWriter fileWriter;
 	
+	/** 差分翻訳処理。 */
+	private final DeltaTranslator deltaTranslator;
+	
+	/** 小規模ファイルのまとめ翻訳処理（null時は使用しない）。 */
+	private PackBatchTranslator packBatchTranslator;
+	
 	/** ファイル状態更新コールバック。 */
 	private FileStateUpdateCallback fileStateCallback;
 	
@@ -110,6 +116,15 @@ public class ModLanguageFileHandler {
 		this.translationService = translationService;
 		this.logger = logger;
 		this.fileWriter = fileWriter;
+		this.deltaTranslator = new DeltaTranslator(translationService, logger, "mods");
+	}
+	
+	/**
+	 * 小規模ファイルのまとめ翻訳処理を設定します。
+	 * @param packBatchTranslator まとめ翻訳処理（nullで使用しない）
+	 */
+	public void setPackBatchTranslator(PackBatchTranslator packBatchTranslator) {
+		this.packBatchTranslator = packBatchTranslator;
 	}
 	
 	/**
@@ -203,7 +218,14 @@ public class ModLanguageFileHandler {
 	 */
 	private String translateWithProgress(final TranslatableFile file, String content, 
 			final int currentMod, final int totalMods) throws Exception {
-		return translationService.translateJsonFile(content, new ProgressCallback() {
+		if (packBatchTranslator != null) {
+			String prefetched = packBatchTranslator.take(file);
+			if (prefetched != null) {
+				return prefetched;
+			}
+		}
+		
+		return deltaTranslator.translate(file.getFileId(), content, new ProgressCallback() {
 			@Override
 			public void onProgress(int current, int total) {
 				file.setProgress(current, total);
@@ -0,0 +1,292 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.modpack;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import io.github.pazakasin.minecraft.modpack.translator.model.FileType;
+import io.github.pazakasin.minecraft.modpack.translator.model.ProcessingState;
+import io.github.pazakasin.minecraft.modpack.translator.model.TranslatableFile;
+import io.github.pazakasin.minecraft.modpack.translator.service.TranslationService;
+import io.github.pazakasin.minecraft.modpack.translator.service.callback.FileStateUpdateCallback;
+import io.github.pazakasin.minecraft.modpack.translator.service.callback.LogCallback;
+import io.github.pazakasin.minecraft.modpack.translator.service.callback.ProgressCallback;
+
+/**
+ * 小さな言語ファイルをまとめて翻訳するクラス。
+ * 複数ファイルのキーを1つのJSONに結合して翻訳し、結果をファイルごとに振り分ける。
+ * プロバイダー側で満杯のバッチが組まれるため、リクエスト数とプロンプトのオーバーヘッドを削減できる。
+ * 翻訳中のファイルは状態と進捗を通知し、スレッドの割り込み時は残りのグループを個別翻訳に委ねる。
+ */
+public class PackBatchTranslator {
+	/** まとめ翻訳の対象とするファイルの最大キー数。 */
+	private static final int SMALL_FILE_KEY_LIMIT = 20;
+	
+	/** 1回の翻訳呼び出しでまとめる最大キー数。 */
+	private static final int COMBINED_KEY_LIMIT = 300;
+	
+	/** 結合キーのファイル番号とキーの区切り文字。 */
+	private static final char KEY_SEPARATOR = '|';
+	
+	/** 翻訳サービス。 */
+	private final TranslationService translationService;
+	
+	/** ログコールバック。 */
+	private final LogCallback logger;
+	
+	/** Mod言語ファイル用の差分翻訳処理。 */
+	private final DeltaTranslator modDelta;
+	
+	/** KubeJS言語ファイル用の差分翻訳処理。 */
+	private final DeltaTranslator kubeJsDelta;
+	
+	/** まとめ翻訳済みのファイルと翻訳結果のマップ。 */
+	private final Map<TranslatableFile, String> prefetched;
+	
+	/** JSON処理用のGsonインスタンス。 */
+	private final Gson gson;
+	
+	/** ファイル状態更新コールバック（null可）。 */
+	private FileStateUpdateCallback fileStateCallback;
+	
+	/**
+	 * PackBatchTranslatorのコンストラクタ。
+	 * @param translationService 翻訳サービス
+	 * @param logger ログコールバック
+	 */
+	public PackBatchTranslator(TranslationService translationService, LogCallback logger) {
+		this.translationService = translationService;
+		this.logger = logger;
+		this.modDelta = new DeltaTranslator(translationService, logger, "mods");
+		this.kubeJsDelta = new DeltaTranslator(translationService, logger, "kubejs");
+		this.prefetched = new IdentityHashMap<TranslatableFile, String>();
+		this.gson = new Gson();
+	}
+	
+	/**
+	 * ファイル状態更新コールバックを設定します。
+	 * @param callback コールバック（null可）
+	 */
+	public void setFileStateCallback(FileStateUpdateCallback callback) {
+		this.fileStateCallback = callback;
+	}
+	
+	/**
+	 * 小さな言語ファイルをまとめて翻訳し、結果を保持します。
+	 * 翻訳に失敗したファイルは保持せず、通常の個別翻訳に委ねます。
+	 * グループの翻訳前に割り込みを確認し、割り込まれた場合は以降のグループを翻訳しません。
+	 * @param files 翻訳対象ファイルのリスト
+	 */
+	public void prefetch(List<TranslatableFile> files) {
+		List<TranslatableFile> groupFiles = new ArrayList<TranslatableFile>();
+		List<DeltaPlan> groupPlans = new ArrayList<DeltaPlan>();
+		int groupKeyCount = 0;
+		int fileCount = 0;
+		int requestCount = 0;
+		
+		for (TranslatableFile file : files) {
+			DeltaTranslator delta = getDeltaTranslator(file);
+			if (delta == null || file.isHasExistingJaJp() || file.getFileContent() == null) {
+				continue;
+			}
+			
+			DeltaPlan plan = delta.plan(file.getFileId(), file.getFileContent());
+			if (plan == null || plan.getCurrent().size() > SMALL_FILE_KEY_LIMIT) {
+				continue;
+			}
+			
+			if (plan.getDelta().size() == 0) {
+				prefetched.put(file, delta.complete(plan, new JsonObject()));
+				fileCount++;
+				continue;
+			}
+			
+			if (groupKeyCount + plan.getDelta().size() > COMBINED_KEY_LIMIT) {
+				if (Thread.currentThread().isInterrupted()) {
+					log("[まとめ翻訳] 中断されたため、残りのファイルは個別に翻訳します");
+					return;
+				}
+				fileCount += translateGroup(groupFiles, groupPlans);
+				requestCount++;
+				groupFiles.clear();
+				groupPlans.clear();
+				groupKeyCount = 0;
+			}
+			
+			groupFiles.add(file);
+			groupPlans.add(plan);
+			groupKeyCount += plan.getDelta().size();
+		}
+		
+		if (!groupFiles.isEmpty()) {
+			if (Thread.currentThread().isInterrupted()) {
+				log("[まとめ翻訳] 中断されたため、残りのファイルは個別に翻訳します");
+				return;
+			}
+			fileCount += translateGroup(groupFiles, groupPlans);
+			requestCount++;
+		}
+		
+		if (fileCount > 0) {
+			log(String.format("[まとめ翻訳] 小規模ファイル %d件を %d回の翻訳呼び出しで処理しました", fileCount, requestCount));
+		}
+	}
+	
+	/**
+	 * まとめ翻訳済みの結果を取り出します。
+	 * @param file 翻訳対象ファイル
+	 * @return 翻訳後のJSONコンテンツ（まとめ翻訳していない場合はnull）
+	 */
+	public synchronized String take(TranslatableFile file) {
+		return prefetched.remove(file);
+	}
+	
+	/**
+	 * ファイルのグループを1つのJSONに結合して翻訳し、ファイルごとに振り分けます。
+	 * 翻訳中はグループ内の各ファイルを翻訳中状態にし、結合したJSONの進捗をファイルごとの進捗として通知します。
+	 * @param groupFiles グループ内のファイル
+	 * @param groupPlans グループ内の差分翻訳計画
+	 * @return 翻訳結果を保持したファイル数
+	 */
+	private int translateGroup(final List<TranslatableFile> groupFiles, final List<DeltaPlan> groupPlans) {
+		JsonObject combined = new JsonObject();
+		for (int i = 0; i < groupPlans.size(); i++) {
+			for (Map.Entry<String, JsonElement> entry : groupPlans.get(i).getDelta().entrySet()) {
+				combined.add(i + String.valueOf(KEY_SEPARATOR) + entry.getKey(), entry.getValue());
+			}
+		}
+		
+		List<ProcessingState> previousStates = new ArrayList<ProcessingState>();
+		for (int i = 0; i < groupFiles.size(); i++) {
+			TranslatableFile file = groupFiles.get(i);
+			previousStates.add(file.getProcessingState());
+			file.setProcessingState(ProcessingState.TRANSLATING);
+			file.setResultMessage(ProcessingState.TRANSLATING.getDisplayName());
+			reportProgress(file, groupPlans.get(i), 0, 1);
+		}
+		
+		JsonObject translated = null;
+		try {
+			translated = gson.fromJson(translationService.translateJsonFile(gson.toJson(combined),
+					new ProgressCallback() {
+						@Override
+						public void onProgress(int current, int total) {
+							for (int i = 0; i < groupFiles.size(); i++) {
+								reportProgress(groupFiles.get(i), groupPlans.get(i), current, total);
+							}
+						}
+					}), JsonObject.class);
+		} catch (Exception e) {
+			log("[まとめ翻訳] 失敗したため個別に翻訳します: " + e.getMessage());
+		}
+		if (translated == null) {
+			restoreStates(groupFiles, previousStates);
+			return 0;
+		}
+		
+		List<JsonObject> perFile = new ArrayList<JsonObject>();
+		for (int i = 0; i < groupPlans.size(); i++) {
+			perFile.add(new JsonObject());
+		}
+		for (Map.Entry<String, JsonElement> entry : translated.entrySet()) {
+			String key = entry.getKey();
+			int separator = key.indexOf(KEY_SEPARATOR);
+			if (separator <= 0) {
+				continue;
+			}
+			try {
+				int index = Integer.parseInt(key.substring(0, separator));
+				if (index >= 0 && index < perFile.size()) {
+					perFile.get(index).add(key.substring(separator + 1), entry.getValue());
+				}
+			} catch (NumberFormatException e) {
+				// 不明なキーは無視
+			}
+		}
+		
+		int count = 0;
+		for (int i = 0; i < groupFiles.size(); i++) {
+			DeltaPlan plan = groupPlans.get(i);
+			JsonObject fileResult = perFile.get(i);
+			TranslatableFile file = groupFiles.get(i);
+			if (!fileResult.keySet().containsAll(plan.getDelta().keySet())) {
+				restoreStates(groupFiles.subList(i, i + 1), previousStates.subList(i, i + 1));
+				continue;
+			}
+			prefetched.put(file, getDeltaTranslator(file).complete(plan, fileResult));
+			reportProgress(file, plan, 1, 1);
+			count++;
+		}
+		return count;
+	}
+	
+	/**
+	 * 結合したJSONの進捗をファイルの進捗に換算して通知します。
+	 * @param file 翻訳対象ファイル
+	 * @param plan ファイルの差分翻訳計画
+	 * @param current 結合したJSONの処理済み件数
+	 * @param total 結合したJSONの全件数
+	 */
+	private void reportProgress(TranslatableFile file, DeltaPlan plan, int current, int total) {
+		int fileTotal = plan.getCurrent().size();
+		int translatedCount = total > 0 ? (int) ((long) plan.getDelta().size() * current / total) : 0;
+		file.setProgress(plan.getRetainedCount() + translatedCount, fileTotal);
+		updateFileState(file);
+	}
+	
+	/**
+	 * まとめ翻訳できなかったファイルの状態を翻訳前に戻します。
+	 * @param files 対象ファイル
+	 * @param states 翻訳前の状態
+	 */
+	private void restoreStates(List<TranslatableFile> files, List<ProcessingState> states) {
+		for (int i = 0; i < files.size(); i++) {
+			TranslatableFile file = files.get(i);
+			ProcessingState state = states.get(i);
+			file.setProcessingState(state);
+			file.setResultMessage(state != null ? state.getDisplayName() : null);
+			file.setProgress(0, 0);
+			updateFileState(file);
+		}
+	}
+	
+	/**
+	 * ファイルの状態を更新し、コールバックを呼び出します。
+	 * @param file 対象ファイル
+	 */
+	private void updateFileState(TranslatableFile file) {
+		if (fileStateCallback != null) {
+			fileStateCallback.onFileStateUpdate(file);
+		}
+	}
+	
+	/**
+	 * ファイル種別に対応する差分翻訳処理を取得します。
+	 * @param file 翻訳対象ファイル
+	 * @return 差分翻訳処理（まとめ翻訳の対象外の種別はnull）
+	 */
+	private DeltaTranslator getDeltaTranslator(TranslatableFile file) {
+		if (file.getFileType() == FileType.MOD_LANG_FILE) {
+			return modDelta;
+		}
+		if (file.getFileType() == FileType.KUBEJS_LANG_FILE) {
+			return kubeJsDelta;
+		}
+		return null;
+	}
+	
+	/**
+	 * ログメッセージを出力します。
+	 * @param message ログメッセージ
+	 */
+	private void log(String message) {
+		if (logger != null) {
+			logger.onLog(message);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.modpack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.pazakasin.minecraft.modpack.translator.model.ModProcessingResult;
+import io.github.pazakasin.minecraft.modpack.translator.model.TranslatableFile;
+import io.github.pazakasin.minecraft.modpack.translator.service.callback.LogCallback;
+
+/**
+ * 複数ファイルの翻訳を並行して進めるスケジューラー。
+ * 同時に処理するファイル数を制限し、各ファイルは翻訳が終わり次第書き込まれる。
+ * 結果は投入順に返し、タスクが例外で終了したファイルは失敗の結果として返す。
+ */
+public class PackTranslationScheduler {
+	/** 同時処理ファイル数の設定キー。 */
+	public static final String PARALLEL_FILES_KEY = "translation.parallel_files";
+	
+	/** 同時処理ファイル数のデフォルト値。 */
+	private static final int DEFAULT_PARALLEL_FILES = 3;
+	
+	/** ファイル処理用のスレッドプール。 */
+	private final ExecutorService executor;
+	
+	/** 投入済みタスクのFuture（投入順）。 */
+	private final List<Future<List<ModProcessingResult>>> futures;
+	
+	/** 投入済みタスクの処理対象ファイル（投入順）。 */
+	private final List<TranslatableFile> files;
+	
+	/** ログコールバック。 */
+	private final LogCallback logger;
+	
+	/**
+	 * 設定ファイルの同時処理ファイル数を使用するPackTranslationSchedulerのコンストラクタ。
+	 * @param logger ログコールバック
+	 */
+	public PackTranslationScheduler(LogCallback logger) {
+		this(getConfiguredParallelFiles(), logger);
+	}
+	
+	/**
+	 * PackTranslationSchedulerのコンストラクタ。
+	 * @param maxFilesInFlight 同時処理ファイル数（1未満は1として扱う）
+	 * @param logger ログコールバック
+	 */
+	public PackTranslationScheduler(int maxFilesInFlight, LogCallback logger) {
+		this.executor = Executors.newFixedThreadPool(Math.max(1, maxFilesInFlight), new ThreadFactory() {
+			private final AtomicInteger threadNumber = new AtomicInteger(1);
+			
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "pack-translation-" + threadNumber.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.futures = new ArrayList<Future<List<ModProcessingResult>>>();
+		this.files = new ArrayList<TranslatableFile>();
+		this.logger = logger;
+	}
+	
+	/**
+	 * ファイル処理タスクを投入します。
+	 * @param file 処理対象ファイル
+	 * @param task 処理結果のリストを返すタスク
+	 */
+	public void submit(TranslatableFile file, Callable<List<ModProcessingResult>> task) {
+		files.add(file);
+		futures.add(executor.submit(task));
+	}
+	
+	/**
+	 * 投入済みの全タスクの完了を待ち、結果を投入順に返します。
+	 * タスクが例外で終了した場合はログに出力し、失敗の結果を追加します。
+	 * @return 全タスクの処理結果
+	 * @throws InterruptedException 待機中の割り込み
+	 */
+	public List<ModProcessingResult> awaitAll() throws InterruptedException {
+		List<ModProcessingResult> results = new ArrayList<ModProcessingResult>();
+		try {
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					results.addAll(futures.get(i).get());
+				} catch (ExecutionException e) {
+					results.add(createFailedResult(files.get(i), e.getCause()));
+				}
+			}
+		} finally {
+			futures.clear();
+			files.clear();
+			executor.shutdownNow();
+		}
+		return results;
+	}
+	
+	/**
+	 * 例外で終了したタスクの失敗結果を生成し、ログに出力します。
+	 * @param file 処理対象ファイル
+	 * @param cause タスクが送出した例外
+	 * @return 失敗の処理結果
+	 */
+	private ModProcessingResult createFailedResult(TranslatableFile file, Throwable cause) {
+		ModProcessingResult result = new ModProcessingResult();
+		result.modName = file.getModName();
+		result.langFolderPath = file.getLangFolderPath();
+		result.hasEnUs = true;
+		result.hasJaJp = file.isHasExistingJaJp();
+		result.characterCount = file.getCharacterCount();
+		result.translated = true;
+		result.translationSuccess = false;
+		result.errorException = cause instanceof Exception ? (Exception) cause : new Exception(cause);
+		
+		if (logger != null) {
+			java.io.StringWriter sw = new java.io.StringWriter();
+			cause.printStackTrace(new java.io.PrintWriter(sw));
+			logger.onLog(String.format("[失敗] %s: %s", file.getModName(), cause));
+			logger.onLog(sw.toString());
+		}
+		return result;
+	}
+	
+	/**
+	 * 設定ファイルから同時処理ファイル数を取得します。
+	 * @return 同時処理ファイル数（未設定・不正値の場合はデフォルト値）
+	 */
+	public static int getConfiguredParallelFiles() {
+		try {
+			Properties settings = io.github.pazakasin.minecraft.modpack.translator.controller.SettingsDialog.getStoredSettings();
+			int count = Integer.parseInt(settings.getProperty(PARALLEL_FILES_KEY,
+					String.valueOf(DEFAULT_PARALLEL_FILES)).trim());
+			return count > 0 ? count : DEFAULT_PARALLEL_FILES;
+		} catch (Exception e) {
+			return DEFAULT_PARALLEL_FILES;
+		}
+	}
+}
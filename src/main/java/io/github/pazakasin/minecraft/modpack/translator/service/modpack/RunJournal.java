@@ -0,0 +1,352 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.modpack;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+import io.github.pazakasin.minecraft.modpack.translator.model.TranslatableFile;
+import io.github.pazakasin.minecraft.modpack.translator.util.PathUtil;
+
+/**
+ * 選択ファイル翻訳の進行状況を記録する実行ジャーナル。
+ * 翻訳開始時の対象ファイル、完了したバッチ、完了したファイルを1行1レコードのJSONで追記し、
+ * 中断後の再開時に未完了のファイルを特定するために使用。
+ * ジャーナルは対象のModPackに紐付き、別のModPackのジャーナルは存在しないものとして扱う。
+ */
+public class RunJournal {
+	/** ジャーナルの既定保存先。 */
+	public static final String DEFAULT_JOURNAL_PATH = "work/run_journal.jsonl";
+	
+	/** 翻訳開始レコード。 */
+	private static final String TYPE_START = "start";
+	
+	/** 再開レコード。 */
+	private static final String TYPE_RESUME = "resume";
+	
+	/** バッチ完了レコード。 */
+	private static final String TYPE_BATCH = "batch";
+	
+	/** ファイル完了レコード。 */
+	private static final String TYPE_FILE = "file";
+	
+	/** 翻訳終了レコード。 */
+	private static final String TYPE_FINISH = "finish";
+	
+	/** 同じファイルのバッチ完了を記録する最小間隔（ミリ秒）。 */
+	private static final long BATCH_RECORD_INTERVAL_MS = 1000;
+	
+	/** バッチ完了レコードをフラッシュする最小間隔（ミリ秒）。 */
+	private static final long BATCH_FLUSH_INTERVAL_MS = 1000;
+	
+	/** 保存先ファイル。 */
+	private final File journalFile;
+	
+	/** 対象ModPackの正規化されたパス。 */
+	private final String packPath;
+	
+	/** JSON処理用のGsonインスタンス。 */
+	private final Gson gson;
+	
+	/** ファイルキーごとの最後に記録した翻訳済みエントリー数。 */
+	private final Map<String, Integer> recordedProgress;
+	
+	/** ファイルキーごとの最後にバッチ完了を記録した時刻。 */
+	private final Map<String, Long> recordedTimes;
+	
+	/** 最後にフラッシュした時刻。 */
+	private long lastFlushTime;
+	
+	/** 書き込み中のライター（未開始時はnull）。 */
+	private BufferedWriter writer;
+	
+	/**
+	 * 既定の保存先を使用するRunJournalのコンストラクタ。
+	 * @param packPath 対象ModPackのパス
+	 */
+	public RunJournal(String packPath) {
+		this(new File(DEFAULT_JOURNAL_PATH), packPath);
+	}
+	
+	/**
+	 * RunJournalのコンストラクタ。
+	 * @param journalFile 保存先ファイル
+	 * @param packPath 対象ModPackのパス
+	 */
+	public RunJournal(File journalFile, String packPath) {
+		this.journalFile = journalFile;
+		this.packPath = PathUtil.canonicalPath(packPath);
+		this.gson = new Gson();
+		this.recordedProgress = new HashMap<String, Integer>();
+		this.recordedTimes = new HashMap<String, Long>();
+	}
+	
+	/**
+	 * 新しい翻訳を開始します。既存のジャーナルは破棄されます。
+	 * @param files 翻訳対象ファイルのリスト
+	 */
+	public synchronized void start(List<TranslatableFile> files) {
+		open(false);
+		append(createFilesRecord(TYPE_START, files), true);
+	}
+	
+	/**
+	 * 中断した翻訳を再開します。既存のジャーナルに追記します。
+	 * @param files 残りの翻訳対象ファイルのリスト
+	 */
+	public synchronized void resume(List<TranslatableFile> files) {
+		open(true);
+		append(createFilesRecord(TYPE_RESUME, files), true);
+	}
+	
+	/**
+	 * ファイル内のバッチが完了したことを記録します。
+	 * 翻訳済み数が増えていない場合と、同じファイルを前回記録してから間もない場合は記録しません。
+	 * 最後のバッチは間隔に関係なく記録します。
+	 * @param file 対象ファイル
+	 * @param current 翻訳済みエントリー数
+	 * @param total 全エントリー数
+	 */
+	public synchronized void recordBatch(TranslatableFile file, int current, int total) {
+		String key = keyOf(file);
+		Integer last = recordedProgress.get(key);
+		if (writer == null || current <= 0 || (last != null && last >= current)) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		Long lastTime = recordedTimes.get(key);
+		if (current < total && lastTime != null && now - lastTime < BATCH_RECORD_INTERVAL_MS) {
+			return;
+		}
+		recordedProgress.put(key, current);
+		recordedTimes.put(key, now);
+		
+		JsonObject record = createRecord(TYPE_BATCH);
+		record.addProperty("file", key);
+		record.addProperty("done", current);
+		record.addProperty("total", total);
+		append(record, now - lastFlushTime >= BATCH_FLUSH_INTERVAL_MS);
+	}
+	
+	/**
+	 * ファイルの処理が完了したことを記録します。
+	 * 失敗したファイルは未完了のまま残り、再開時に再度翻訳されます。
+	 * @param file 対象ファイル
+	 * @param success 出力まで成功した場合true
+	 */
+	public synchronized void recordFile(TranslatableFile file, boolean success) {
+		JsonObject record = createRecord(TYPE_FILE);
+		record.addProperty("file", keyOf(file));
+		record.addProperty("success", success);
+		append(record, true);
+	}
+	
+	/**
+	 * 翻訳が最後まで実行されたことを記録し、ジャーナルを閉じます。
+	 */
+	public synchronized void finish() {
+		append(createRecord(TYPE_FINISH), true);
+		finishWriter();
+	}
+	
+	/**
+	 * 中断または例外で終了した翻訳のジャーナルを、終了を記録せずに閉じます。
+	 */
+	public synchronized void abort() {
+		finishWriter();
+	}
+	
+	/**
+	 * ジャーナルを読み込み、未完了のファイルを取得します。
+	 * 最後の翻訳開始以降に対象となったファイルのうち、成功の記録がないものを返します。
+	 * 別のModPackで開始された翻訳の記録と、途中で途切れた行などの不正な行は読み飛ばします。
+	 * @return 未完了ファイルのキーと前回までの翻訳済みエントリー数のマップ（対象ファイルの順序）
+	 */
+	public synchronized Map<String, Integer> loadPending() {
+		Map<String, Integer> pending = new LinkedHashMap<String, Integer>();
+		if (!journalFile.exists()) {
+			return pending;
+		}
+		
+		try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+			boolean matching = false;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.trim().isEmpty()) {
+					continue;
+				}
+				try {
+					matching = applyRecord(gson.fromJson(line, JsonObject.class), pending, matching);
+				} catch (JsonParseException | IllegalStateException | UnsupportedOperationException
+						| NullPointerException e) {
+					// 不正な行は無視
+				}
+			}
+		} catch (IOException e) {
+			System.err.println("[実行ジャーナル] 読み込みに失敗しました: " + e.getMessage());
+		}
+		return pending;
+	}
+	
+	/**
+	 * 再開可能な未完了ファイルがあるかを判定します。
+	 * @return 未完了ファイルがある場合true
+	 */
+	public boolean hasPending() {
+		return !loadPending().isEmpty();
+	}
+	
+	/**
+	 * ジャーナル内でファイルを識別するキーを取得します。
+	 * 同じJAR内の複数の名前空間は読み込み元のパスを共有するため、ファイル識別子を付加します。
+	 * @param file 対象ファイル
+	 * @return ファイルキー
+	 */
+	public static String keyOf(TranslatableFile file) {
+		return file.getSourceFilePath() + "!" + file.getFileId();
+	}
+	
+	/**
+	 * 1レコード分の内容を未完了ファイルのマップに反映します。
+	 * 開始・再開レコードのModPackが一致しない場合、以降のレコードは次の開始まで無視します。
+	 * @param record レコード
+	 * @param pending 未完了ファイルのマップ
+	 * @param matching 直前までのレコードが対象ModPackのものである場合true
+	 * @return 以降のレコードが対象ModPackのものである場合true
+	 */
+	private boolean applyRecord(JsonObject record, Map<String, Integer> pending, boolean matching) {
+		if (record == null || !record.has("type")) {
+			return matching;
+		}
+		String type = record.get("type").getAsString();
+		
+		if (TYPE_START.equals(type) || TYPE_RESUME.equals(type)) {
+			boolean samePack = record.has("pack") && packPath.equals(record.get("pack").getAsString());
+			if (TYPE_START.equals(type) || !samePack) {
+				pending.clear();
+			}
+			if (TYPE_START.equals(type) && samePack) {
+				for (JsonElement file : record.getAsJsonArray("files")) {
+					pending.put(file.getAsString(), 0);
+				}
+			}
+			return samePack;
+		}
+		if (!matching) {
+			return false;
+		}
+		
+		if (TYPE_BATCH.equals(type)) {
+			String key = record.get("file").getAsString();
+			if (pending.containsKey(key)) {
+				pending.put(key, Math.max(pending.get(key), record.get("done").getAsInt()));
+			}
+		} else if (TYPE_FILE.equals(type)) {
+			if (record.get("success").getAsBoolean()) {
+				pending.remove(record.get("file").getAsString());
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * 対象ファイル一覧を含むレコードを生成します。
+	 * @param type レコード種別
+	 * @param files 対象ファイルのリスト
+	 * @return レコード
+	 */
+	private JsonObject createFilesRecord(String type, List<TranslatableFile> files) {
+		JsonObject record = createRecord(type);
+		record.addProperty("pack", packPath);
+		JsonArray keys = new JsonArray();
+		for (TranslatableFile file : files) {
+			keys.add(keyOf(file));
+		}
+		record.add("files", keys);
+		return record;
+	}
+	
+	/**
+	 * 種別と時刻を設定したレコードを生成します。
+	 * @param type レコード種別
+	 * @return レコード
+	 */
+	private JsonObject createRecord(String type) {
+		JsonObject record = new JsonObject();
+		record.addProperty("type", type);
+		record.addProperty("time", System.currentTimeMillis());
+		return record;
+	}
+	
+	/**
+	 * ジャーナルを書き込み用に開きます。
+	 * @param append 既存の内容に追記する場合true
+	 */
+	private void open(boolean append) {
+		finishWriter();
+		recordedProgress.clear();
+		recordedTimes.clear();
+		
+		File parent = journalFile.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		
+		try {
+			writer = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8,
+					StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+		} catch (IOException e) {
+			System.err.println("[実行ジャーナル] 書き込みを開始できません: " + e.getMessage());
+			writer = null;
+		}
+	}
+	
+	/**
+	 * 開いているライターがあれば閉じます。
+	 */
+	private void finishWriter() {
+		if (writer != null) {
+			try {
+				writer.close();
+			} catch (IOException e) {
+				// クローズ失敗は無視
+			}
+			writer = null;
+		}
+	}
+	
+	/**
+	 * レコードを1行追記します。
+	 * @param record レコード
+	 * @param flush 中断に備えて即座にフラッシュする場合true
+	 */
+	private void append(JsonObject record, boolean flush) {
+		if (writer == null) {
+			return;
+		}
+		try {
+			writer.write(gson.toJson(record));
+			writer.newLine();
+			if (flush) {
+				writer.flush();
+				lastFlushTime = System.currentTimeMillis();
+			}
+		} catch (IOException e) {
+			System.err.println("[実行ジャーナル] 書き込みに失敗しました: " + e.getMessage());
+		}
+	}
+}
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import io.github.pazakasin.minecraft.modpack.translator.model.FileType;
 import io.github.pazakasin.minecraft.modpack.translator.model.ModProcessingResult;
@@ -12,6 +13,7 @@ import io.github.pazakasin.minecraft.modpack.translator.model.ProcessingState;
 import io.github.pazakasin.minecraft.modpack.translator.model.QuestFileResult;
 import io.github.pazakasin.minecraft.modpack.translator.model.QuestTranslationResult;
 import io.github.pazakasin.minecraft.modpack.translator.model.TranslatableFile;
+import io.github.pazakasin.minecraft.modpack.translator.service.TranslationService;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.FileStateUpdateCallback;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.LogCallback;
 import io.github.pazakasin.minecraft.modpack.translator.service.quest.QuestFileProcessor;
@@ -26,6 +28,9 @@ public class SelectiveTranslationHandler {
 	/** ログコールバック。 */
 	private final LogCallback logger;
 	
+	/** 翻訳サービス。 */
+	private final TranslationService translationService;
+	
 	/** ファイル状態更新コールバック。 */
 	private FileStateUpdateCallback fileStateCallback;
 	
@@ -41,58 +46,191 @@ public class SelectiveTranslationHandler {
 	/** 入力パス。 */
 	private final String inputPath;
 	
+	/** 小規模ファイルのまとめ翻訳処理（null時は使用しない）。 */
+	private PackBatchTranslator packBatchTranslator;
+	
+	/** 中断後の再開に使用する実行ジャーナル。 */
+	private final RunJournal runJournal;
+	
 	/**
 	 * SelectiveTranslationHandlerのコンストラクタ。
 	 * @param logger ログコールバック
+	 * @param translationService 翻訳サービス
 	 * @param modLangHandler Mod言語ファイルハンドラー
 	 * @param kubeJsProcessor KubeJSプロセッサー
 	 * @param questProcessor クエストファイルプロセッサー
 	 * @param inputPath 入力パス
 	 */
-	public SelectiveTranslationHandler(LogCallback logger, ModLanguageFileHandler modLangHandler,
-			KubeJSProcessor kubeJsProcessor, QuestFileProcessor questProcessor, String inputPath) {
+	public SelectiveTranslationHandler(LogCallback logger, TranslationService translationService,
+			ModLanguageFileHandler modLangHandler, KubeJSProcessor kubeJsProcessor,
+			QuestFileProcessor questProcessor, String inputPath) {
 		this.logger = logger;
+		this.translationService = translationService;
 		this.modLangHandler = modLangHandler;
 		this.kubeJsProcessor = kubeJsProcessor;
 		this.questProcessor = questProcessor;
 		this.inputPath = inputPath;
+		this.runJournal = new RunJournal(inputPath);
+		setFileStateCallback(null);
 	}
 	
 	/**
 	 * ファイル状態更新コールバックを設定します。
-	 * @param callback コールバック
+	 * 翻訳中の進捗更新は実行ジャーナルにも記録されます。
+	 * @param callback コールバック（null可）
 	 */
 	public void setFileStateCallback(FileStateUpdateCallback callback) {
-		this.fileStateCallback = callback;
-		modLangHandler.setFileStateCallback(callback);
-		kubeJsProcessor.setFileStateCallback(callback);
+		this.fileStateCallback = createJournalingCallback(callback);
+		modLangHandler.setFileStateCallback(fileStateCallback);
+		kubeJsProcessor.setFileStateCallback(fileStateCallback);
+		if (packBatchTranslator != null) {
+			packBatchTranslator.setFileStateCallback(fileStateCallback);
+		}
+	}
+	
+	/**
+	 * 翻訳中の進捗を実行ジャーナルに記録してから委譲先を呼び出すコールバックを生成します。
+	 * @param delegate 委譲先コールバック（null可）
+	 * @return ファイル状態更新コールバック
+	 */
+	private FileStateUpdateCallback createJournalingCallback(final FileStateUpdateCallback delegate) {
+		return new FileStateUpdateCallback() {
+			@Override
+			public void onFileStateUpdate(TranslatableFile file) {
+				if (file.getProcessingState() == ProcessingState.TRANSLATING) {
+					runJournal.recordBatch(file, file.getCurrentProgress(), file.getTotalProgress());
+				}
+				if (delegate != null) {
+					delegate.onFileStateUpdate(file);
+				}
+			}
+		};
+	}
+	
+	/**
+	 * 小規模ファイルのまとめ翻訳処理を設定します。
+	 * @param packBatchTranslator まとめ翻訳処理（nullで使用しない）
+	 */
+	public void setPackBatchTranslator(PackBatchTranslator packBatchTranslator) {
+		this.packBatchTranslator = packBatchTranslator;
+		if (packBatchTranslator != null) {
+			packBatchTranslator.setFileStateCallback(fileStateCallback);
+		}
+		modLangHandler.setPackBatchTranslator(packBatchTranslator);
+		kubeJsProcessor.setPackBatchTranslator(packBatchTranslator);
 	}
 	
 	/**
 	 * 選択された翻訳対象ファイルのみを処理します。
-	 * 表の表示順（selectedFilesの順序）で処理を実行します。
+	 * 表の表示順（selectedFilesの順序）で処理を開始し、Mod・KubeJS言語ファイルは
+	 * {@link PackTranslationScheduler}で複数ファイルを並行して翻訳します。
+	 * Questファイル（チャプター）も同じスケジューラーで並行して処理し、翻訳単位は
+	 * 翻訳サービスで他のファイルと共有されます。Quest言語ファイルは呼び出しスレッドで処理します。
+	 * 進行状況は{@link RunJournal}に記録され、中断時は{@link #resume}で再開できます。
 	 * @param selectedFiles 選択された翻訳対象ファイルのリスト
 	 * @return 各ファイルの処理結果リスト
 	 * @throws Exception ファイルアクセスエラー等
 	 */
 	public List<ModProcessingResult> process(List<TranslatableFile> selectedFiles) throws Exception {
-		List<ModProcessingResult> results = new ArrayList<ModProcessingResult>();
-		
 		if (selectedFiles == null || selectedFiles.isEmpty()) {
 			log("選択されたファイルがありません。");
+			return new ArrayList<ModProcessingResult>();
+		}
+		
+		runJournal.start(selectedFiles);
+		return processJournaled(selectedFiles);
+	}
+	
+	/**
+	 * 実行ジャーナルを読み込み、前回の翻訳で完了していないファイルのみを処理します。
+	 * 完了済みのファイルは再処理せず、途中まで翻訳済みのファイルは翻訳メモリに
+	 * 登録済みのバッチを再利用します。
+	 * @param analyzedFiles 解析済みの全翻訳対象ファイルのリスト
+	 * @return 再開したファイルの処理結果リスト
+	 * @throws Exception ファイルアクセスエラー等
+	 */
+	public List<ModProcessingResult> resume(List<TranslatableFile> analyzedFiles) throws Exception {
+		Map<String, Integer> pending = runJournal.loadPending();
+		List<TranslatableFile> remainingFiles = new ArrayList<TranslatableFile>();
+		if (analyzedFiles != null) {
+			for (TranslatableFile file : analyzedFiles) {
+				if (pending.containsKey(RunJournal.keyOf(file))) {
+					remainingFiles.add(file);
+				}
+			}
+		}
+		
+		if (remainingFiles.isEmpty()) {
+			log("再開できる未完了のファイルがありません。");
+			return new ArrayList<ModProcessingResult>();
+		}
+		
+		log("=== 中断した翻訳の再開 ===");
+		log("未完了のファイル数: " + remainingFiles.size());
+		if (remainingFiles.size() < pending.size()) {
+			log("解析結果に見つからないファイル数: " + (pending.size() - remainingFiles.size()));
+		}
+		for (TranslatableFile file : remainingFiles) {
+			int done = pending.get(RunJournal.keyOf(file));
+			if (done > 0) {
+				log(String.format("  - %s: 前回 %d 件まで翻訳済み", file.getModName(), done));
+			}
+		}
+		
+		runJournal.resume(remainingFiles);
+		return processJournaled(remainingFiles);
+	}
+	
+	/**
+	 * 指定されたファイルを処理し、実行ジャーナルを閉じます。
+	 * 最後まで処理した場合のみ終了を記録します。失敗したファイルはどちらの場合も再開の対象に残ります。
+	 * @param files 処理対象ファイルのリスト（空でないこと）
+	 * @return 各ファイルの処理結果リスト
+	 * @throws Exception ファイルアクセスエラー等
+	 */
+	private List<ModProcessingResult> processJournaled(List<TranslatableFile> files) throws Exception {
+		boolean completed = false;
+		try {
+			List<ModProcessingResult> results = processFiles(files);
+			completed = true;
 			return results;
+		} finally {
+			if (completed) {
+				runJournal.finish();
+			} else {
+				runJournal.abort();
+			}
 		}
+	}
+	
+	/**
+	 * 指定されたファイルを処理します。
+	 * @param selectedFiles 処理対象ファイルのリスト（空でないこと）
+	 * @return 各ファイルの処理結果リスト
+	 * @throws Exception ファイルアクセスエラー等
+	 */
+	private List<ModProcessingResult> processFiles(List<TranslatableFile> selectedFiles) throws Exception {
+		List<ModProcessingResult> results = new ArrayList<ModProcessingResult>();
 		
 		log("=== 選択ファイル翻訳処理開始 ===");
 		log("選択されたファイル数: " + selectedFiles.size());
 		
+		translationService.startRun();
+		
+		if (packBatchTranslator != null) {
+			packBatchTranslator.prefetch(selectedFiles);
+		}
+		
 		Map<FileType, Integer> typeCounters = new HashMap<FileType, Integer>();
 		Map<FileType, Integer> typeTotals = calculateTypeTotals(selectedFiles);
 		Map<FileType, Boolean> typeHeaderPrinted = new HashMap<FileType, Boolean>();
 		
 		QuestTranslationResult questResult = new QuestTranslationResult();
+		List<TranslatableFile> questFiles = new ArrayList<TranslatableFile>();
+		List<QuestFileResult[]> questFileSlots = new ArrayList<QuestFileResult[]>();
+		PackTranslationScheduler scheduler = new PackTranslationScheduler(logger);
 		
-		for (TranslatableFile file : selectedFiles) {
+		for (final TranslatableFile file : selectedFiles) {
 			FileType fileType = file.getFileType();
 			
 			if (!typeHeaderPrinted.getOrDefault(fileType, false)) {
@@ -101,26 +239,54 @@ public class SelectiveTranslationHandler {
 				typeHeaderPrinted.put(fileType, true);
 			}
 			
-			int currentIndex = typeCounters.getOrDefault(fileType, 0) + 1;
-			int totalCount = typeTotals.get(fileType);
+			final int currentIndex = typeCounters.getOrDefault(fileType, 0) + 1;
+			final int totalCount = typeTotals.get(fileType);
 			typeCounters.put(fileType, currentIndex);
 			
 			switch (fileType) {
 				case MOD_LANG_FILE:
-					processModLangFile(file, currentIndex, totalCount, results);
+					scheduler.submit(file, new Callable<List<ModProcessingResult>>() {
+						@Override
+						public List<ModProcessingResult> call() {
+							List<ModProcessingResult> fileResults = new ArrayList<ModProcessingResult>();
+							processModLangFile(file, currentIndex, totalCount, fileResults);
+							return fileResults;
+						}
+					});
 					break;
 				case KUBEJS_LANG_FILE:
-					processKubeJSLangFile(file, currentIndex, totalCount, results);
+					scheduler.submit(file, new Callable<List<ModProcessingResult>>() {
+						@Override
+						public List<ModProcessingResult> call() {
+							List<ModProcessingResult> fileResults = new ArrayList<ModProcessingResult>();
+							processKubeJSLangFile(file, currentIndex, totalCount, fileResults);
+							return fileResults;
+						}
+					});
 					break;
 				case QUEST_LANG_FILE:
 					processQuestLangFile(file, questResult);
 					break;
 				case QUEST_FILE:
-					processQuestFile(file, currentIndex, totalCount, questResult);
+					final QuestFileResult[] slot = new QuestFileResult[1];
+					questFiles.add(file);
+					questFileSlots.add(slot);
+					scheduler.submit(file, new Callable<List<ModProcessingResult>>() {
+						@Override
+						public List<ModProcessingResult> call() {
+							slot[0] = processQuestFile(file, currentIndex, totalCount);
+							return new ArrayList<ModProcessingResult>();
+						}
+					});
 					break;
 			}
 		}
 		
+		results.addAll(scheduler.awaitAll());
+		for (int i = 0; i < questFiles.size(); i++) {
+			addQuestFileResult(questFiles.get(i), questFileSlots.get(i)[0], questResult);
+		}
+		
 		if (questResult.hasTranslation()) {
 			logProgress(" ");
 			
@@ -152,6 +318,7 @@ public class SelectiveTranslationHandler {
 		log("処理したファイル数: " + selectedFiles.size());
 		log("翻訳成功: " + translated);
 		log("翻訳失敗: " + failed);
+		log(translationService.getDeduplicationSummary());
 		log("出力先: " + new File("output").getAbsolutePath());
 		
 		if (questResult.hasTranslation()) {
@@ -212,7 +379,9 @@ public class SelectiveTranslationHandler {
 		
 		try {
 			modLangHandler.processSingleFile(file, currentIndex, totalCount, results);
+			recordFileResult(file, results);
 		} catch (Exception e) {
+			runJournal.recordFile(file, false);
 			log(String.format("[Mod %d/%d][失敗] %s: %s",
 					currentIndex, totalCount, file.getModName(), e.getMessage()));
 			logStackTrace(e);
@@ -230,7 +399,9 @@ public class SelectiveTranslationHandler {
 			List<ModProcessingResult> results) {
 		try {
 			kubeJsProcessor.processSingleFile(file, currentIndex, totalCount, results);
+			recordFileResult(file, results);
 		} catch (Exception e) {
+			runJournal.recordFile(file, false);
 			log(String.format("[KubeJS %d/%d][失敗] %s: %s",
 					currentIndex, totalCount, file.getFileId(), e.getMessage()));
 			logStackTrace(e);
@@ -258,7 +429,7 @@ public class SelectiveTranslationHandler {
 			File sourceFile = new File(file.getSourceFilePath());
 			
 			File existingJaJpFile = null;
-			if (file.isHasExistingJaJp() && file.getExistingJaJpContent() != null) {
+			if (file.isHasExistingJaJp() && file.hasExistingJaJpContent()) {
 				File langDir = sourceFile.getParentFile();
 				existingJaJpFile = new File(langDir, "ja_jp.snbt");
 			}
@@ -278,6 +449,7 @@ public class SelectiveTranslationHandler {
 			questResult.langFileTranslated = fileResult.translated;
 			questResult.langFileSuccess = fileResult.success;
 			questResult.langFileCharacterCount = file.getCharacterCount();
+			runJournal.recordFile(file, fileResult.success);
 			
 			if (fileResult.success) {
 				if (fileResult.translated) {
@@ -307,6 +479,7 @@ public class SelectiveTranslationHandler {
 			file.setProcessingState(ProcessingState.FAILED);
 			file.setResultMessage(ProcessingState.FAILED.getDisplayName() + ": " + e.getMessage());
 			updateFileState(file);
+			runJournal.recordFile(file, false);
 			
 			log(String.format("[Quest Lang][失敗] %s: %s",
 					file.getModName(), e.getMessage()));
@@ -319,12 +492,9 @@ public class SelectiveTranslationHandler {
 	 * @param file ファイル
 	 * @param currentIndex 現在のインデックス
 	 * @param totalCount 合計数
-	 * @param questResult クエスト翻訳結果
+	 * @return 処理結果（例外発生時はnull）
 	 */
-	private void processQuestFile(TranslatableFile file, int currentIndex, int totalCount,
-			QuestTranslationResult questResult) {
-		questResult.questFileCount++;
-		
+	private QuestFileResult processQuestFile(TranslatableFile file, int currentIndex, int totalCount) {
 		file.setProcessingState(ProcessingState.TRANSLATING);
 		file.setResultMessage(ProcessingState.TRANSLATING.getDisplayName());
 		updateFileState(file);
@@ -345,11 +515,9 @@ public class SelectiveTranslationHandler {
 						}
 					});
 			
-			questResult.fileResults.add(fileResult);
-			questResult.questFileTranslated++;
+			runJournal.recordFile(file, fileResult.success);
 			
 			if (fileResult.success) {
-				questResult.questFileSuccess++;
 				file.setProcessingState(ProcessingState.COMPLETED);
 				file.setResultMessage(ProcessingState.COMPLETED.getDisplayName());
 			} else {
@@ -358,18 +526,51 @@ public class SelectiveTranslationHandler {
 			}
 			
 			updateFileState(file);
-			questResult.questFileCharacterCount += file.getCharacterCount();
+			return fileResult;
 		} catch (Exception e) {
 			file.setProcessingState(ProcessingState.FAILED);
 			file.setResultMessage("×: " + e.getMessage());
 			updateFileState(file);
+			runJournal.recordFile(file, false);
 			
 			log(String.format("[Quest %d/%d][失敗] %s: %s",
 					currentIndex, totalCount, file.getModName(), e.getMessage()));
 			logStackTrace(e);
+			return null;
 		}
 	}
 	
+	/**
+	 * Questファイルの処理結果をクエスト翻訳結果に集計します。
+	 * @param file ファイル
+	 * @param fileResult 処理結果（例外発生時はnull）
+	 * @param questResult クエスト翻訳結果
+	 */
+	private void addQuestFileResult(TranslatableFile file, QuestFileResult fileResult,
+			QuestTranslationResult questResult) {
+		questResult.questFileCount++;
+		if (fileResult == null) {
+			return;
+		}
+		
+		questResult.fileResults.add(fileResult);
+		questResult.questFileTranslated++;
+		if (fileResult.success) {
+			questResult.questFileSuccess++;
+		}
+		questResult.questFileCharacterCount += file.getCharacterCount();
+	}
+	
+	/**
+	 * 言語ファイルの処理結果を実行ジャーナルに記録します。
+	 * @param file 対象ファイル
+	 * @param results 対象ファイルの処理結果を末尾に含む結果リスト
+	 */
+	private void recordFileResult(TranslatableFile file, List<ModProcessingResult> results) {
+		boolean success = !results.isEmpty() && results.get(results.size() - 1).translationSuccess;
+		runJournal.recordFile(file, success);
+	}
+	
 	/**
 	 * ファイルの状態を更新し、コールバックを呼び出します。
 	 * @param file 対象ファイル
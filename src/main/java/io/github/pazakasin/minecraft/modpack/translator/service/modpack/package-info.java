@@ -8,6 +8,11 @@
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.modpack.KubeJSProcessor} - KubeJS処理</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.modpack.ModLanguageFileHandler} - Mod言語ファイル処理</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.modpack.SelectiveTranslationHandler} - 選択的翻訳処理</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.modpack.DeltaTranslator} - 前回翻訳との差分翻訳</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.modpack.DeltaPlan} - 差分翻訳計画</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.modpack.PackBatchTranslator} - 小規模ファイルのまとめ翻訳</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.modpack.PackTranslationScheduler} - 複数ファイルの並行翻訳</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.modpack.RunJournal} - 中断した翻訳を再開するための実行ジャーナル</li>
  * </ul>
  */
 package io.github.pazakasin.minecraft.modpack.translator.service.modpack;
@@ -7,6 +7,7 @@
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.analyzer} - ファイル解析機能</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.backup} - バックアップ管理</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.callback} - サービス層コールバック</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.memory} - 翻訳メモリ</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.modpack} - ModPack処理</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.processor} - 汎用プロセッサー</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider} - 翻訳プロバイダー</li>
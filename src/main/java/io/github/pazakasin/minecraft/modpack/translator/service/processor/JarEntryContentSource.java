@@ -0,0 +1,56 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.processor;
+
+import io.github.pazakasin.minecraft.modpack.translator.model.ContentSource;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * JARファイル内のエントリーを読み込み元とするクラス。
+ * 解析時と同じ方法で読み込むため、再読み込みした内容は解析時の内容と一致する。
+ */
+public class JarEntryContentSource implements ContentSource {
+    /** JARファイル。 */
+    private final File jarFile;
+    
+    /** JARエントリー名（例: assets/modid/lang/en_us.json）。 */
+    private final String entryName;
+    
+    /**
+     * JarEntryContentSourceのコンストラクタ。
+     * @param jarFile JARファイル
+     * @param entryName JARエントリー名
+     */
+    public JarEntryContentSource(File jarFile, String entryName) {
+        this.jarFile = jarFile;
+        this.entryName = entryName;
+    }
+    
+    /**
+     * JARエントリーの内容を読み込みます。
+     * @return エントリーの内容
+     * @throws IOException JARファイルの読み込み失敗、またはエントリーが存在しない
+     */
+    @Override
+    public String load() throws IOException {
+        try (JarFile jar = new JarFile(jarFile)) {
+            JarEntry entry = jar.getJarEntry(entryName);
+            if (entry == null) {
+                throw new FileNotFoundException(toString());
+            }
+            return JarFileAnalyzer.readEntry(jar, entry);
+        }
+    }
+    
+    /**
+     * 読み込み元を表示用の文字列にします。
+     * @return JARファイルパスとエントリー名
+     */
+    @Override
+    public String toString() {
+        return jarFile.getPath() + "!/" + entryName;
+    }
+}
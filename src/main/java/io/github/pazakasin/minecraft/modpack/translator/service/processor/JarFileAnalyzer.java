@@ -1,18 +1,19 @@
 package io.github.pazakasin.minecraft.modpack.translator.service.processor;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.*;
 
 /**
  * Mod JARファイルから言語ファイル情報を解析するクラス。
- * assets配下のen_us.json、ja_jp.jsonを検索・抽出。
+ * assets配下のen_us.json、ja_jp.jsonを名前空間ごとに検索・抽出。
  */
 public class JarFileAnalyzer {
     
     /**
-     * JARファイル解析の結果を保持するデータクラス。
+     * JARファイル内の1つの名前空間の解析結果を保持するデータクラス。
      */
     public static class LanguageFileInfo {
         /** Mod ID（assets配下のディレクトリ名）。 */
@@ -24,8 +25,11 @@ public class JarFileAnalyzer {
         /** en_us.jsonファイルの内容。 */
         public String enUsContent;
         
-        /** ja_jp.jsonファイルの内容。 */
-        public String jaJpContent;
+        /** en_us.jsonのJARエントリー名。 */
+        public String enUsEntryName;
+        
+        /** ja_jp.jsonのJARエントリー名（内容は解析時には読み込まず、必要時に{@link JarEntryContentSource}で読み込む）。 */
+        public String jaJpEntryName;
         
         /** en_us.jsonファイルが存在するか。 */
         public boolean hasEnUs;
@@ -34,43 +38,138 @@ public class JarFileAnalyzer {
         public boolean hasJaJp;
     }
     
+    /** en_us.jsonのエントリー名末尾。 */
+    private static final String EN_US_SUFFIX = "/lang/en_us.json";
+    
+    /** ja_jp.jsonのエントリー名末尾。 */
+    private static final String JA_JP_SUFFIX = "/lang/ja_jp.json";
+    
+    /** 中央ディレクトリから言語ファイルを検索するプローブ。 */
+    private final ZipCentralDirectoryProbe probe = new ZipCentralDirectoryProbe(EN_US_SUFFIX, JA_JP_SUFFIX);
+    
+    /**
+     * JARファイルを解析し、名前空間ごとの言語ファイル情報を抽出します。
+     * 中央ディレクトリの走査で言語ファイルを特定し、en_us.jsonのエントリーのみ同じファイルから直接読み込む。
+     * ja_jp.jsonは存在とエントリー名のみを記録する。
+     * @param jarFile 解析対象のJARファイル
+     * @return 名前空間ごとの言語ファイル情報（検出順、言語ファイルがない場合は空）
+     * @throws IOException JARファイルの読み込み失敗
+     */
+    public List<LanguageFileInfo> analyze(File jarFile) throws IOException {
+        Map<String, LanguageFileInfo> namespaces = analyzeByProbe(jarFile);
+        if (namespaces == null) {
+            return analyzeByEnumeration(jarFile);
+        }
+        return new ArrayList<LanguageFileInfo>(namespaces.values());
+    }
+    
+    /**
+     * 中央ディレクトリの走査結果からエントリーを直接読み込んでJARファイルを解析します。
+     * @param jarFile 解析対象のJARファイル
+     * @return 名前空間ごとの言語ファイル情報（直接読み込めない場合はnull）
+     */
+    private Map<String, LanguageFileInfo> analyzeByProbe(File jarFile) {
+        try (RandomAccessFile raf = new RandomAccessFile(jarFile, "r");
+             FileChannel channel = raf.getChannel()) {
+            List<ZipCentralDirectoryEntry> entries = probe.findEntries(channel);
+            if (entries == null) {
+                return null;
+            }
+            
+            Map<String, LanguageFileInfo> namespaces = new LinkedHashMap<String, LanguageFileInfo>();
+            for (ZipCentralDirectoryEntry entry : entries) {
+                if (isLanguageEntry(entry.name)) {
+                    String content = null;
+                    if (entry.name.endsWith(EN_US_SUFFIX)) {
+                        content = readContent(new ByteArrayInputStream(ZipEntryReader.read(channel, entry)));
+                    }
+                    applyEntry(namespaces, entry.name, content);
+                }
+            }
+            return namespaces;
+        } catch (IOException e) {
+            // 中央ディレクトリの直接走査・読み込みに失敗した場合は全エントリー走査で再試行
+            return null;
+        }
+    }
+    
     /**
-     * JARファイルを解析し、言語ファイル情報を抽出します。
+     * 全エントリーを走査してJARファイルを解析します。
      * @param jarFile 解析対象のJARファイル
-     * @return 言語ファイル情報
+     * @return 名前空間ごとの言語ファイル情報
      * @throws IOException JARファイルの読み込み失敗
      */
-    public LanguageFileInfo analyze(File jarFile) throws IOException {
-        LanguageFileInfo info = new LanguageFileInfo();
+    private List<LanguageFileInfo> analyzeByEnumeration(File jarFile) throws IOException {
+        Map<String, LanguageFileInfo> namespaces = new LinkedHashMap<String, LanguageFileInfo>();
         
         try (JarFile jar = new JarFile(jarFile)) {
             Enumeration<JarEntry> entries = jar.entries();
             
             while (entries.hasMoreElements()) {
                 JarEntry entry = entries.nextElement();
-                String entryName = entry.getName();
-                
-                if (entryName.contains("assets/") && entryName.endsWith("/lang/en_us.json")) {
-                    info.modId = extractModId(entryName);
-                    info.langFolderPath = extractLangFolderPath(entryName);
-                    info.enUsContent = readEntry(jar, entry);
-                    info.hasEnUs = true;
-                } else if (entryName.contains("assets/") && entryName.endsWith("/lang/ja_jp.json")) {
-                    if (info.modId == null) {
-                        info.modId = extractModId(entryName);
-                        info.langFolderPath = extractLangFolderPath(entryName);
-                    }
-                    info.jaJpContent = readEntry(jar, entry);
-                    info.hasJaJp = true;
+                if (isLanguageEntry(entry.getName())) {
+                    String content = entry.getName().endsWith(EN_US_SUFFIX) ? readEntry(jar, entry) : null;
+                    applyEntry(namespaces, entry.getName(), content);
                 }
             }
         }
         
-        if (info.langFolderPath == null) {
-            info.langFolderPath = "見つかりません";
+        return new ArrayList<LanguageFileInfo>(namespaces.values());
+    }
+    
+    /**
+     * 言語ファイルのエントリーか判定します。
+     * @param entryName エントリー名
+     * @return assets配下のen_us.jsonまたはja_jp.jsonの場合true
+     */
+    private boolean isLanguageEntry(String entryName) {
+        return entryName.contains("assets/")
+            && (entryName.endsWith(EN_US_SUFFIX) || entryName.endsWith(JA_JP_SUFFIX));
+    }
+    
+    /**
+     * 言語ファイルの内容を該当する名前空間の解析結果に反映します。
+     * @param namespaces 名前空間と言語ファイル情報のマップ
+     * @param entryName 言語ファイルのエントリー名
+     * @param content en_us.jsonの内容（ja_jp.jsonの場合は使用しない）
+     */
+    private void applyEntry(Map<String, LanguageFileInfo> namespaces, String entryName, String content) {
+        boolean isEnUs = entryName.endsWith(EN_US_SUFFIX);
+        String namespace = extractModId(entryName);
+        LanguageFileInfo info = namespaces.get(namespace);
+        if (info == null) {
+            info = new LanguageFileInfo();
+            info.modId = namespace;
+            namespaces.put(namespace, info);
         }
         
-        return info;
+        if (isEnUs) {
+            info.langFolderPath = extractLangFolderPath(entryName);
+            info.enUsContent = content;
+            info.enUsEntryName = entryName;
+            info.hasEnUs = true;
+        } else {
+            if (info.langFolderPath == null) {
+                info.langFolderPath = extractLangFolderPath(entryName);
+            }
+            info.jaJpEntryName = entryName;
+            info.hasJaJp = true;
+        }
+    }
+    
+    /**
+     * 名前空間ごとの表示名を生成します。複数の名前空間を含むJARでは名前空間を付加します。
+     * @param jarFile JARファイル
+     * @param namespace 名前空間
+     * @param namespaceCount JAR内の翻訳対象の名前空間数
+     * @return 表示名
+     */
+    public static String getDisplayName(File jarFile, String namespace, int namespaceCount) {
+        String jarName = jarFile.getName().replace(".jar", "");
+        if (namespaceCount > 1) {
+            return jarName + " (" + namespace + ")";
+        }
+        return jarName;
     }
     
     /** エントリーパスからMod IDを抽出します。 */
@@ -93,9 +192,14 @@ public class JarFileAnalyzer {
         return path;
     }
     
-    /** JARエントリーの内容をUTF-8文字列として読み込みます。 */
-    private String readEntry(JarFile jar, JarEntry entry) throws IOException {
-        try (InputStream is = jar.getInputStream(entry);
+    /** JARエントリーの内容をUTF-8文字列として読み込みます（改行はLFに統一）。 */
+    static String readEntry(JarFile jar, JarEntry entry) throws IOException {
+        return readContent(jar.getInputStream(entry));
+    }
+    
+    /** 入力ストリームの内容をUTF-8文字列として読み込みます（改行はLFに統一、ストリームは閉じる）。 */
+    private static String readContent(InputStream input) throws IOException {
+        try (InputStream is = input;
              BufferedReader reader = new BufferedReader(new InputStreamReader(is, "UTF-8"))) {
             StringBuilder sb = new StringBuilder();
             String line;
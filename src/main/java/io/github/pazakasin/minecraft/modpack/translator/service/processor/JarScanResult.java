@@ -0,0 +1,55 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.processor;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * 単一JARファイルのスキャン結果を保持するデータクラス。
+ * 解析に失敗した場合は言語ファイル情報の代わりに例外を保持。
+ */
+public class JarScanResult {
+    /** スキャン対象のJARファイル。 */
+    public final File jarFile;
+    
+    /** 名前空間ごとの言語ファイル情報（解析失敗時はnull）。 */
+    public final List<JarFileAnalyzer.LanguageFileInfo> namespaces;
+    
+    /** 解析時に発生した例外（成功時はnull）。 */
+    public final Exception error;
+    
+    /** JARファイル内容のSHA-256ダイジェスト（未計算時はnull）。 */
+    public final String digest;
+    
+    /**
+     * JarScanResultのコンストラクタ。
+     * @param jarFile JARファイル
+     * @param namespaces 名前空間ごとの言語ファイル情報
+     * @param error 発生した例外
+     */
+    public JarScanResult(File jarFile, List<JarFileAnalyzer.LanguageFileInfo> namespaces, Exception error) {
+        this(jarFile, namespaces, error, null);
+    }
+    
+    /**
+     * ダイジェストを含むJarScanResultのコンストラクタ。
+     * @param jarFile JARファイル
+     * @param namespaces 名前空間ごとの言語ファイル情報
+     * @param error 発生した例外
+     * @param digest JARファイル内容のダイジェスト
+     */
+    public JarScanResult(File jarFile, List<JarFileAnalyzer.LanguageFileInfo> namespaces, Exception error,
+                         String digest) {
+        this.jarFile = jarFile;
+        this.namespaces = namespaces;
+        this.error = error;
+        this.digest = digest;
+    }
+    
+    /**
+     * 解析に成功したかを返します。
+     * @return 成功時true
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
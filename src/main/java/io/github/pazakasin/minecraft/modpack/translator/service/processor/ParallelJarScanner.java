@@ -0,0 +1,142 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.processor;
+
+import io.github.pazakasin.minecraft.modpack.translator.service.callback.ProgressUpdateCallback;
+import io.github.pazakasin.minecraft.modpack.translator.util.HashUtil;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 複数のJARファイルを並列に解析するクラス。
+ * スレッド数を制限して解析し、結果は入力順で返す。1つのJARの失敗は他に影響しない。
+ */
+public class ParallelJarScanner {
+    /** スレッド数の設定キー。 */
+    public static final String THREAD_COUNT_KEY = "analysis.threads";
+    
+    /** JARファイルアナライザー。 */
+    private final JarFileAnalyzer jarAnalyzer;
+    
+    /** 並列解析のスレッド数。 */
+    private final int threadCount;
+    
+    /** 解析と同時にJARファイル内容のダイジェストを計算するか。 */
+    private boolean computeDigest = false;
+    
+    /**
+     * 設定ファイルのスレッド数を使用するParallelJarScannerのコンストラクタ。
+     */
+    public ParallelJarScanner() {
+        this(getConfiguredThreadCount());
+    }
+    
+    /**
+     * ParallelJarScannerのコンストラクタ。
+     * @param threadCount 並列解析のスレッド数（1未満は1として扱う）
+     */
+    public ParallelJarScanner(int threadCount) {
+        this.jarAnalyzer = new JarFileAnalyzer();
+        this.threadCount = Math.max(1, threadCount);
+    }
+    
+    /**
+     * 解析と同時にJARファイル内容のダイジェストを計算するかを設定します。
+     * @param computeDigest trueでダイジェストを計算
+     */
+    public void setComputeDigest(boolean computeDigest) {
+        this.computeDigest = computeDigest;
+    }
+    
+    /**
+     * JARファイルを並列に解析します。
+     * @param jarFiles 解析対象のJARファイル
+     * @param progressUpdater 進捗コールバック（null可）
+     * @return 入力順に並んだスキャン結果
+     * @throws InterruptedException 解析待機中の割り込み
+     */
+    public List<JarScanResult> scan(File[] jarFiles, final ProgressUpdateCallback progressUpdater)
+            throws InterruptedException {
+        List<JarScanResult> results = new ArrayList<JarScanResult>();
+        if (jarFiles == null || jarFiles.length == 0) {
+            return results;
+        }
+        
+        final int total = jarFiles.length;
+        final AtomicInteger completed = new AtomicInteger(0);
+        int poolSize = Math.min(threadCount, total);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger(1);
+            
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "jar-scanner-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        
+        List<Future<JarScanResult>> futures = new ArrayList<Future<JarScanResult>>();
+        try {
+            for (final File jarFile : jarFiles) {
+                futures.add(executor.submit(new Callable<JarScanResult>() {
+                    @Override
+                    public JarScanResult call() {
+                        JarScanResult result;
+                        try {
+                            String digest = computeDigest ? HashUtil.sha256(jarFile) : null;
+                            result = new JarScanResult(jarFile, jarAnalyzer.analyze(jarFile), null, digest);
+                        } catch (Exception e) {
+                            result = new JarScanResult(jarFile, null, e);
+                        }
+                        
+                        int done = completed.incrementAndGet();
+                        if (progressUpdater != null) {
+                            progressUpdater.onProgressUpdate(String.format("[%d/%d] 解析中: %s",
+                                done, total, jarFile.getName()));
+                        }
+                        return result;
+                    }
+                }));
+            }
+            
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    Exception error = cause instanceof Exception ? (Exception) cause : new Exception(cause);
+                    results.add(new JarScanResult(jarFiles[i], null, error));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        return results;
+    }
+    
+    /**
+     * 設定ファイルから並列解析のスレッド数を取得します。
+     * @return スレッド数（未設定・不正値の場合はCPUコア数）
+     */
+    public static int getConfiguredThreadCount() {
+        int defaultCount = Runtime.getRuntime().availableProcessors();
+        try {
+            Properties settings = io.github.pazakasin.minecraft.modpack.translator.controller.SettingsDialog.getStoredSettings();
+            int count = Integer.parseInt(settings.getProperty(THREAD_COUNT_KEY, String.valueOf(defaultCount)).trim());
+            return count > 0 ? count : defaultCount;
+        } catch (Exception e) {
+            return defaultCount;
+        }
+    }
+}
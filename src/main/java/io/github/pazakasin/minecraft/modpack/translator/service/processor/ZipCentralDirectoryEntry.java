@@ -0,0 +1,44 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.processor;
+
+/**
+ * ZIP中央ディレクトリから読み取った1エントリーの情報を保持するデータクラス。
+ * エントリー本体をJarFileを介さずに読み込むために必要な値のみを持つ。
+ */
+public class ZipCentralDirectoryEntry {
+    /** エントリー名。 */
+    public final String name;
+    
+    /** 汎用フラグ。 */
+    public final int flags;
+    
+    /** 圧縮方式（0: 無圧縮、8: Deflate）。 */
+    public final int method;
+    
+    /** 圧縮後のサイズ。 */
+    public final long compressedSize;
+    
+    /** 展開後のサイズ。 */
+    public final long uncompressedSize;
+    
+    /** ローカルファイルヘッダーのファイル先頭からの位置（前置データ補正済み）。 */
+    public final long localHeaderOffset;
+    
+    /**
+     * ZipCentralDirectoryEntryのコンストラクタ。
+     * @param name エントリー名
+     * @param flags 汎用フラグ
+     * @param method 圧縮方式
+     * @param compressedSize 圧縮後のサイズ
+     * @param uncompressedSize 展開後のサイズ
+     * @param localHeaderOffset ローカルファイルヘッダーの位置
+     */
+    public ZipCentralDirectoryEntry(String name, int flags, int method, long compressedSize,
+                                    long uncompressedSize, long localHeaderOffset) {
+        this.name = name;
+        this.flags = flags;
+        this.method = method;
+        this.compressedSize = compressedSize;
+        this.uncompressedSize = uncompressedSize;
+        this.localHeaderOffset = localHeaderOffset;
+    }
+}
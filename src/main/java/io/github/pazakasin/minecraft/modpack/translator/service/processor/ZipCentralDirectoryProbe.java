@@ -0,0 +1,198 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.processor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ZIPの中央ディレクトリのみを走査して言語ファイルの有無を判定するクラス。
+ * 中央ディレクトリは通常の読み込みでヒープ上のバッファに取り込み、エントリー名の末尾をバイト列のまま比較する。
+ * 一致したエントリーは{@link ZipEntryReader}で同じチャネルから読み込めるため、JarFileによる再解析は不要。
+ * ZIP64や破損したアーカイブには対応せず、その場合はnullを返して呼び出し元に委ねる。
+ */
+public class ZipCentralDirectoryProbe {
+    /** End of Central Directoryレコードのシグネチャ。 */
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    
+    /** 中央ディレクトリファイルヘッダーのシグネチャ。 */
+    private static final int CEN_SIGNATURE = 0x02014b50;
+    
+    /** End of Central Directoryレコードの最小サイズ。 */
+    private static final int EOCD_MIN_SIZE = 22;
+    
+    /** ZIPコメントの最大長。 */
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    
+    /** 中央ディレクトリファイルヘッダーの固定部サイズ。 */
+    private static final int CEN_HEADER_SIZE = 46;
+    
+    /** ZIP64への拡張を示す32ビット値。 */
+    private static final long ZIP64_MARKER = 0xFFFFFFFFL;
+    
+    /** 検索対象のエントリー名末尾（バイト列）。 */
+    private final byte[][] suffixes;
+    
+    /**
+     * ZipCentralDirectoryProbeのコンストラクタ。
+     * @param nameSuffixes 検索対象のエントリー名末尾（例: "/lang/en_us.json"）
+     */
+    public ZipCentralDirectoryProbe(String... nameSuffixes) {
+        this.suffixes = new byte[nameSuffixes.length][];
+        for (int i = 0; i < nameSuffixes.length; i++) {
+            this.suffixes[i] = nameSuffixes[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+    
+    /**
+     * 中央ディレクトリを走査し、末尾が一致するエントリーを中央ディレクトリ順で返します。
+     * @param channel 対象のZIPファイルのチャネル
+     * @return 一致したエントリーのリスト（ZIP64・形式不正の場合はnull）
+     * @throws IOException ファイルの読み込み失敗
+     */
+    public List<ZipCentralDirectoryEntry> findEntries(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < EOCD_MIN_SIZE) {
+            return null;
+        }
+        
+        int tailSize = (int) Math.min(fileSize, EOCD_MIN_SIZE + MAX_COMMENT_LENGTH);
+        ByteBuffer tail = ByteBuffer.allocate(tailSize).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, tail, fileSize - tailSize);
+        
+        int eocdPos = findEndOfCentralDirectory(tail);
+        if (eocdPos < 0) {
+            return null;
+        }
+        
+        int totalEntries = tail.getShort(eocdPos + 10) & 0xFFFF;
+        long cenSize = tail.getInt(eocdPos + 12) & 0xFFFFFFFFL;
+        long cenOffset = tail.getInt(eocdPos + 16) & 0xFFFFFFFFL;
+        
+        if (totalEntries == 0xFFFF || cenSize == ZIP64_MARKER || cenOffset == ZIP64_MARKER) {
+            return null;
+        }
+        long eocdOffset = fileSize - tailSize + eocdPos;
+        if (cenOffset + cenSize > eocdOffset) {
+            return null;
+        }
+        // 先頭に前置データがある場合は中央ディレクトリとローカルヘッダーの位置を補正
+        long cenStart = eocdOffset - cenSize;
+        
+        ByteBuffer cen = ByteBuffer.allocate((int) cenSize).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, cen, cenStart);
+        return scanCentralDirectory(cen, cenStart - cenOffset);
+    }
+    
+    /**
+     * 中央ディレクトリのヘッダーを順に走査します。
+     * @param cen 中央ディレクトリ全体のバッファ
+     * @param prefixLength ZIP先頭の前置データの長さ
+     * @return 一致したエントリーのリスト（ZIP64・形式不正の場合はnull）
+     */
+    private List<ZipCentralDirectoryEntry> scanCentralDirectory(ByteBuffer cen, long prefixLength) {
+        List<ZipCentralDirectoryEntry> matches = new ArrayList<ZipCentralDirectoryEntry>();
+        int limit = cen.limit();
+        int pos = 0;
+        
+        while (pos + CEN_HEADER_SIZE <= limit) {
+            if (cen.getInt(pos) != CEN_SIGNATURE) {
+                return null;
+            }
+            int nameLength = cen.getShort(pos + 28) & 0xFFFF;
+            int extraLength = cen.getShort(pos + 30) & 0xFFFF;
+            int commentLength = cen.getShort(pos + 32) & 0xFFFF;
+            int nameStart = pos + CEN_HEADER_SIZE;
+            
+            if (nameStart + nameLength > limit) {
+                return null;
+            }
+            
+            if (endsWithAnySuffix(cen, nameStart, nameLength)) {
+                long compressedSize = cen.getInt(pos + 20) & 0xFFFFFFFFL;
+                long uncompressedSize = cen.getInt(pos + 24) & 0xFFFFFFFFL;
+                long localHeaderOffset = cen.getInt(pos + 42) & 0xFFFFFFFFL;
+                if (compressedSize == ZIP64_MARKER || uncompressedSize == ZIP64_MARKER
+                        || localHeaderOffset == ZIP64_MARKER) {
+                    return null;
+                }
+                
+                byte[] name = new byte[nameLength];
+                for (int i = 0; i < nameLength; i++) {
+                    name[i] = cen.get(nameStart + i);
+                }
+                matches.add(new ZipCentralDirectoryEntry(new String(name, StandardCharsets.UTF_8),
+                    cen.getShort(pos + 8) & 0xFFFF, cen.getShort(pos + 10) & 0xFFFF,
+                    compressedSize, uncompressedSize, localHeaderOffset + prefixLength));
+            }
+            
+            pos = nameStart + nameLength + extraLength + commentLength;
+        }
+        
+        return matches;
+    }
+    
+    /**
+     * エントリー名がいずれかの末尾に一致するかをバイト列で判定します。
+     * @param buffer 中央ディレクトリのバッファ
+     * @param nameStart エントリー名の開始位置
+     * @param nameLength エントリー名の長さ
+     * @return 一致する場合true
+     */
+    private boolean endsWithAnySuffix(ByteBuffer buffer, int nameStart, int nameLength) {
+        for (byte[] suffix : suffixes) {
+            if (nameLength < suffix.length) {
+                continue;
+            }
+            int offset = nameStart + nameLength - suffix.length;
+            boolean match = true;
+            for (int i = suffix.length - 1; i >= 0; i--) {
+                if (buffer.get(offset + i) != suffix[i]) {
+                    match = false;
+                    break;
+                }
+            }
+            if (match) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 末尾バッファからEnd of Central Directoryレコードの位置を検索します。
+     * @param tail ファイル末尾のバッファ
+     * @return レコードの位置（見つからない場合は-1）
+     */
+    private int findEndOfCentralDirectory(ByteBuffer tail) {
+        for (int pos = tail.limit() - EOCD_MIN_SIZE; pos >= 0; pos--) {
+            if (tail.getInt(pos) == EOCD_SIGNATURE) {
+                int commentLength = tail.getShort(pos + 20) & 0xFFFF;
+                if (pos + EOCD_MIN_SIZE + commentLength == tail.limit()) {
+                    return pos;
+                }
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * 指定位置からバッファが満たされるまで読み込みます。
+     * @param channel ファイルチャネル
+     * @param buffer 読み込み先バッファ
+     * @param position 読み込み開始位置
+     * @throws IOException 読み込み失敗
+     */
+    static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("予期しないファイル終端です");
+            }
+        }
+        buffer.flip();
+    }
+}
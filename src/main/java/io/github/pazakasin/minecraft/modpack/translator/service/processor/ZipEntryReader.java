@@ -0,0 +1,112 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.processor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 中央ディレクトリの情報をもとにZIPエントリーの内容を直接読み込むクラス。
+ * 無圧縮とDeflateのみ対応し、それ以外の形式や暗号化エントリーはIOExceptionとして呼び出し元に委ねる。
+ */
+public class ZipEntryReader {
+    /** ローカルファイルヘッダーのシグネチャ。 */
+    private static final int LOC_SIGNATURE = 0x04034b50;
+    
+    /** ローカルファイルヘッダーの固定部サイズ。 */
+    private static final int LOC_HEADER_SIZE = 30;
+    
+    /** 無圧縮を示す圧縮方式。 */
+    private static final int METHOD_STORED = 0;
+    
+    /** Deflateを示す圧縮方式。 */
+    private static final int METHOD_DEFLATED = 8;
+    
+    /** 暗号化を示す汎用フラグのビット。 */
+    private static final int FLAG_ENCRYPTED = 0x1;
+    
+    /** 読み込むエントリーの上限サイズ。 */
+    private static final long MAX_ENTRY_SIZE = Integer.MAX_VALUE - 8;
+    
+    /**
+     * インスタンス化を禁止するコンストラクタ。
+     */
+    private ZipEntryReader() {
+    }
+    
+    /**
+     * エントリーの内容を展開して読み込みます。
+     * @param channel ZIPファイルのチャネル
+     * @param entry 読み込むエントリー
+     * @return 展開後の内容
+     * @throws IOException 読み込み失敗、または未対応の形式
+     */
+    public static byte[] read(FileChannel channel, ZipCentralDirectoryEntry entry) throws IOException {
+        if ((entry.flags & FLAG_ENCRYPTED) != 0) {
+            throw new IOException("暗号化されたエントリーには対応していません: " + entry.name);
+        }
+        if (entry.method != METHOD_STORED && entry.method != METHOD_DEFLATED) {
+            throw new IOException("未対応の圧縮方式です: " + entry.method + " (" + entry.name + ")");
+        }
+        if (entry.compressedSize > MAX_ENTRY_SIZE || entry.uncompressedSize > MAX_ENTRY_SIZE) {
+            throw new IOException("エントリーが大きすぎます: " + entry.name);
+        }
+        
+        ByteBuffer header = ByteBuffer.allocate(LOC_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        ZipCentralDirectoryProbe.readFully(channel, header, entry.localHeaderOffset);
+        if (header.getInt(0) != LOC_SIGNATURE) {
+            throw new IOException("ローカルファイルヘッダーが不正です: " + entry.name);
+        }
+        
+        int nameLength = header.getShort(26) & 0xFFFF;
+        int extraLength = header.getShort(28) & 0xFFFF;
+        long dataStart = entry.localHeaderOffset + LOC_HEADER_SIZE + nameLength + extraLength;
+        
+        // Deflateの末尾処理に備えてダミーの1バイトを確保
+        int compressedSize = (int) entry.compressedSize;
+        byte[] compressed = new byte[entry.method == METHOD_DEFLATED ? compressedSize + 1 : compressedSize];
+        ZipCentralDirectoryProbe.readFully(channel, ByteBuffer.wrap(compressed, 0, compressedSize), dataStart);
+        
+        if (entry.method == METHOD_STORED) {
+            if (entry.compressedSize != entry.uncompressedSize) {
+                throw new IOException("無圧縮エントリーのサイズが不正です: " + entry.name);
+            }
+            return compressed;
+        }
+        return inflate(compressed, (int) entry.uncompressedSize, entry.name);
+    }
+    
+    /**
+     * Deflateで圧縮されたデータを展開します。
+     * @param compressed 圧縮データ（末尾にダミーの1バイトを含む）
+     * @param size 展開後のサイズ
+     * @param name エラーメッセージ用のエントリー名
+     * @return 展開後の内容
+     * @throws IOException 展開失敗、またはサイズの不一致
+     */
+    private static byte[] inflate(byte[] compressed, int size, String name) throws IOException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            byte[] output = new byte[size];
+            int length = 0;
+            while (!inflater.finished()) {
+                int count = inflater.inflate(output, length, output.length - length);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary() || length == size)) {
+                    break;
+                }
+                length += count;
+            }
+            if (!inflater.finished() || length != size) {
+                throw new IOException("エントリーの展開結果が不正です: " + name);
+            }
+            return output;
+        } catch (DataFormatException e) {
+            throw new IOException("エントリーの展開に失敗しました: " + name, e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -5,6 +5,12 @@
  * <h2>主要クラス</h2>
  * <ul>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.processor.JarFileAnalyzer} - JARファイル解析</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.processor.ParallelJarScanner} - JARファイル並列解析</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.processor.JarScanResult} - JARスキャン結果</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.processor.JarEntryContentSource} - JARエントリーからの内容再読み込み</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.processor.ZipCentralDirectoryProbe} - ZIP中央ディレクトリ走査</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.processor.ZipCentralDirectoryEntry} - ZIP中央ディレクトリのエントリー情報</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.processor.ZipEntryReader} - ZIPエントリーの直接読み込み</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.processor.LanguageFileWriter} - 言語ファイル書き込み</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.processor.CharacterCounter} - 文字数カウント</li>
  * </ul>
@@ -0,0 +1,54 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+import java.util.List;
+
+/**
+ * 文字数でレート制限するプロバイダー向けに、バッチ翻訳を予約・リトライ付きで実行するユーティリティ。
+ * 文字数を共有実行コンテキストで予約し、429エラー時はRetry-Afterに従って待機してから再送信する。
+ */
+public class BatchRetryExecutor {
+	/** 429エラー時の最大リトライ回数。 */
+	private static final int MAX_RETRY_ATTEMPTS = 3;
+	
+	/** 429エラーでRetry-Afterが取得できない場合の基本待機時間（ミリ秒）。 */
+	private static final long RETRY_BASE_WAIT_MS = 5000;
+	
+	/**
+	 * インスタンス化を禁止します。
+	 */
+	private BatchRetryExecutor() {
+	}
+	
+	/**
+	 * 文字数のレート制限を適用し、429エラー時はRetry-Afterに従ってリトライします。
+	 * @param context 共有実行コンテキスト
+	 * @param providerName ログ出力用のプロバイダー名
+	 * @param texts 翻訳対象テキストリスト
+	 * @param translator 1回のAPIリクエストで翻訳する処理
+	 * @return 翻訳済みテキストリスト
+	 * @throws Exception 翻訳エラー、または最大リトライ回数に到達
+	 */
+	public static List<String> translateWithRetry(ProviderExecutionContext context, String providerName,
+			List<String> texts, TextBatchTranslator translator) throws Exception {
+		int characters = PayloadBatcher.countCharacters(texts);
+		RateLimitException lastException = null;
+		
+		for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
+			TokenUsage reservation = context.acquireTokens(characters);
+			try {
+				return translator.translate(texts);
+			} catch (RateLimitException e) {
+				lastException = e;
+				long waitTime = e.getWaitMillis(RETRY_BASE_WAIT_MS * attempt);
+				context.onRateLimited(waitTime);
+				System.err.println(String.format(
+						"[%s] 429エラー発生 (試行 %d/%d) - %.1f秒後にリトライします",
+						providerName, attempt, MAX_RETRY_ATTEMPTS, waitTime / 1000.0));
+			} finally {
+				context.settleTokens(reservation, 0);
+			}
+		}
+		
+		throw new Exception("最大リトライ回数に達しました", lastException);
+	}
+}
@@ -1,21 +1,14 @@
 package io.github.pazakasin.minecraft.modpack.translator.service.provider;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.gson.Gson;
@@ -27,7 +20,7 @@ import io.github.pazakasin.minecraft.modpack.translator.service.callback.Progres
 
 /**
  * OpenAI ChatGPT APIを使用した翻訳プロバイダー。
- * 並列処理により高速化。
+ * 共有ワーカーでの並列処理により高速化。
  */
 public class ChatGPTTranslationProvider implements TranslationProvider {
 	/**
@@ -39,26 +32,52 @@ public class ChatGPTTranslationProvider implements TranslationProvider {
 		this.debugMode = debugMode;
 	}
 
+	/**
+	 * APIのベースURLを設定します。
+	 * @param baseUrl ベースURL（nullまたは空文字列で既定のURL）
+	 */
+	@Override
+	public void setBaseUrl(String baseUrl) {
+		this.baseUrl = baseUrl == null || baseUrl.trim().isEmpty()
+				? DEFAULT_BASE_URL : baseUrl.trim().replaceAll("/+$", "");
+		this.executionContext = obtainExecutionContext();
+	}
+
 	/** OpenAI APIのAPIキー。 */
 	private final String apiKey;
 
+	/** OpenAI APIの既定のベースURL。 */
+	private static final String DEFAULT_BASE_URL = "https://api.openai.com";
+
+	/** APIのベースURL（モックサーバー等への接続先の上書きに使用）。 */
+	private volatile String baseUrl = DEFAULT_BASE_URL;
+
 	/** カスタムプロンプト。 */
 	private final String customPrompt;
 
 	/** JSON処理用のGsonインスタンス。 */
 	private final Gson gson;
 
-	/** バッチサイズ（一度に翻訳するキーの数）。 */
+	/** 1バッチの最大キー数（トークン数の目安に先に達した場合はそれより少ない）。 */
 	private final int batchSize;
 
 	/** デバッグモード（API呼び出しをスキップ）。 */
 	private boolean debugMode = false;
 
+	/** ワーカースレッドを保持する共有実行コンテキスト。 */
+	private volatile ProviderExecutionContext executionContext;
+
 	/** 最大同時実行数。 */
 	private static final int MAX_CONCURRENT_REQUESTS = 10;
 
-	/** デフォルトバッチサイズ。 */
-	private static final int DEFAULT_BATCH_SIZE = 30;
+	/** デフォルトの1バッチの最大キー数。 */
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
+	/** 1バッチの出力トークン数の目安。 */
+	private static final int TARGET_OUTPUT_TOKENS_PER_BATCH = 3000;
+
+	/** 1バッチの入力トークン数の目安（プロンプトを除く）。 */
+	private static final int TARGET_INPUT_TOKENS_PER_BATCH = 6000;
 
 	/** デフォルトプロンプト。 */
 	private static final String DEFAULT_PROMPT =
@@ -89,18 +108,29 @@ public class ChatGPTTranslationProvider implements TranslationProvider {
 	 * ChatGPTTranslationProviderのコンストラクタ（バッチサイズ指定）。
 	 * @param apiKey OpenAI APIキー
 	 * @param customPrompt カスタムプロンプト（nullの場合はデフォルト）
-	 * @param batchSize バッチサイズ
+	 * @param batchSize 1バッチの最大キー数
 	 */
 	public ChatGPTTranslationProvider(String apiKey, String customPrompt, int batchSize) {
 		this.apiKey = apiKey;
 		this.customPrompt = customPrompt;
 		this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
 		this.gson = new GsonBuilder().setPrettyPrinting().create();
+		this.executionContext = obtainExecutionContext();
+	}
+
+	/**
+	 * 現在の接続先とAPIキーに対応する共有実行コンテキストを取得します。
+	 * @return 実行コンテキスト
+	 */
+	private ProviderExecutionContext obtainExecutionContext() {
+		return ProviderExecutionContext.get(getProviderName(), baseUrl, apiKey,
+				MAX_CONCURRENT_REQUESTS, 0);
 	}
 
 	/**
 	 * JSON形式の言語ファイルをChatGPT APIで翻訳します。
-	 * 並列処理により高速化。
+	 * 並列処理により高速化。バッチは値の見積もりトークン数で組み立て、
+	 * 出力トークン数の目安を超える長い値は文境界で分割して翻訳後に結合します。
 	 * @param jsonContent 翻訳元JSONコンテンツ
 	 * @param progressCallback 進捗コールバック
 	 * @return 翻訳後のJSONコンテンツ
@@ -109,17 +139,23 @@ public class ChatGPTTranslationProvider implements TranslationProvider {
 	@Override
 	public String translateJsonFile(String jsonContent, ProgressCallback progressCallback) throws Exception {
 		JsonObject sourceJson = gson.fromJson(jsonContent, JsonObject.class);
-		int totalKeys = sourceJson.size();
 
-		if (totalKeys == 0) {
+		if (sourceJson.size() == 0) {
 			return jsonContent;
 		}
 
-		List<Map<String, String>> batches = splitIntoBatches(sourceJson);
+		Map<String, String> sourceEntries = new LinkedHashMap<>();
+		for (String key : sourceJson.keySet()) {
+			sourceEntries.put(key, sourceJson.get(key).getAsString());
+		}
+		SegmentedEntries segmentedEntries = SegmentedEntries.split(sourceEntries, TARGET_OUTPUT_TOKENS_PER_BATCH);
+		int totalKeys = segmentedEntries.getUnits().size();
+
+		List<Map<String, String>> batches = PayloadBatcher.splitByTokens(segmentedEntries.getUnits(), batchSize,
+				TARGET_INPUT_TOKENS_PER_BATCH, TARGET_OUTPUT_TOKENS_PER_BATCH);
 		Map<String, String> translatedMap = new LinkedHashMap<>();
 		AtomicInteger processedKeys = new AtomicInteger(0);
 
-		ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENT_REQUESTS);
 		List<Future<BatchResult>> futures = new ArrayList<>();
 
 		try {
@@ -127,11 +163,18 @@ public class ChatGPTTranslationProvider implements TranslationProvider {
 				final int batchIndex = i;
 				final Map<String, String> batch = batches.get(i);
 
-				Future<BatchResult> future = executor.submit(new Callable<BatchResult>() {
+				Future<BatchResult> future = executionContext.submit(new Callable<BatchResult>() {
 					@Override
 					public BatchResult call() throws Exception {
 						try {
-							Map<String, String> result = translateBatch(batch);
+							TokenUsage reservation = executionContext.acquireTokens(
+									PayloadBatcher.estimateOutputTokens(batch));
+							Map<String, String> result;
+							try {
+								result = translateBatch(batch);
+							} finally {
+								executionContext.settleTokens(reservation, 0);
+							}
 							int currentProcessed = processedKeys.addAndGet(batch.size());
 
 							if (progressCallback != null) {
@@ -159,48 +202,20 @@ public class ChatGPTTranslationProvider implements TranslationProvider {
 			}
 
 		} finally {
-			executor.shutdown();
-			try {
-				if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
-					executor.shutdownNow();
-				}
-			} catch (InterruptedException e) {
-				executor.shutdownNow();
-				Thread.currentThread().interrupt();
+			for (Future<BatchResult> future : futures) {
+				future.cancel(false);
 			}
 		}
 
 		JsonObject resultJson = new JsonObject();
-		for (Map.Entry<String, String> entry : translatedMap.entrySet()) {
-			resultJson.addProperty(entry.getKey(), entry.getValue());
-		}
-
-		return gson.toJson(resultJson);
-	}
-
-	/**
-	 * JSONをバッチに分割します。
-	 * @param sourceJson 元のJSONオブジェクト
-	 * @return バッチのリスト
-	 */
-	private List<Map<String, String>> splitIntoBatches(JsonObject sourceJson) {
-		List<Map<String, String>> batches = new ArrayList<>();
-		Map<String, String> currentBatch = new LinkedHashMap<>();
-
 		for (String key : sourceJson.keySet()) {
-			currentBatch.put(key, sourceJson.get(key).getAsString());
-
-			if (currentBatch.size() >= batchSize) {
-				batches.add(currentBatch);
-				currentBatch = new LinkedHashMap<>();
+			String translated = segmentedEntries.reassemble(key, translatedMap);
+			if (translated != null) {
+				resultJson.addProperty(key, translated);
 			}
 		}
 
-		if (!currentBatch.isEmpty()) {
-			batches.add(currentBatch);
-		}
-
-		return batches;
+		return gson.toJson(resultJson);
 	}
 
 	/**
@@ -225,92 +240,54 @@ public class ChatGPTTranslationProvider implements TranslationProvider {
 		}
 
 		String batchJsonStr = gson.toJson(batchJson);
-		String urlStr = "https://api.openai.com/v1/chat/completions";
-		URL url = new URL(urlStr);
-		HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-
-		try {
-			conn.setRequestMethod("POST");
-			conn.setRequestProperty("Content-Type", "application/json");
-			conn.setRequestProperty("Authorization", "Bearer " + apiKey);
-			conn.setDoOutput(true);
-
-			String prompt;
-			if (customPrompt != null && !customPrompt.trim().isEmpty()) {
-				prompt = customPrompt.replace("{jsonContent}", batchJsonStr);
-			} else {
-				prompt = DEFAULT_PROMPT.replace("{jsonContent}", batchJsonStr);
-			}
-
-			JsonObject requestBody = new JsonObject();
-			requestBody.addProperty("model", "gpt-4o-mini");
-			requestBody.addProperty("temperature", 0.3);
-
-			JsonArray messages = new JsonArray();
-			JsonObject message = new JsonObject();
-			message.addProperty("role", "user");
-			message.addProperty("content", prompt);
-			messages.add(message);
-			requestBody.add("messages", messages);
-
-			try (OutputStream os = conn.getOutputStream()) {
-				byte[] input = requestBody.toString().getBytes(StandardCharsets.UTF_8);
-				os.write(input, 0, input.length);
-			}
-
-			int responseCode = conn.getResponseCode();
-			if (responseCode != 200) {
-				String errorMsg = readErrorStream(conn);
-				IOException ioException = new IOException("ChatGPT API Error: " + responseCode + " - " + errorMsg);
-				logApiError(ioException);
-				throw ioException;
-			}
+		String urlStr = baseUrl + "/v1/chat/completions";
+		Map<String, String> headers = new LinkedHashMap<>();
+		headers.put("Authorization", "Bearer " + apiKey);
+
+		String prompt;
+		if (customPrompt != null && !customPrompt.trim().isEmpty()) {
+			prompt = customPrompt.replace("{jsonContent}", batchJsonStr);
+		} else {
+			prompt = DEFAULT_PROMPT.replace("{jsonContent}", batchJsonStr);
+		}
 
-			String response = readInputStream(conn);
-			JsonObject jsonResponse = gson.fromJson(response, JsonObject.class);
-			String content = jsonResponse.getAsJsonArray("choices")
-					.get(0).getAsJsonObject()
-					.getAsJsonObject("message")
-					.get("content").getAsString();
+		JsonObject requestBody = new JsonObject();
+		requestBody.addProperty("model", "gpt-4o-mini");
+		requestBody.addProperty("temperature", 0.3);
+
+		JsonArray messages = new JsonArray();
+		JsonObject message = new JsonObject();
+		message.addProperty("role", "user");
+		message.addProperty("content", prompt);
+		messages.add(message);
+		requestBody.add("messages", messages);
+
+		HttpResponse<InputStream> response = ProviderHttpClient.post(urlStr, "application/json",
+				headers, requestBody.toString());
+
+		int responseCode = response.statusCode();
+		if (responseCode != 200) {
+			String errorMsg = ProviderHttpClient.readError(response);
+			IOException ioException = new IOException("ChatGPT API Error: " + responseCode + " - " + errorMsg);
+			logApiError(ioException);
+			throw ioException;
+		}
 
-			content = content.replaceAll("```json\\s*", "").replaceAll("```\\s*", "").trim();
-			JsonObject translatedJson = gson.fromJson(content, JsonObject.class);
+		JsonObject jsonResponse = ProviderHttpClient.readJson(response);
+		String content = jsonResponse.getAsJsonArray("choices")
+				.get(0).getAsJsonObject()
+				.getAsJsonObject("message")
+				.get("content").getAsString();
 
-			Map<String, String> result = new LinkedHashMap<>();
-			for (String key : translatedJson.keySet()) {
-				result.put(key, translatedJson.get(key).getAsString());
-			}
+		content = content.replaceAll("```json\\s*", "").replaceAll("```\\s*", "").trim();
+		JsonObject translatedJson = gson.fromJson(content, JsonObject.class);
 
-			return result;
-		} finally {
-			conn.disconnect();
+		Map<String, String> result = new LinkedHashMap<>();
+		for (String key : translatedJson.keySet()) {
+			result.put(key, translatedJson.get(key).getAsString());
 		}
-	}
 
-	/** HTTPレスポンスを文字列として読み込みます。 */
-	private String readInputStream(HttpURLConnection conn) throws IOException {
-		try (BufferedReader br = new BufferedReader(
-				new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-			StringBuilder response = new StringBuilder();
-			String line;
-			while ((line = br.readLine()) != null) {
-				response.append(line);
-			}
-			return response.toString();
-		}
-	}
-
-	/** HTTPエラーレスポンスを文字列として読み込みます。 */
-	private String readErrorStream(HttpURLConnection conn) throws IOException {
-		try (BufferedReader br = new BufferedReader(
-				new InputStreamReader(conn.getErrorStream(), StandardCharsets.UTF_8))) {
-			StringBuilder errorResponse = new StringBuilder();
-			String line;
-			while ((line = br.readLine()) != null) {
-				errorResponse.append(line);
-			}
-			return errorResponse.toString();
-		}
+		return result;
 	}
 
 	/**
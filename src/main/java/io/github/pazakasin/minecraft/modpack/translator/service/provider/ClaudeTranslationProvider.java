@@ -2,33 +2,32 @@ package io.github.pazakasin.minecraft.modpack.translator.service.provider;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.ProgressCallback;
+import io.github.pazakasin.minecraft.modpack.translator.service.callback.TranslationCheckpointCallback;
 
 /**
  * Anthropic Claude APIを使用した翻訳プロバイダー。
- * 並列処理と出力トークンベースのレート制限により高速かつ安全に翻訳。
+ * 共有ワーカーでの並列処理と出力トークンベースのレート制限により高速かつ安全に翻訳。
  */
 public class ClaudeTranslationProvider implements TranslationProvider {
 	/**
@@ -40,56 +39,73 @@ public class ClaudeTranslationProvider implements TranslationProvider {
 		this.debugMode = debugMode;
 	}
 
+	/**
+	 * APIのベースURLを設定します。
+	 * @param baseUrl ベースURL（nullまたは空文字列で既定のURL）
+	 */
+	@Override
+	public void setBaseUrl(String baseUrl) {
+		this.baseUrl = baseUrl == null || baseUrl.trim().isEmpty()
+				? DEFAULT_BASE_URL : baseUrl.trim().replaceAll("/+$", "");
+		this.executionContext = obtainExecutionContext();
+	}
+
 	/** Anthropic APIのAPIキー。 */
 	private final String apiKey;
 
+	/** Anthropic APIの既定のベースURL。 */
+	private static final String DEFAULT_BASE_URL = "https://api.anthropic.com";
+
+	/** APIのベースURL（モックサーバー等への接続先の上書きに使用）。 */
+	private volatile String baseUrl = DEFAULT_BASE_URL;
+
 	/** カスタムプロンプト。 */
 	private final String customPrompt;
 
 	/** JSON処理用のGsonインスタンス。 */
 	private final Gson gson;
 
-	/** バッチサイズ（一度に翻訳するキーの数）。 */
+	/** 1バッチの最大キー数（トークン数の目安に先に達した場合はそれより少ない）。 */
 	private final int batchSize;
 
-	/** 最大同時実行数。 */
+	/** 初期の同時実行数。 */
 	private static final int MAX_CONCURRENT_REQUESTS = 3;
 
-	/** 出力トークン制限（1分間の上限、余裕を持たせて9000に設定）。 */
-	private static final int OUTPUT_TOKEN_LIMIT_PER_MINUTE = 9000;
+	/** レスポンスヘッダーに余裕がある場合に引き上げる同時実行数の上限。 */
+	private static final int MAX_ADAPTIVE_CONCURRENT_REQUESTS = 8;
 
-	/** 1回のAPIリクエストで予想される最大出力トークン数。 */
-	private static final int ESTIMATED_OUTPUT_TOKENS_PER_REQUEST = 2000;
+	/** 出力トークン制限の初期値（レスポンスヘッダーの上限を受信するまで使用）。 */
+	private static final int OUTPUT_TOKEN_LIMIT_PER_MINUTE = 9000;
 
 	/** APIリクエストのmax_tokensパラメータ値。 */
 	private static final int MAX_TOKENS_PER_REQUEST = 2500;
 
+	/** 1バッチの出力トークン数の目安（見積もり誤差で max_tokens を超えないよう余裕を持たせた値）。 */
+	private static final int TARGET_OUTPUT_TOKENS_PER_BATCH = 1500;
+
+	/** 1バッチの入力トークン数の目安（プロンプトを除く）。 */
+	private static final int TARGET_INPUT_TOKENS_PER_BATCH = 4000;
+
+	/** 未翻訳・不正なキーをバッチの上限を半減して再送信する最大回数。 */
+	private static final int MAX_SALVAGE_ROUNDS = 2;
+
 	/** 429エラー時の最大リトライ回数。 */
 	private static final int MAX_RETRY_ATTEMPTS = 3;
 
-	/** 429エラー時の基本待機時間（ミリ秒）。 */
+	/** 429エラーでRetry-After・リセット時刻が取得できない場合の基本待機時間（ミリ秒）。 */
 	private static final long RETRY_BASE_WAIT_MS = 65000;
 
-	/** レート制限用セマフォ。 */
-	private final Semaphore rateLimiter;
-
-	/** 出力トークン使用量を記録するリスト（時刻とトークン数のペア）。 */
-	private final List<TokenUsage> tokenUsages;
+	/** ワーカースレッドと出力トークン使用量を保持する共有実行コンテキスト。 */
+	private volatile ProviderExecutionContext executionContext;
 
 	/** デバッグモード（API呼び出しをスキップ）。 */
 	private boolean debugMode = false;
 
-	/** ファイル翻訳開始時刻（デバッグログ用）。 */
-	private long fileTranslationStartTime = 0;
-
-	/** ファイル翻訳の累積トークン数（デバッグログ用）。 */
-	private final AtomicInteger totalTokensUsed = new AtomicInteger(0);
-
-	/** ファイル翻訳のリクエスト回数（デバッグログ用）。 */
-	private final AtomicInteger totalRequests = new AtomicInteger(0);
+	/** ストリーミング応答（SSE）で受信するか。 */
+	private volatile boolean streamingEnabled = false;
 
-	/** デフォルトバッチサイズ。 */
-	private static final int DEFAULT_BATCH_SIZE = 20;
+	/** デフォルトの1バッチの最大キー数。 */
+	private static final int DEFAULT_BATCH_SIZE = 100;
 
 	/** デフォルトプロンプト。 */
 	private static final String DEFAULT_PROMPT =
@@ -120,15 +136,32 @@ public class ClaudeTranslationProvider implements TranslationProvider {
 	 * ClaudeTranslationProviderのコンストラクタ（バッチサイズ指定）。
 	 * @param apiKey Anthropic APIキー
 	 * @param customPrompt カスタムプロンプト（nullの場合はデフォルト）
-	 * @param batchSize バッチサイズ
+	 * @param batchSize 1バッチの最大キー数
 	 */
 	public ClaudeTranslationProvider(String apiKey, String customPrompt, int batchSize) {
 		this.apiKey = apiKey;
 		this.customPrompt = customPrompt;
 		this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
 		this.gson = new GsonBuilder().setPrettyPrinting().create();
-		this.rateLimiter = new Semaphore(MAX_CONCURRENT_REQUESTS);
-		this.tokenUsages = new ArrayList<>();
+		this.executionContext = obtainExecutionContext();
+	}
+
+	/**
+	 * 現在の接続先とAPIキーに対応する共有実行コンテキストを取得します。
+	 * @return 実行コンテキスト
+	 */
+	private ProviderExecutionContext obtainExecutionContext() {
+		return ProviderExecutionContext.get(getProviderName(), baseUrl, apiKey,
+				MAX_ADAPTIVE_CONCURRENT_REQUESTS, MAX_CONCURRENT_REQUESTS, OUTPUT_TOKEN_LIMIT_PER_MINUTE);
+	}
+
+	/**
+	 * ストリーミング応答（SSE）を使用するかを設定します。
+	 * 有効時は翻訳済みのキーから順に進捗とチェックポイントを通知します。
+	 * @param streamingEnabled trueでストリーミング有効
+	 */
+	public void setStreamingEnabled(boolean streamingEnabled) {
+		this.streamingEnabled = streamingEnabled;
 	}
 
 	/**
@@ -141,139 +174,129 @@ public class ClaudeTranslationProvider implements TranslationProvider {
 	 */
 	@Override
 	public String translateJsonFile(String jsonContent, ProgressCallback progressCallback) throws Exception {
-		fileTranslationStartTime = System.currentTimeMillis();
-		totalTokensUsed.set(0);
-		totalRequests.set(0);
+		return translateJsonFile(jsonContent, progressCallback, null);
+	}
+
+	/**
+	 * JSON形式の言語ファイルをClaude APIで翻訳し、翻訳済みのキーを途中で通知します。
+	 * ストリーミング有効時はキー単位、無効時はバッチ単位で通知します。
+	 * バッチは値の見積もりトークン数で組み立て、出力トークン数の目安を超える長い値は
+	 * 文境界で分割して翻訳後に結合します。
+	 * 欠落・不正なキーはバッチの上限を半減して再送信し、成功したキーは常に保持します。
+	 * @param jsonContent 翻訳元JSONコンテンツ
+	 * @param progressCallback 進捗コールバック
+	 * @param checkpointCallback 翻訳済みキーのコールバック（null可）
+	 * @return 翻訳後のJSONコンテンツ
+	 * @throws Exception API通信エラー等
+	 */
+	@Override
+	public String translateJsonFile(String jsonContent, final ProgressCallback progressCallback,
+			final TranslationCheckpointCallback checkpointCallback) throws Exception {
+		// 共有プロバイダーで複数ファイルを並行翻訳するため、ファイル単位の集計は呼び出しごとに保持
+		long fileTranslationStartTime = System.currentTimeMillis();
+		final AtomicInteger fileOutputTokens = new AtomicInteger(0);
+		final AtomicInteger fileRequests = new AtomicInteger(0);
 		
 		System.out.println("[デバッグ] ファイル翻訳開始");
 		
 		JsonObject sourceJson = gson.fromJson(jsonContent, JsonObject.class);
-		int totalKeys = sourceJson.size();
 
-		if (totalKeys == 0) {
+		if (sourceJson.size() == 0) {
 			return jsonContent;
 		}
 
-		List<Map<String, String>> batches = splitIntoBatches(sourceJson);
-		Map<String, String> translatedMap = new LinkedHashMap<>();
-		AtomicInteger processedKeys = new AtomicInteger(0);
+		Map<String, String> sourceEntries = new LinkedHashMap<>();
+		for (String key : sourceJson.keySet()) {
+			sourceEntries.put(key, sourceJson.get(key).getAsString());
+		}
+		final SegmentedEntries segmentedEntries = SegmentedEntries.split(sourceEntries, TARGET_OUTPUT_TOKENS_PER_BATCH);
+		Map<String, String> units = segmentedEntries.getUnits();
+		int totalKeys = units.size();
+		if (segmentedEntries.getSegmentedCount() > 0) {
+			System.out.println(String.format("[デバッグ] 長い値 %d 件を文境界で分割しました（翻訳単位: %d）",
+					segmentedEntries.getSegmentedCount(), totalKeys));
+		}
+
+		final Map<String, String> translatedMap = new ConcurrentHashMap<>();
+		TranslationCheckpointCallback unitCheckpointCallback = null;
+		if (checkpointCallback != null) {
+			unitCheckpointCallback = new TranslationCheckpointCallback() {
+				@Override
+				public void onTranslated(Map<String, String> translations) {
+					Map<String, String> completed = segmentedEntries.collectCompleted(translations.keySet(), translatedMap);
+					if (!completed.isEmpty()) {
+						checkpointCallback.onTranslated(completed);
+					}
+				}
+			};
+		}
 
-		ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENT_REQUESTS);
+		final AtomicInteger processedKeys = new AtomicInteger(0);
+		int currentBatchSize = batchSize;
+		int currentOutputTokens = TARGET_OUTPUT_TOKENS_PER_BATCH;
+		List<Map<String, String>> batches = PayloadBatcher.splitByTokens(units, currentBatchSize,
+				TARGET_INPUT_TOKENS_PER_BATCH, currentOutputTokens);
 		List<Future<BatchResult>> futures = new ArrayList<>();
+		Map<String, String> pendingKeys = new LinkedHashMap<>();
+		Exception lastError = null;
+		int totalBatches = 0;
 
 		try {
-			for (int i = 0; i < batches.size(); i++) {
-				final int batchIndex = i;
-				final Map<String, String> batch = batches.get(i);
-
-				Future<BatchResult> future = executor.submit(new Callable<BatchResult>() {
-					@Override
-					public BatchResult call() throws Exception {
-						try {
-							acquireRateLimit();
-							BatchTranslationResult batchResult = translateBatchWithRetry(batch, batchIndex, batches.size());
-							updateActualTokenUsage(batchResult.actualOutputTokens);
-							totalTokensUsed.addAndGet(batchResult.actualOutputTokens);
-							totalRequests.incrementAndGet();
-							
-							logTokenUsage(batchIndex, batches.size(), batchResult.actualOutputTokens);
-							
-							int currentProcessed = processedKeys.addAndGet(batch.size());
-
-							if (progressCallback != null) {
-								progressCallback.onProgress(currentProcessed, totalKeys);
-							}
-
-							return new BatchResult(batchIndex, batchResult.translations, null);
-						} catch (Exception e) {
-							logBatchError(batchIndex, batches.size(), batch, e);
-							return new BatchResult(batchIndex, null, e);
+			for (int round = 0; ; round++) {
+				List<Future<BatchResult>> roundFutures = submitBatches(batches, translatedMap, processedKeys,
+						totalKeys, progressCallback, unitCheckpointCallback, fileOutputTokens, fileRequests);
+				futures.addAll(roundFutures);
+				totalBatches += batches.size();
+
+				pendingKeys = new LinkedHashMap<>();
+				for (int i = 0; i < roundFutures.size(); i++) {
+					BatchResult result = roundFutures.get(i).get();
+					if (result.error instanceof InterruptedException) {
+						throw result.error;
+					}
+					if (result.error != null) {
+						lastError = result.error;
+					}
+					for (Map.Entry<String, String> entry : batches.get(i).entrySet()) {
+						if (!translatedMap.containsKey(entry.getKey())) {
+							pendingKeys.put(entry.getKey(), entry.getValue());
 						}
 					}
-				});
-
-				futures.add(future);
-			}
+				}
 
-			for (Future<BatchResult> future : futures) {
-				BatchResult result = future.get();
-				if (result.error != null) {
-					throw new Exception("バッチ " + (result.batchIndex + 1) + "/" + batches.size() +
-							" の翻訳に失敗しました: " + result.error.getMessage(), result.error);
+				if (pendingKeys.isEmpty() || round >= MAX_SALVAGE_ROUNDS) {
+					break;
 				}
-				translatedMap.putAll(result.translations);
+				currentBatchSize = Math.max(1, currentBatchSize / 2);
+				currentOutputTokens = Math.max(1, currentOutputTokens / 2);
+				System.out.println(String.format(
+						"[再翻訳] 未翻訳・不正な %d キーを最大 %d キー・%d トークンずつ再送信します (%d/%d回目)",
+						pendingKeys.size(), currentBatchSize, currentOutputTokens, round + 1, MAX_SALVAGE_ROUNDS));
+				batches = PayloadBatcher.splitByTokens(pendingKeys, currentBatchSize,
+						TARGET_INPUT_TOKENS_PER_BATCH, currentOutputTokens);
 			}
 
 		} finally {
-			executor.shutdown();
-			try {
-				if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
-					executor.shutdownNow();
-				}
-			} catch (InterruptedException e) {
-				executor.shutdownNow();
-				Thread.currentThread().interrupt();
+			for (Future<BatchResult> future : futures) {
+				future.cancel(false);
 			}
 			
-			logFileTranslationSummary(batches.size());
+			logFileTranslationSummary(totalBatches, fileTranslationStartTime,
+					fileOutputTokens.get(), fileRequests.get());
 		}
 
-		JsonObject resultJson = new JsonObject();
-		for (Map.Entry<String, String> entry : translatedMap.entrySet()) {
-			resultJson.addProperty(entry.getKey(), entry.getValue());
-		}
-
-		return gson.toJson(resultJson);
-	}
-
-	/**
-	 * 出力トークン数ベースのレート制限を適用します。
-	 * リクエスト数の制限は行わず、トークン使用量のみで制御します。
-	 * @throws InterruptedException スレッド中断
-	 */
-	private synchronized void acquireRateLimit() throws InterruptedException {
-		long now = System.currentTimeMillis();
-		final long oneMinuteAgo = now - 60000;
-
-		tokenUsages.removeIf(usage -> usage.timestamp < oneMinuteAgo);
-
-		int currentTokenUsage = 0;
-		for (TokenUsage usage : tokenUsages) {
-			currentTokenUsage += usage.tokens;
+		if (!pendingKeys.isEmpty()) {
+			throw new Exception(String.format("%d/%d キーの翻訳に失敗しました（翻訳済みの %d キーは保持されています）%s",
+					pendingKeys.size(), totalKeys, translatedMap.size(),
+					lastError != null ? ": " + lastError.getMessage() : ""), lastError);
 		}
 
-		if (currentTokenUsage + ESTIMATED_OUTPUT_TOKENS_PER_REQUEST > OUTPUT_TOKEN_LIMIT_PER_MINUTE) {
-			if (!tokenUsages.isEmpty()) {
-				long oldestTokenTime = tokenUsages.get(0).timestamp;
-				long waitTime = 60000 - (now - oldestTokenTime) + 100;
-				
-				if (waitTime > 0) {
-					System.out.println(String.format(
-							"[レート制限] 待機中... (現在のトークン使用量: %d/%d, 待機時間: %.1f秒)",
-							currentTokenUsage, OUTPUT_TOKEN_LIMIT_PER_MINUTE,
-							waitTime / 1000.0));
-					Thread.sleep(waitTime);
-				}
-			}
-
-			now = System.currentTimeMillis();
-			final long oneMinuteAgoAfterWait = now - 60000;
-			tokenUsages.removeIf(usage -> usage.timestamp < oneMinuteAgoAfterWait);
+		JsonObject resultJson = new JsonObject();
+		for (String key : sourceJson.keySet()) {
+			resultJson.addProperty(key, segmentedEntries.reassemble(key, translatedMap));
 		}
 
-		tokenUsages.add(new TokenUsage(now, ESTIMATED_OUTPUT_TOKENS_PER_REQUEST));
-	}
-
-	/**
-	 * APIレスポンスから取得した実際のトークン使用量で記録を更新します。
-	 * @param actualTokens 実際の出力トークン数
-	 */
-	private synchronized void updateActualTokenUsage(int actualTokens) {
-		if (tokenUsages.isEmpty()) {
-			return;
-		}
-		TokenUsage lastUsage = tokenUsages.get(tokenUsages.size() - 1);
-		tokenUsages.set(tokenUsages.size() - 1, new TokenUsage(lastUsage.timestamp, actualTokens));
+		return gson.toJson(resultJson);
 	}
 
 	/**
@@ -281,20 +304,12 @@ public class ClaudeTranslationProvider implements TranslationProvider {
 	 * @param batchIndex バッチインデックス
 	 * @param totalBatches 総バッチ数
 	 * @param outputTokens 出力トークン数
+	 * @param currentTotalTokens ファイル翻訳の累積出力トークン数
+	 * @param currentRequests ファイル翻訳のリクエスト回数
 	 */
-	private synchronized void logTokenUsage(int batchIndex, int totalBatches, int outputTokens) {
-		int currentTotalTokens = totalTokensUsed.get();
-		int currentRequests = totalRequests.get();
-		
-		int currentWindowTokens = 0;
-		long now = System.currentTimeMillis();
-		final long oneMinuteAgo = now - 60000;
-		
-		for (TokenUsage usage : tokenUsages) {
-			if (usage.timestamp >= oneMinuteAgo) {
-				currentWindowTokens += usage.tokens;
-			}
-		}
+	private void logTokenUsage(int batchIndex, int totalBatches, int outputTokens,
+			int currentTotalTokens, int currentRequests) {
+		int currentWindowTokens = executionContext.getWindowTokens();
 		
 		System.out.println(String.format(
 				"[デバッグ] バッチ %d/%d 完了 | 出力トークン: %d | " +
@@ -302,17 +317,19 @@ public class ClaudeTranslationProvider implements TranslationProvider {
 				"直近1分間: %d/%d トークン",
 				batchIndex + 1, totalBatches, outputTokens,
 				currentTotalTokens, currentRequests,
-				currentWindowTokens, OUTPUT_TOKEN_LIMIT_PER_MINUTE));
+				currentWindowTokens, executionContext.getTokenLimitPerMinute()));
 	}
 
 	/**
 	 * ファイル翻訳完了時のサマリーをログ出力します。
 	 * @param totalBatches 総バッチ数
+	 * @param fileTranslationStartTime ファイル翻訳開始時刻
+	 * @param finalTotalTokens ファイル翻訳の累積出力トークン数
+	 * @param finalRequests ファイル翻訳のリクエスト回数
 	 */
-	private void logFileTranslationSummary(int totalBatches) {
+	private void logFileTranslationSummary(int totalBatches, long fileTranslationStartTime,
+			int finalTotalTokens, int finalRequests) {
 		long elapsedTime = System.currentTimeMillis() - fileTranslationStartTime;
-		int finalTotalTokens = totalTokensUsed.get();
-		int finalRequests = totalRequests.get();
 		double avgTokensPerRequest = finalRequests > 0 ? (double) finalTotalTokens / finalRequests : 0;
 		
 		System.out.println(String.format(
@@ -324,69 +341,139 @@ public class ClaudeTranslationProvider implements TranslationProvider {
 				elapsedTime / 1000.0));
 	}
 
+	/**
+	 * バッチを共有ワーカーに投入します。
+	 * 各バッチの翻訳結果はキー単位で検証し、有効なものだけを翻訳結果マップに追加して通知します。
+	 * @param batches 翻訳するバッチのリスト
+	 * @param translatedMap 有効な翻訳結果の格納先
+	 * @param processedKeys 翻訳済みキー数のカウンター
+	 * @param totalKeys ファイル全体のキー数
+	 * @param progressCallback 進捗コールバック（null可）
+	 * @param checkpointCallback 翻訳済みキーのコールバック（null可）
+	 * @param fileOutputTokens ファイル翻訳の累積出力トークン数
+	 * @param fileRequests ファイル翻訳のリクエスト回数
+	 * @return バッチごとのFuture（バッチと同順）
+	 */
+	private List<Future<BatchResult>> submitBatches(final List<Map<String, String>> batches,
+			final Map<String, String> translatedMap, final AtomicInteger processedKeys, final int totalKeys,
+			final ProgressCallback progressCallback, final TranslationCheckpointCallback checkpointCallback,
+			final AtomicInteger fileOutputTokens, final AtomicInteger fileRequests) {
+		List<Future<BatchResult>> futures = new ArrayList<>();
+
+		for (int i = 0; i < batches.size(); i++) {
+			final int batchIndex = i;
+			final Map<String, String> batch = batches.get(i);
+
+			futures.add(executionContext.submit(new Callable<BatchResult>() {
+				@Override
+				public BatchResult call() throws Exception {
+					TranslationCheckpointCallback keyCallback = new TranslationCheckpointCallback() {
+						@Override
+						public void onTranslated(Map<String, String> translations) {
+							Map<String, String> newKeys = new LinkedHashMap<>();
+							for (Map.Entry<String, String> entry : translations.entrySet()) {
+								String key = entry.getKey();
+								if (batch.containsKey(key) && isValidTranslation(batch.get(key), entry.getValue())
+										&& translatedMap.putIfAbsent(key, entry.getValue()) == null) {
+									newKeys.put(key, entry.getValue());
+								}
+							}
+							if (newKeys.isEmpty()) {
+								return;
+							}
+							int currentProcessed = processedKeys.addAndGet(newKeys.size());
+							if (progressCallback != null) {
+								progressCallback.onProgress(currentProcessed, totalKeys);
+							}
+							if (checkpointCallback != null) {
+								checkpointCallback.onTranslated(newKeys);
+							}
+						}
+					};
+					try {
+						TokenUsage reservation = executionContext.acquireTokens(executionContext.estimateTokens(
+								PayloadBatcher.estimateOutputTokens(batch), MAX_TOKENS_PER_REQUEST));
+						BatchTranslationResult batchResult;
+						int actualOutputTokens = 0;
+						try {
+							batchResult = translateBatchWithRetry(batch, batchIndex, batches.size(), keyCallback);
+							actualOutputTokens = batchResult.actualOutputTokens;
+						} finally {
+							executionContext.settleTokens(reservation, actualOutputTokens);
+						}
+						int currentTotalTokens = fileOutputTokens.addAndGet(batchResult.actualOutputTokens);
+						int currentRequests = fileRequests.incrementAndGet();
+						
+						logTokenUsage(batchIndex, batches.size(), batchResult.actualOutputTokens,
+								currentTotalTokens, currentRequests);
+						
+						keyCallback.onTranslated(batchResult.translations);
+						return new BatchResult(batchIndex, batchResult.translations, null);
+					} catch (Exception e) {
+						logBatchError(batchIndex, batches.size(), batch, e);
+						return new BatchResult(batchIndex, null, e);
+					}
+				}
+			}));
+		}
+
+		return futures;
+	}
+
+	/**
+	 * 翻訳結果が有効かを判定します。
+	 * 欠落（null）と、原文が空でないのに空文字列が返された場合を無効とします。
+	 * @param source 原文
+	 * @param translated 翻訳結果
+	 * @return 有効な場合true
+	 */
+	private boolean isValidTranslation(String source, String translated) {
+		if (translated == null) {
+			return false;
+		}
+		return !translated.trim().isEmpty() || source == null || source.trim().isEmpty();
+	}
+
 	/**
 	 * 429エラー時に自動リトライを行うバッチ翻訳メソッド。
+	 * 待機時間はRetry-After、レート制限のリセット時刻、基本待機時間の順に決定します。
 	 * @param batch 翻訳するキーと値のマップ
 	 * @param batchIndex バッチインデックス
 	 * @param totalBatches 総バッチ数
+	 * @param keyCallback ストリーミング受信中に翻訳済みキーを通知するコールバック
 	 * @return 翻訳結果（翻訳データと実際のトークン数）
 	 * @throws Exception API通信エラー等
 	 */
-	private BatchTranslationResult translateBatchWithRetry(Map<String, String> batch, int batchIndex, int totalBatches) throws Exception {
+	private BatchTranslationResult translateBatchWithRetry(Map<String, String> batch, int batchIndex, int totalBatches,
+			TranslationCheckpointCallback keyCallback) throws Exception {
 		Exception lastException = null;
 
 		for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
 			try {
-				return translateBatch(batch);
-			} catch (IOException e) {
+				return translateBatch(batch, keyCallback);
+			} catch (RateLimitException e) {
 				lastException = e;
-				if (e.getMessage().contains("429")) {
-					long waitTime = RETRY_BASE_WAIT_MS * attempt;
-					System.err.println(String.format(
-							"[バッチ %d/%d] 429エラー発生 (試行 %d/%d) - %d秒後にリトライします",
-							batchIndex + 1, totalBatches, attempt, MAX_RETRY_ATTEMPTS, waitTime / 1000));
-					Thread.sleep(waitTime);
-				} else {
-					throw e;
-				}
+				long waitTime = e.getWaitMillis(RETRY_BASE_WAIT_MS * attempt);
+				executionContext.onRateLimited(waitTime);
+				System.err.println(String.format(
+						"[バッチ %d/%d] 429エラー発生 (試行 %d/%d) - %.1f秒後にリトライします",
+						batchIndex + 1, totalBatches, attempt, MAX_RETRY_ATTEMPTS, waitTime / 1000.0));
+				Thread.sleep(waitTime);
 			}
 		}
 
 		throw new Exception("最大リトライ回数に達しました", lastException);
 	}
 
-	/**
-	 * JSONをバッチに分割します。
-	 * @param sourceJson 元のJSONオブジェクト
-	 * @return バッチのリスト
-	 */
-	private List<Map<String, String>> splitIntoBatches(JsonObject sourceJson) {
-		List<Map<String, String>> batches = new ArrayList<>();
-		Map<String, String> currentBatch = new LinkedHashMap<>();
-
-		for (String key : sourceJson.keySet()) {
-			currentBatch.put(key, sourceJson.get(key).getAsString());
-
-			if (currentBatch.size() >= batchSize) {
-				batches.add(currentBatch);
-				currentBatch = new LinkedHashMap<>();
-			}
-		}
-
-		if (!currentBatch.isEmpty()) {
-			batches.add(currentBatch);
-		}
-
-		return batches;
-	}
-
 	/**
 	 * 1バッチ分のデータを翻訳します。
 	 * @param batch 翻訳するキーと値のマップ
+	 * @param keyCallback ストリーミング受信中に翻訳済みキーを通知するコールバック
 	 * @return 翻訳結果（翻訳データと実際のトークン数）
 	 * @throws Exception API通信エラー等
 	 */
-	private BatchTranslationResult translateBatch(Map<String, String> batch) throws Exception {
+	private BatchTranslationResult translateBatch(Map<String, String> batch,
+			TranslationCheckpointCallback keyCallback) throws Exception {
 		if (debugMode) {
 			Thread.sleep(500);
 			Map<String, String> result = new LinkedHashMap<>();
@@ -401,111 +488,156 @@ public class ClaudeTranslationProvider implements TranslationProvider {
 		}
 
 		String batchJsonStr = gson.toJson(batchJson);
-		String urlStr = "https://api.anthropic.com/v1/messages";
-		URL url = new URL(urlStr);
-		HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-
-		try {
-			conn.setRequestMethod("POST");
-			conn.setRequestProperty("Content-Type", "application/json");
-			conn.setRequestProperty("x-api-key", apiKey);
-			conn.setRequestProperty("anthropic-version", "2023-06-01");
-			conn.setDoOutput(true);
-
-			String prompt;
-			if (customPrompt != null && !customPrompt.trim().isEmpty()) {
-				prompt = customPrompt.replace("{jsonContent}", batchJsonStr);
-			} else {
-				prompt = DEFAULT_PROMPT.replace("{jsonContent}", batchJsonStr);
-			}
-
-			JsonObject requestBody = new JsonObject();
-			requestBody.addProperty("model", "claude-haiku-4-5");
-			requestBody.addProperty("max_tokens", MAX_TOKENS_PER_REQUEST);
+		String urlStr = baseUrl + "/v1/messages";
+		Map<String, String> headers = new LinkedHashMap<>();
+		headers.put("x-api-key", apiKey);
+		headers.put("anthropic-version", "2023-06-01");
+
+		String prompt;
+		if (customPrompt != null && !customPrompt.trim().isEmpty()) {
+			prompt = customPrompt.replace("{jsonContent}", batchJsonStr);
+		} else {
+			prompt = DEFAULT_PROMPT.replace("{jsonContent}", batchJsonStr);
+		}
 
-			JsonArray messages = new JsonArray();
-			JsonObject message = new JsonObject();
-			message.addProperty("role", "user");
-			message.addProperty("content", prompt);
-			messages.add(message);
-			requestBody.add("messages", messages);
+		JsonObject requestBody = new JsonObject();
+		requestBody.addProperty("model", "claude-haiku-4-5");
+		requestBody.addProperty("max_tokens", MAX_TOKENS_PER_REQUEST);
+		if (streamingEnabled) {
+			requestBody.addProperty("stream", true);
+		}
 
-			try (OutputStream os = conn.getOutputStream()) {
-				byte[] input = requestBody.toString().getBytes(StandardCharsets.UTF_8);
-				os.write(input, 0, input.length);
-			}
+		JsonArray messages = new JsonArray();
+		JsonObject message = new JsonObject();
+		message.addProperty("role", "user");
+		message.addProperty("content", prompt);
+		messages.add(message);
+		requestBody.add("messages", messages);
+
+		HttpResponse<InputStream> response = ProviderHttpClient.post(urlStr, "application/json",
+				headers, requestBody.toString());
+
+		int responseCode = response.statusCode();
+		RateLimitStatus rateLimitStatus = readRateLimitStatus(response);
+		if (responseCode == 429) {
+			String errorMsg = ProviderHttpClient.readError(response);
+			RateLimitException rateLimitException = new RateLimitException(
+					"Claude API Error: " + responseCode + " - " + errorMsg, rateLimitStatus);
+			logApiError(rateLimitException);
+			throw rateLimitException;
+		}
+		if (responseCode != 200) {
+			String errorMsg = ProviderHttpClient.readError(response);
+			IOException ioException = new IOException("Claude API Error: " + responseCode + " - " + errorMsg);
+			logApiError(ioException);
+			throw ioException;
+		}
+		executionContext.updateLimits(rateLimitStatus);
 
-			int responseCode = conn.getResponseCode();
-			if (responseCode != 200) {
-				String errorMsg = readErrorStream(conn);
-				IOException ioException = new IOException("Claude API Error: " + responseCode + " - " + errorMsg);
-				logApiError(ioException);
-				throw ioException;
-			}
+		if (streamingEnabled) {
+			return readStreamingResponse(response, keyCallback);
+		}
 
-			String response = readInputStream(conn);
-			JsonObject jsonResponse = gson.fromJson(response, JsonObject.class);
-			
-			int actualOutputTokens = 0;
-			if (jsonResponse.has("usage")) {
-				JsonObject usage = jsonResponse.getAsJsonObject("usage");
-				if (usage.has("output_tokens")) {
-					actualOutputTokens = usage.get("output_tokens").getAsInt();
-				}
+		JsonObject jsonResponse = ProviderHttpClient.readJson(response);
+		
+		int actualOutputTokens = 0;
+		if (jsonResponse.has("usage")) {
+			JsonObject usage = jsonResponse.getAsJsonObject("usage");
+			if (usage.has("output_tokens")) {
+				actualOutputTokens = usage.get("output_tokens").getAsInt();
 			}
-			
-			JsonArray contentArray = jsonResponse.getAsJsonArray("content");
-			String content = contentArray.get(0).getAsJsonObject()
-					.get("text").getAsString();
+		}
+		
+		JsonArray contentArray = jsonResponse.getAsJsonArray("content");
+		String content = contentArray.get(0).getAsJsonObject()
+				.get("text").getAsString();
 
-			content = content.replaceAll("```json\\s*", "").replaceAll("```\\s*", "").trim();
-			JsonObject translatedJson = gson.fromJson(content, JsonObject.class);
+		content = content.replaceAll("```json\\s*", "").replaceAll("```\\s*", "").trim();
+		JsonObject translatedJson = gson.fromJson(content, JsonObject.class);
 
-			Map<String, String> result = new LinkedHashMap<>();
-			for (String key : translatedJson.keySet()) {
-				result.put(key, translatedJson.get(key).getAsString());
+		Map<String, String> result = new LinkedHashMap<>();
+		for (Map.Entry<String, JsonElement> entry : translatedJson.entrySet()) {
+			if (entry.getValue().isJsonPrimitive()) {
+				result.put(entry.getKey(), entry.getValue().getAsString());
 			}
-
-			return new BatchTranslationResult(result, actualOutputTokens);
-		} finally {
-			conn.disconnect();
 		}
+
+		return new BatchTranslationResult(result, actualOutputTokens);
 	}
 
 	/**
-	 * HTTPレスポンスを文字列として読み込みます。
-	 * @param conn HTTP接続
-	 * @return レスポンス文字列
-	 * @throws IOException 読み込みエラー
+	 * ストリーミング応答（SSE）を読み込み、翻訳済みのキーを受信した順に通知します。
+	 * 途中で失敗した場合も、それまでに通知したキーはコールバック側で保存済みとなります。
+	 * @param response HTTPレスポンス
+	 * @param keyCallback 翻訳済みキーのコールバック
+	 * @return 翻訳結果（翻訳データと実際のトークン数）
+	 * @throws IOException 通信エラー、エラーイベント受信、応答の途中終了
 	 */
-	private String readInputStream(HttpURLConnection conn) throws IOException {
-		try (BufferedReader br = new BufferedReader(
-				new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-			StringBuilder response = new StringBuilder();
+	private BatchTranslationResult readStreamingResponse(HttpResponse<InputStream> response,
+			TranslationCheckpointCallback keyCallback) throws IOException {
+		StreamingJsonObjectParser parser = new StreamingJsonObjectParser();
+		int actualOutputTokens = 0;
+
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
 			String line;
-			while ((line = br.readLine()) != null) {
-				response.append(line);
+			while ((line = reader.readLine()) != null) {
+				if (!line.startsWith("data:")) {
+					continue;
+				}
+				JsonObject event = JsonParser.parseString(line.substring(5).trim()).getAsJsonObject();
+				String type = event.has("type") ? event.get("type").getAsString() : "";
+
+				if ("content_block_delta".equals(type)) {
+					JsonObject delta = event.getAsJsonObject("delta");
+					if (delta != null && delta.has("text")) {
+						Map<String, String> completed;
+						try {
+							completed = parser.feed(delta.get("text").getAsString());
+						} catch (IllegalStateException e) {
+							throw new IOException(e.getMessage(), e);
+						}
+						if (!completed.isEmpty()) {
+							keyCallback.onTranslated(completed);
+						}
+					}
+				} else if ("message_delta".equals(type)) {
+					JsonObject usage = event.getAsJsonObject("usage");
+					if (usage != null && usage.has("output_tokens")) {
+						actualOutputTokens = usage.get("output_tokens").getAsInt();
+					}
+				} else if ("error".equals(type)) {
+					throw new IOException("Claude API Error: stream - " + event.get("error"));
+				}
 			}
-			return response.toString();
 		}
+
+		if (!parser.isComplete()) {
+			throw new IOException(String.format("ストリーミング応答が途中で終了しました（%d件受信済み）",
+					parser.getResult().size()));
+		}
+		return new BatchTranslationResult(parser.getResult(), actualOutputTokens);
 	}
 
 	/**
-	 * HTTPエラーレスポンスを文字列として読み込みます。
-	 * @param conn HTTP接続
-	 * @return エラーレスポンス文字列
-	 * @throws IOException 読み込みエラー
+	 * レスポンスヘッダーからレート制限の状態を読み取ります。
+	 * @param response HTTPレスポンス
+	 * @return レート制限状態
 	 */
-	private String readErrorStream(HttpURLConnection conn) throws IOException {
-		try (BufferedReader br = new BufferedReader(
-				new InputStreamReader(conn.getErrorStream(), StandardCharsets.UTF_8))) {
-			StringBuilder errorResponse = new StringBuilder();
-			String line;
-			while ((line = br.readLine()) != null) {
-				errorResponse.append(line);
-			}
-			return errorResponse.toString();
-		}
+	private RateLimitStatus readRateLimitStatus(HttpResponse<?> response) {
+		RateLimitStatus status = new RateLimitStatus();
+		status.requestsRemaining = RateLimitStatus.parseInt(
+				ProviderHttpClient.header(response, "anthropic-ratelimit-requests-remaining"));
+		status.requestsResetAt = RateLimitStatus.parseResetTime(
+				ProviderHttpClient.header(response, "anthropic-ratelimit-requests-reset"));
+		status.outputTokensLimit = RateLimitStatus.parseInt(
+				ProviderHttpClient.header(response, "anthropic-ratelimit-output-tokens-limit"));
+		status.outputTokensRemaining = RateLimitStatus.parseInt(
+				ProviderHttpClient.header(response, "anthropic-ratelimit-output-tokens-remaining"));
+		status.outputTokensResetAt = RateLimitStatus.parseResetTime(
+				ProviderHttpClient.header(response, "anthropic-ratelimit-output-tokens-reset"));
+		status.retryAfterMs = RateLimitStatus.parseRetryAfter(ProviderHttpClient.header(response, "retry-after"));
+		return status;
 	}
 
 	/**
@@ -566,19 +698,6 @@ public class ClaudeTranslationProvider implements TranslationProvider {
 		}
 	}
 
-	/**
-	 * トークン使用量を記録する内部クラス。
-	 */
-	private static class TokenUsage {
-		final long timestamp;
-		final int tokens;
-
-		TokenUsage(long timestamp, int tokens) {
-			this.timestamp = timestamp;
-			this.tokens = tokens;
-		}
-	}
-
 	/**
 	 * バッチ翻訳結果と実際のトークン使用量を保持する内部クラス。
 	 */
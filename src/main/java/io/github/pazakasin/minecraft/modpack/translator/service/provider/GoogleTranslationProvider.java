@@ -4,13 +4,17 @@ import com.google.gson.*;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.ProgressCallback;
 import java.io.*;
 import java.net.*;
-import java.nio.charset.StandardCharsets;
+import java.net.http.HttpResponse;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Google Cloud Translation APIを使用した翻訳プロバイダー。
- * バッチサイズ128で高速に複数エントリーを翻訳。
+ * エントリー数とバイト数で分割したバッチを並列に翻訳。
  */
 public class GoogleTranslationProvider implements TranslationProvider {
     /**
@@ -22,18 +26,47 @@ public class GoogleTranslationProvider implements TranslationProvider {
         this.debugMode = debugMode;
     }
     
+    /**
+     * APIのベースURLを設定します。
+     * @param baseUrl ベースURL（nullまたは空文字列で既定のURL）
+     */
+    @Override
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl == null || baseUrl.trim().isEmpty()
+                ? DEFAULT_BASE_URL : baseUrl.trim().replaceAll("/+$", "");
+        this.executionContext = obtainExecutionContext();
+    }
+    
     /** 1回のAPIリクエストで送信するテキストの最大数。 */
     private static final int BATCH_SIZE = 128;
     
     /** Google Cloud Translation APIのAPIキー。 */
     private final String apiKey;
     
+    /** Google Cloud Translation APIの既定のベースURL。 */
+    private static final String DEFAULT_BASE_URL = "https://translation.googleapis.com";
+    
+    /** APIのベースURL（モックサーバー等への接続先の上書きに使用）。 */
+    private volatile String baseUrl = DEFAULT_BASE_URL;
+    
     /** JSON処理用のGsonインスタンス。 */
     private final Gson gson;
     
+    /** 1回のAPIリクエストで送信するテキストの最大バイト数（リクエスト本文の上限に余裕を持たせた値）。 */
+    private static final int MAX_REQUEST_BYTES = 30000;
+    
+    /** 最大同時実行数。 */
+    private static final int MAX_CONCURRENT_REQUESTS = 8;
+    
+    /** 1分間の翻訳文字数上限（既定クォータ600万文字の90%）。 */
+    private static final int CHARACTER_LIMIT_PER_MINUTE = 5400000;
+    
     /** デバッグモード（API呼び出しをスキップ）。 */
     private boolean debugMode = false;
     
+    /** ワーカースレッドと文字数のレート制限を保持する共有実行コンテキスト。 */
+    private volatile ProviderExecutionContext executionContext;
+    
     /**
      * GoogleTranslationProviderのコンストラクタ。
      * @param apiKey Google Cloud Translation APIキー
@@ -41,6 +74,16 @@ public class GoogleTranslationProvider implements TranslationProvider {
     public GoogleTranslationProvider(String apiKey) {
         this.apiKey = apiKey;
         this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.executionContext = obtainExecutionContext();
+    }
+    
+    /**
+     * 現在の接続先とAPIキーに対応する共有実行コンテキストを取得します。
+     * @return 実行コンテキスト
+     */
+    private ProviderExecutionContext obtainExecutionContext() {
+        return ProviderExecutionContext.get(getProviderName(), baseUrl, apiKey,
+            MAX_CONCURRENT_REQUESTS, CHARACTER_LIMIT_PER_MINUTE);
     }
     
     /**
@@ -51,7 +94,7 @@ public class GoogleTranslationProvider implements TranslationProvider {
      * @throws Exception API通信エラー等
      */
     @Override
-    public String translateJsonFile(String jsonContent, ProgressCallback progressCallback) throws Exception {
+    public String translateJsonFile(String jsonContent, final ProgressCallback progressCallback) throws Exception {
         JsonObject original = gson.fromJson(jsonContent, JsonObject.class);
         JsonObject translated = new JsonObject();
         
@@ -63,27 +106,45 @@ public class GoogleTranslationProvider implements TranslationProvider {
             values.add(entry.getValue().getAsString());
         }
         
-        int totalEntries = values.size();
+        final int totalEntries = values.size();
         List<String> translatedValues = new ArrayList<>();
+        List<List<String>> batches = PayloadBatcher.split(values, BATCH_SIZE, MAX_REQUEST_BYTES);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        final AtomicInteger processedEntries = new AtomicInteger(0);
         
-        for (int i = 0; i < values.size(); i += BATCH_SIZE) {
-            int end = Math.min(i + BATCH_SIZE, values.size());
-            List<String> batch = values.subList(i, end);
-            
-            if (progressCallback != null) {
-                progressCallback.onProgress(i, totalEntries);
+        try {
+            for (final List<String> batch : batches) {
+                futures.add(executionContext.submit(new Callable<List<String>>() {
+                    @Override
+                    public List<String> call() throws Exception {
+                        List<String> batchResults = BatchRetryExecutor.translateWithRetry(executionContext,
+                            getProviderName(), batch, new TextBatchTranslator() {
+                                @Override
+                                public List<String> translate(List<String> texts) throws Exception {
+                                    return translateBatch(texts);
+                                }
+                            });
+                        int currentProcessed = processedEntries.addAndGet(batch.size());
+                        if (progressCallback != null) {
+                            progressCallback.onProgress(currentProcessed, totalEntries);
+                        }
+                        return batchResults;
+                    }
+                }));
             }
             
-            List<String> batchResults = translateBatch(batch);
-            translatedValues.addAll(batchResults);
-            
-            if (end < values.size()) {
-                Thread.sleep(100);
+            for (Future<List<String>> future : futures) {
+                try {
+                    translatedValues.addAll(future.get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    throw cause instanceof Exception ? (Exception) cause : e;
+                }
+            }
+        } finally {
+            for (Future<List<String>> future : futures) {
+                future.cancel(false);
             }
-        }
-        
-        if (progressCallback != null) {
-            progressCallback.onProgress(totalEntries, totalEntries);
         }
         
         for (int i = 0; i < keys.size(); i++) {
@@ -109,78 +170,47 @@ public class GoogleTranslationProvider implements TranslationProvider {
         }
         return result;
         }
-        String urlStr = "https://translation.googleapis.com/language/translate/v2?key=" + apiKey;
-        URL url = new URL(urlStr);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        String urlStr = baseUrl + "/language/translate/v2?key=" + apiKey;
         
-        try {
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Content-Type", "application/json; charset=UTF-8");
-            conn.setDoOutput(true);
-            
-            JsonObject requestBody = new JsonObject();
-            JsonArray qArray = new JsonArray();
-            for (String text : texts) {
-                qArray.add(text);
-            }
-            requestBody.add("q", qArray);
-            requestBody.addProperty("source", "en");
-            requestBody.addProperty("target", "ja");
-            requestBody.addProperty("format", "text");
-            
-            try (OutputStream os = conn.getOutputStream()) {
-                byte[] input = requestBody.toString().getBytes(StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
-            }
-            
-            int responseCode = conn.getResponseCode();
-            if (responseCode != 200) {
-                String errorMsg = readErrorStream(conn);
-                IOException ioException = new IOException("Google API Error: " + responseCode + " - " + errorMsg);
-                logApiError(texts, ioException);
-                throw ioException;
-            }
-            
-            String response = readInputStream(conn);
-            JsonObject jsonResponse = gson.fromJson(response, JsonObject.class);
-            JsonArray translations = jsonResponse.getAsJsonObject("data")
-                .getAsJsonArray("translations");
-            
-            List<String> results = new ArrayList<>();
-            for (int i = 0; i < translations.size(); i++) {
-                results.add(translations.get(i).getAsJsonObject()
-                    .get("translatedText").getAsString());
-            }
-            return results;
-        } finally {
-            conn.disconnect();
+        JsonObject requestBody = new JsonObject();
+        JsonArray qArray = new JsonArray();
+        for (String text : texts) {
+            qArray.add(text);
         }
-    }
-    
-    /** HTTPレスポンスを文字列として読み込みます。 */
-    private String readInputStream(HttpURLConnection conn) throws IOException {
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-            StringBuilder response = new StringBuilder();
-            String line;
-            while ((line = br.readLine()) != null) {
-                response.append(line);
-            }
-            return response.toString();
+        requestBody.add("q", qArray);
+        requestBody.addProperty("source", "en");
+        requestBody.addProperty("target", "ja");
+        requestBody.addProperty("format", "text");
+        
+        HttpResponse<InputStream> response = ProviderHttpClient.post(urlStr, "application/json; charset=UTF-8",
+                null, requestBody.toString());
+        
+        int responseCode = response.statusCode();
+        if (responseCode == 429) {
+            RateLimitStatus rateLimitStatus = new RateLimitStatus();
+            rateLimitStatus.retryAfterMs = RateLimitStatus.parseRetryAfter(ProviderHttpClient.header(response, "Retry-After"));
+            RateLimitException rateLimitException = new RateLimitException(
+                "Google API Error: " + responseCode + " - " + ProviderHttpClient.readError(response), rateLimitStatus);
+            logApiError(texts, rateLimitException);
+            throw rateLimitException;
         }
-    }
-    
-    /** HTTPエラーレスポンスを文字列として読み込みます。 */
-    private String readErrorStream(HttpURLConnection conn) throws IOException {
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(conn.getErrorStream(), StandardCharsets.UTF_8))) {
-            StringBuilder errorResponse = new StringBuilder();
-            String line;
-            while ((line = br.readLine()) != null) {
-                errorResponse.append(line);
-            }
-            return errorResponse.toString();
+        if (responseCode != 200) {
+            String errorMsg = ProviderHttpClient.readError(response);
+            IOException ioException = new IOException("Google API Error: " + responseCode + " - " + errorMsg);
+            logApiError(texts, ioException);
+            throw ioException;
+        }
+        
+        JsonObject jsonResponse = ProviderHttpClient.readJson(response);
+        JsonArray translations = jsonResponse.getAsJsonObject("data")
+            .getAsJsonArray("translations");
+        
+        List<String> results = new ArrayList<>();
+        for (int i = 0; i < translations.size(); i++) {
+            results.add(translations.get(i).getAsJsonObject()
+                .get("translatedText").getAsString());
         }
+        return results;
     }
     
     /**
@@ -0,0 +1,122 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 翻訳対象テキストをAPIのリクエスト上限に収まるバッチへ分割するユーティリティ。
+ * エントリー数とUTF-8バイト数、またはLLM向けにエントリー数と見積もりトークン数で上限を判定し、
+ * 元の順序を保持する。
+ */
+public class PayloadBatcher {
+	/**
+	 * インスタンス化を禁止します。
+	 */
+	private PayloadBatcher() {
+	}
+	
+	/**
+	 * テキストリストをバッチに分割します。
+	 * 単独で上限バイト数を超えるテキストは1件だけのバッチになります。
+	 * @param values 翻訳対象テキストリスト
+	 * @param maxEntries 1バッチの最大エントリー数
+	 * @param maxBytes 1バッチの最大バイト数（UTF-8）
+	 * @return 元のリストの部分リストによるバッチ（順序保持）
+	 */
+	public static List<List<String>> split(List<String> values, int maxEntries, int maxBytes) {
+		List<List<String>> batches = new ArrayList<List<String>>();
+		int start = 0;
+		int bytes = 0;
+		
+		for (int i = 0; i < values.size(); i++) {
+			int size = byteLength(values.get(i));
+			int count = i - start;
+			if (count > 0 && (count >= maxEntries || bytes + size > maxBytes)) {
+				batches.add(values.subList(start, i));
+				start = i;
+				bytes = 0;
+			}
+			bytes += size;
+		}
+		
+		if (start < values.size()) {
+			batches.add(values.subList(start, values.size()));
+		}
+		return batches;
+	}
+	
+	/**
+	 * キーと値のマップを、エントリー数と入力・出力の見積もりトークン数の上限に収まるバッチに分割します。
+	 * 単独で上限トークン数を超えるエントリーは1件だけのバッチになります。
+	 * @param entries 翻訳するキーと値のマップ
+	 * @param maxEntries 1バッチの最大エントリー数
+	 * @param maxInputTokens 1バッチの入力トークン数の目安
+	 * @param maxOutputTokens 1バッチの出力トークン数の目安
+	 * @return 元の順序を保持したバッチのリスト
+	 */
+	public static List<Map<String, String>> splitByTokens(Map<String, String> entries, int maxEntries,
+			int maxInputTokens, int maxOutputTokens) {
+		List<Map<String, String>> batches = new ArrayList<Map<String, String>>();
+		Map<String, String> currentBatch = new LinkedHashMap<String, String>();
+		int inputTokens = 0;
+		int outputTokens = 0;
+		
+		for (Map.Entry<String, String> entry : entries.entrySet()) {
+			int entryInput = TokenEstimator.estimateInputEntry(entry.getKey(), entry.getValue());
+			int entryOutput = TokenEstimator.estimateOutputEntry(entry.getKey(), entry.getValue());
+			if (!currentBatch.isEmpty() && (currentBatch.size() >= maxEntries
+					|| inputTokens + entryInput > maxInputTokens || outputTokens + entryOutput > maxOutputTokens)) {
+				batches.add(currentBatch);
+				currentBatch = new LinkedHashMap<String, String>();
+				inputTokens = 0;
+				outputTokens = 0;
+			}
+			currentBatch.put(entry.getKey(), entry.getValue());
+			inputTokens += entryInput;
+			outputTokens += entryOutput;
+		}
+		
+		if (!currentBatch.isEmpty()) {
+			batches.add(currentBatch);
+		}
+		return batches;
+	}
+	
+	/**
+	 * バッチの翻訳結果として返される出力トークン数を見積もります。
+	 * @param batch 翻訳するキーと値のマップ
+	 * @return 見積もりトークン数
+	 */
+	public static int estimateOutputTokens(Map<String, String> batch) {
+		int total = 0;
+		for (Map.Entry<String, String> entry : batch.entrySet()) {
+			total += TokenEstimator.estimateOutputEntry(entry.getKey(), entry.getValue());
+		}
+		return total;
+	}
+	
+	/**
+	 * バッチ内の文字数を合計します。
+	 * @param texts テキストリスト
+	 * @return 文字数
+	 */
+	public static int countCharacters(List<String> texts) {
+		int total = 0;
+		for (String text : texts) {
+			total += text != null ? text.length() : 0;
+		}
+		return total;
+	}
+	
+	/**
+	 * テキストのUTF-8バイト数を取得します。
+	 * @param text テキスト
+	 * @return バイト数
+	 */
+	private static int byteLength(String text) {
+		return text != null ? text.getBytes(StandardCharsets.UTF_8).length : 0;
+	}
+}
@@ -0,0 +1,388 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.pazakasin.minecraft.modpack.translator.util.HashUtil;
+
+/**
+ * プロバイダーとAPIキーごとに共有される実行コンテキスト。
+ * ワーカースレッドとトークン使用量の集計をファイル・実行・プロバイダー再生成をまたいで保持する。
+ * レスポンスヘッダーのレート制限情報から上限・同時実行数・待機時間を調整する。
+ * 状態はすべてアトミック変数で管理し、待機はロックを保持せずに行う。
+ */
+public class ProviderExecutionContext {
+	/** 同時実行枠の空きを確認する間隔（ミリ秒）。 */
+	private static final long CONCURRENCY_POLL_MS = 50;
+	
+	/** ヘッダーで通知された上限に対する使用割合。 */
+	private static final double LIMIT_SAFETY_RATIO = 0.9;
+	
+	/** 実際のトークン数と見積もりの比率の移動平均の重み。 */
+	private static final double AVERAGE_WEIGHT = 0.2;
+	
+	/** 生成済みコンテキスト（キーはプロバイダー名とAPIキーのハッシュ）。 */
+	private static final Map<String, ProviderExecutionContext> CONTEXTS =
+			new HashMap<String, ProviderExecutionContext>();
+	
+	/** プロバイダー名。 */
+	private final String providerName;
+	
+	/** API呼び出し用のワーカースレッドプール。 */
+	private final ExecutorService executor;
+	
+	/** ワーカースレッド数（同時実行数の上限）。 */
+	private final int maxConcurrentRequests;
+	
+	/** 現在許可している同時実行数。 */
+	private final AtomicInteger concurrencyLimit;
+	
+	/** 実行中のリクエスト数。 */
+	private final AtomicInteger inFlight = new AtomicInteger(0);
+	
+	/** 出力トークンのレート制限。 */
+	private final SlidingWindowRateLimiter tokenLimiter;
+	
+	/** サーバーが通知した残りトークン数（-1は不明）。 */
+	private final AtomicInteger serverTokensRemaining = new AtomicInteger(-1);
+	
+	/** 残りトークン数のリセット時刻（ミリ秒）。 */
+	private volatile long serverTokensResetAt = 0;
+	
+	/** サーバーが通知した残りリクエスト数（-1は不明）。 */
+	private final AtomicInteger serverRequestsRemaining = new AtomicInteger(-1);
+	
+	/** 残りリクエスト数のリセット時刻（ミリ秒）。 */
+	private volatile long serverRequestsResetAt = 0;
+	
+	/** レート制限エラーによる一時停止の終了時刻（ミリ秒）。 */
+	private final AtomicLong pausedUntil = new AtomicLong(0);
+	
+	/** 実際のトークン数と見積もりの比率の移動平均（doubleのビット表現、0は未計測）。 */
+	private final AtomicLong estimateRatioBits = new AtomicLong(Double.doubleToLongBits(0));
+	
+	/**
+	 * ProviderExecutionContextのコンストラクタ。
+	 * @param providerName プロバイダー名
+	 * @param maxConcurrentRequests 最大同時リクエスト数（ワーカースレッド数）
+	 * @param initialConcurrency 初期の同時リクエスト数
+	 * @param tokenLimitPerMinute 1分間のトークン上限（0以下は無制限）
+	 */
+	private ProviderExecutionContext(final String providerName, int maxConcurrentRequests,
+			int initialConcurrency, int tokenLimitPerMinute) {
+		this.providerName = providerName;
+		this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+		this.concurrencyLimit = new AtomicInteger(Math.max(1, Math.min(initialConcurrency, this.maxConcurrentRequests)));
+		this.tokenLimiter = new SlidingWindowRateLimiter(tokenLimitPerMinute);
+		final String threadPrefix = providerName.toLowerCase().replace(' ', '-') + "-worker-";
+		this.executor = Executors.newFixedThreadPool(this.maxConcurrentRequests, new ThreadFactory() {
+			private final AtomicInteger threadNumber = new AtomicInteger(1);
+			
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, threadPrefix + threadNumber.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+	
+	/**
+	 * プロバイダー・接続先・APIキーに対応するコンテキストを取得します。未生成の場合は作成します。
+	 * 同時実行数は常に最大値で開始します。
+	 * @param providerName プロバイダー名
+	 * @param baseUrl APIのベースURL
+	 * @param apiKey APIキー
+	 * @param maxConcurrentRequests 最大同時リクエスト数
+	 * @param tokenLimitPerMinute 1分間のトークン上限（0以下は無制限）
+	 * @return 実行コンテキスト
+	 */
+	public static ProviderExecutionContext get(String providerName, String baseUrl, String apiKey,
+			int maxConcurrentRequests, int tokenLimitPerMinute) {
+		return get(providerName, baseUrl, apiKey, maxConcurrentRequests, maxConcurrentRequests,
+				tokenLimitPerMinute);
+	}
+	
+	/**
+	 * プロバイダー・接続先・APIキーに対応するコンテキストを取得します。未生成の場合は作成します。
+	 * 接続先ごとにレート制限が異なるため、同じAPIキーでもベースURLが異なれば別のコンテキストになります。
+	 * 各上限値は初回作成時の値が使われます。
+	 * @param providerName プロバイダー名
+	 * @param baseUrl APIのベースURL
+	 * @param apiKey APIキー
+	 * @param maxConcurrentRequests 最大同時リクエスト数（ワーカースレッド数）
+	 * @param initialConcurrency 初期の同時リクエスト数
+	 * @param tokenLimitPerMinute 1分間のトークン上限の初期値（0以下は無制限）
+	 * @return 実行コンテキスト
+	 */
+	public static synchronized ProviderExecutionContext get(String providerName, String baseUrl, String apiKey,
+			int maxConcurrentRequests, int initialConcurrency, int tokenLimitPerMinute) {
+		String key = providerName + "|" + baseUrl + "|" + HashUtil.sha256(apiKey != null ? apiKey : "");
+		ProviderExecutionContext context = CONTEXTS.get(key);
+		if (context == null) {
+			context = new ProviderExecutionContext(providerName, maxConcurrentRequests,
+					initialConcurrency, tokenLimitPerMinute);
+			CONTEXTS.put(key, context);
+		}
+		return context;
+	}
+	
+	/**
+	 * 共有ワーカースレッドでタスクを実行します。
+	 * @param task 実行するタスク
+	 * @param <T> 結果の型
+	 * @return タスクのFuture
+	 */
+	public <T> Future<T> submit(Callable<T> task) {
+		return executor.submit(task);
+	}
+	
+	/**
+	 * リクエスト内容から見積もった出力トークン数を実測値で補正します。
+	 * これまでの実測値が見積もりを上回っている場合のみ、その比率の移動平均で引き上げます。
+	 * @param localEstimate リクエスト内容からの見積もり
+	 * @param maxTokens 見積もりの上限（リクエストのmax_tokens）
+	 * @return 見積もりトークン数
+	 */
+	public int estimateTokens(int localEstimate, int maxTokens) {
+		double ratio = Math.max(1.0, Double.longBitsToDouble(estimateRatioBits.get()));
+		return Math.max(1, Math.min(maxTokens, (int) Math.ceil(localEstimate * ratio)));
+	}
+	
+	/**
+	 * 同時実行枠とトークンを見積もり値で予約します。
+	 * 一時停止中・同時実行数の上限・サーバー通知の残量不足の間は待機し、
+	 * 同時実行枠を確保した後はトークン上限に空きができるまで{@link SlidingWindowRateLimiter#acquire}で待機します。
+	 * トークン待機中に一時停止が始まった場合は予約を取り消して待ち直します。
+	 * 待機はロックを保持せずに行うため、他スレッドの使用量補正を妨げません。
+	 * @param estimatedTokens 見積もりトークン数
+	 * @return 予約した使用量（{@link #settleTokens}で実際の値に補正し、枠を解放）
+	 * @throws InterruptedException スレッド中断
+	 */
+	public TokenUsage acquireTokens(int estimatedTokens) throws InterruptedException {
+		boolean logged = false;
+		while (true) {
+			long now = System.currentTimeMillis();
+			long waitUntil = computeServerWaitUntil(now, estimatedTokens);
+			
+			if (waitUntil <= now) {
+				if (tryEnter()) {
+					TokenUsage usage = acquireWithinSlot(estimatedTokens, logged);
+					if (usage != null) {
+						return usage;
+					}
+					continue;
+				}
+				waitUntil = now + CONCURRENCY_POLL_MS;
+			}
+			
+			if (!logged && waitUntil - now > CONCURRENCY_POLL_MS) {
+				logWaiting(waitUntil - now);
+				logged = true;
+			}
+			Thread.sleep(waitUntil - now);
+		}
+	}
+	
+	/**
+	 * 確保済みの同時実行枠でトークンを予約します。
+	 * 予約できなかった場合や中断された場合は同時実行枠を解放します。
+	 * @param estimatedTokens 見積もりトークン数
+	 * @param logged 待機ログを出力済みか
+	 * @return 予約した使用量（待機中に一時停止が始まった場合はnull）
+	 * @throws InterruptedException スレッド中断
+	 */
+	private TokenUsage acquireWithinSlot(int estimatedTokens, boolean logged) throws InterruptedException {
+		TokenUsage usage;
+		try {
+			long tokenWait = tokenLimiter.getWaitMillis(estimatedTokens);
+			if (!logged && tokenWait > CONCURRENCY_POLL_MS) {
+				logWaiting(tokenWait);
+			}
+			usage = tokenLimiter.acquire(estimatedTokens);
+		} catch (InterruptedException e) {
+			inFlight.decrementAndGet();
+			throw e;
+		}
+		
+		long now = System.currentTimeMillis();
+		if (computeServerWaitUntil(now, estimatedTokens) > now) {
+			tokenLimiter.correct(usage, 0);
+			inFlight.decrementAndGet();
+			return null;
+		}
+		decrementIfKnown(serverTokensRemaining, estimatedTokens);
+		decrementIfKnown(serverRequestsRemaining, 1);
+		return usage;
+	}
+	
+	/**
+	 * レート制限による待機をログ出力します。
+	 * @param waitMillis 待機時間（ミリ秒）
+	 */
+	private void logWaiting(long waitMillis) {
+		System.out.println(String.format(
+				"[レート制限] 待機中... (現在のトークン使用量: %d/%d, 同時実行: %d/%d, 待機時間: %.1f秒)",
+				tokenLimiter.getWindowTokens(), tokenLimiter.getLimit(),
+				inFlight.get(), concurrencyLimit.get(), waitMillis / 1000.0));
+	}
+	
+	/**
+	 * 予約したトークン使用量を実際の値に補正し、同時実行枠を解放します。
+	 * @param usage {@link #acquireTokens}で予約した使用量
+	 * @param actualTokens 実際のトークン数（0以下の場合は見積もり値を維持）
+	 */
+	public void settleTokens(TokenUsage usage, int actualTokens) {
+		if (usage == null) {
+			return;
+		}
+		if (actualTokens > 0) {
+			double sample = usage.tokens > 0 ? (double) actualTokens / usage.tokens : 1.0;
+			tokenLimiter.correct(usage, actualTokens);
+			while (true) {
+				long bits = estimateRatioBits.get();
+				double average = Double.longBitsToDouble(bits);
+				double updated = average <= 0 ? sample : average + (sample - average) * AVERAGE_WEIGHT;
+				if (estimateRatioBits.compareAndSet(bits, Double.doubleToLongBits(updated))) {
+					break;
+				}
+			}
+		}
+		inFlight.decrementAndGet();
+	}
+	
+	/**
+	 * レスポンスヘッダーのレート制限状態を反映します。
+	 * 余裕がある場合は同時実行数を1つ増やします。
+	 * @param status レート制限状態
+	 */
+	public void updateLimits(RateLimitStatus status) {
+		if (status == null || !status.hasValues()) {
+			return;
+		}
+		if (status.outputTokensLimit > 0) {
+			tokenLimiter.setLimit((int) (status.outputTokensLimit * LIMIT_SAFETY_RATIO));
+		}
+		if (status.outputTokensRemaining >= 0) {
+			serverTokensResetAt = status.outputTokensResetAt;
+			serverTokensRemaining.set(status.outputTokensRemaining);
+		}
+		if (status.requestsRemaining >= 0) {
+			serverRequestsResetAt = status.requestsResetAt;
+			serverRequestsRemaining.set(status.requestsRemaining);
+		}
+		
+		int limit = concurrencyLimit.get();
+		boolean tokensPlenty = status.outputTokensLimit > 0
+				&& status.outputTokensRemaining > status.outputTokensLimit / 2;
+		boolean requestsPlenty = status.requestsRemaining < 0 || status.requestsRemaining > limit * 2;
+		if (tokensPlenty && requestsPlenty && limit < maxConcurrentRequests) {
+			concurrencyLimit.compareAndSet(limit, limit + 1);
+		}
+	}
+	
+	/**
+	 * レート制限エラーを反映します。同時実行数を半減し、指定時間は新規リクエストを停止します。
+	 * @param waitMillis 停止時間（ミリ秒）
+	 */
+	public void onRateLimited(long waitMillis) {
+		while (true) {
+			int limit = concurrencyLimit.get();
+			if (concurrencyLimit.compareAndSet(limit, Math.max(1, limit / 2))) {
+				break;
+			}
+		}
+		
+		long until = System.currentTimeMillis() + Math.max(0, waitMillis);
+		while (true) {
+			long current = pausedUntil.get();
+			if (current >= until || pausedUntil.compareAndSet(current, until)) {
+				break;
+			}
+		}
+		serverTokensRemaining.set(-1);
+		serverRequestsRemaining.set(-1);
+	}
+	
+	/**
+	 * 直近1分間のトークン使用量を取得します。
+	 * @return トークン数
+	 */
+	public int getWindowTokens() {
+		return tokenLimiter.getWindowTokens();
+	}
+	
+	/**
+	 * 1分間のトークン上限を取得します。
+	 * @return トークン上限（0以下は無制限）
+	 */
+	public int getTokenLimitPerMinute() {
+		return tokenLimiter.getLimit();
+	}
+	
+	/**
+	 * プロバイダー名を取得します。
+	 * @return プロバイダー名
+	 */
+	public String getProviderName() {
+		return providerName;
+	}
+	
+	/**
+	 * 一時停止とサーバー通知の残量から予約可能になる時刻を求めます。
+	 * @param now 現在時刻（ミリ秒）
+	 * @param estimatedTokens 見積もりトークン数
+	 * @return 予約可能時刻（now以下なら即時予約可能）
+	 */
+	private long computeServerWaitUntil(long now, int estimatedTokens) {
+		long waitUntil = pausedUntil.get();
+		
+		long tokensResetAt = serverTokensResetAt;
+		int tokensRemaining = serverTokensRemaining.get();
+		if (tokensRemaining >= 0 && tokensRemaining < estimatedTokens && tokensResetAt > now) {
+			waitUntil = Math.max(waitUntil, tokensResetAt);
+		}
+		long requestsResetAt = serverRequestsResetAt;
+		if (serverRequestsRemaining.get() == 0 && requestsResetAt > now) {
+			waitUntil = Math.max(waitUntil, requestsResetAt);
+		}
+		return waitUntil;
+	}
+	
+	/**
+	 * 同時実行枠に空きがあれば1つ確保します。
+	 * @return 確保できた場合true
+	 */
+	private boolean tryEnter() {
+		while (true) {
+			int current = inFlight.get();
+			if (current >= concurrencyLimit.get()) {
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+	
+	/**
+	 * 値が既知（0以上）の場合のみ減算します。
+	 * @param counter 対象のカウンター
+	 * @param amount 減算量
+	 */
+	private void decrementIfKnown(AtomicInteger counter, int amount) {
+		while (true) {
+			int current = counter.get();
+			if (current < 0 || counter.compareAndSet(current, Math.max(0, current - amount))) {
+				return;
+			}
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * 全プロバイダーで共有するHTTPクライアント。
+ * 1つの{@link HttpClient}を使い回し、HTTP/2の永続接続上でリクエストを多重化する。
+ * レスポンス本文は文字列化せずにJSONパーサーへ直接ストリーミングする。
+ */
+public class ProviderHttpClient {
+	/** 接続タイムアウト。 */
+	private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(30);
+	
+	/** リクエストタイムアウト（LLMの応答待ちを含む）。 */
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(180);
+	
+	/** 共有HTTPクライアント。 */
+	private static final HttpClient CLIENT = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.connectTimeout(CONNECT_TIMEOUT)
+			.followRedirects(HttpClient.Redirect.NORMAL)
+			.build();
+	
+	/**
+	 * インスタンス化を禁止します。
+	 */
+	private ProviderHttpClient() {
+	}
+	
+	/**
+	 * POSTリクエストを送信します。レスポンス本文は未読のストリームとして返します。
+	 * @param url 送信先URL
+	 * @param contentType Content-Typeヘッダー値
+	 * @param headers 追加のリクエストヘッダー（null可）
+	 * @param body リクエスト本文
+	 * @return レスポンス（本文は{@link #readJson}または{@link #readError}で読み込む）
+	 * @throws IOException 通信エラー
+	 * @throws InterruptedException スレッド中断
+	 */
+	public static HttpResponse<InputStream> post(String url, String contentType,
+			Map<String, String> headers, String body) throws IOException, InterruptedException {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+				.timeout(REQUEST_TIMEOUT)
+				.header("Content-Type", contentType)
+				.POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+		if (headers != null) {
+			for (Map.Entry<String, String> header : headers.entrySet()) {
+				builder.header(header.getKey(), header.getValue());
+			}
+		}
+		return CLIENT.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+	}
+	
+	/**
+	 * レスポンス本文をJSONオブジェクトとして読み込みます。
+	 * @param response レスポンス
+	 * @return JSONオブジェクト
+	 * @throws IOException 読み込みエラー、またはJSONオブジェクトでない場合
+	 */
+	public static JsonObject readJson(HttpResponse<InputStream> response) throws IOException {
+		try (Reader reader = new InputStreamReader(response.body(), StandardCharsets.UTF_8)) {
+			JsonElement element = JsonParser.parseReader(reader);
+			if (!element.isJsonObject()) {
+				throw new IOException("JSONオブジェクトではないレスポンスです: " + element);
+			}
+			return element.getAsJsonObject();
+		} catch (JsonParseException e) {
+			throw new IOException("レスポンスのJSON解析に失敗しました: " + e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * エラーレスポンスの本文を文字列として読み込みます。
+	 * @param response レスポンス
+	 * @return 本文
+	 * @throws IOException 読み込みエラー
+	 */
+	public static String readError(HttpResponse<InputStream> response) throws IOException {
+		try (InputStream in = response.body()) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+	
+	/**
+	 * レスポンスヘッダーの値を取得します。
+	 * @param response レスポンス
+	 * @param name ヘッダー名（大文字小文字は区別しない）
+	 * @return ヘッダー値（存在しない場合はnull）
+	 */
+	public static String header(HttpResponse<?> response, String name) {
+		return response.headers().firstValue(name).orElse(null);
+	}
+}
@@ -0,0 +1,52 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+import java.io.IOException;
+
+/**
+ * APIがレート制限（HTTP 429）を返したことを示す例外。
+ * レスポンスヘッダーから読み取ったレート制限の状態を保持する。
+ */
+public class RateLimitException extends IOException {
+	/** シリアルバージョンUID。 */
+	private static final long serialVersionUID = 1L;
+	
+	/** レスポンスヘッダーのレート制限状態。 */
+	private final RateLimitStatus status;
+	
+	/**
+	 * RateLimitExceptionのコンストラクタ。
+	 * @param message エラーメッセージ
+	 * @param status レスポンスヘッダーのレート制限状態
+	 */
+	public RateLimitException(String message, RateLimitStatus status) {
+		super(message);
+		this.status = status;
+	}
+	
+	/**
+	 * レート制限状態を取得します。
+	 * @return レート制限状態
+	 */
+	public RateLimitStatus getStatus() {
+		return status;
+	}
+	
+	/**
+	 * リトライまでの待機時間を求めます。
+	 * Retry-After、リセット時刻の順に参照し、どちらもない場合はデフォルト値を返します。
+	 * @param defaultWaitMs デフォルトの待機時間（ミリ秒）
+	 * @return 待機時間（ミリ秒）
+	 */
+	public long getWaitMillis(long defaultWaitMs) {
+		if (status != null) {
+			if (status.retryAfterMs >= 0) {
+				return status.retryAfterMs;
+			}
+			long resetAt = Math.max(status.outputTokensResetAt, status.requestsResetAt);
+			if (resetAt > 0) {
+				return Math.max(0, resetAt - System.currentTimeMillis());
+			}
+		}
+		return defaultWaitMs;
+	}
+}
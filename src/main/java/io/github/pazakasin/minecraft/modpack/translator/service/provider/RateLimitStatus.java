@@ -0,0 +1,86 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * APIレスポンスヘッダーから読み取ったレート制限の状態。
+ * 値が取得できなかった項目は-1（リセット時刻は0）となる。
+ */
+public class RateLimitStatus {
+	/** 残りリクエスト数。 */
+	public int requestsRemaining = -1;
+	
+	/** リクエスト数のリセット時刻（ミリ秒）。 */
+	public long requestsResetAt = 0;
+	
+	/** 1分間の出力トークン上限。 */
+	public int outputTokensLimit = -1;
+	
+	/** 残り出力トークン数。 */
+	public int outputTokensRemaining = -1;
+	
+	/** 出力トークン数のリセット時刻（ミリ秒）。 */
+	public long outputTokensResetAt = 0;
+	
+	/** Retry-Afterヘッダーで指定された待機時間（ミリ秒）。 */
+	public long retryAfterMs = -1;
+	
+	/**
+	 * いずれかの値が取得できたかを判定します。
+	 * @return 取得できた値がある場合true
+	 */
+	public boolean hasValues() {
+		return requestsRemaining >= 0 || outputTokensLimit >= 0
+				|| outputTokensRemaining >= 0 || retryAfterMs >= 0;
+	}
+	
+	/**
+	 * 整数のヘッダー値を解析します。
+	 * @param value ヘッダー値（null可）
+	 * @return 解析結果（取得できない場合は-1）
+	 */
+	public static int parseInt(String value) {
+		if (value == null) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+	
+	/**
+	 * RFC 3339形式のリセット時刻を解析します。
+	 * @param value ヘッダー値（null可）
+	 * @return エポックミリ秒（取得できない場合は0）
+	 */
+	public static long parseResetTime(String value) {
+		if (value == null || value.trim().isEmpty()) {
+			return 0;
+		}
+		try {
+			return OffsetDateTime.parse(value.trim()).toInstant().toEpochMilli();
+		} catch (DateTimeParseException e) {
+			return 0;
+		}
+	}
+	
+	/**
+	 * Retry-Afterヘッダー（秒数）を解析します。
+	 * @param value ヘッダー値（null可）
+	 * @return 待機時間（ミリ秒、取得できない場合は-1）
+	 */
+	public static long parseRetryAfter(String value) {
+		if (value == null) {
+			return -1;
+		}
+		try {
+			double seconds = Double.parseDouble(value.trim());
+			return seconds >= 0 ? (long) Math.ceil(seconds * 1000) : -1;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,187 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 翻訳単位に分割したキーと値のマップ。
+ * 出力トークン数の目安を超える長い値は文境界で分割し、「キー#番号/分割数」形式の一時キーで翻訳して、
+ * 翻訳後に元のキーへ結合する。
+ */
+public class SegmentedEntries {
+	/** 文境界（文末記号の後の空白、または改行）。 */
+	private static final Pattern SENTENCE_BOUNDARY = Pattern.compile("(?<=[.!?。！？])[ \\t]+|\\n+");
+	
+	/** 翻訳単位（分割しない値は元のキー、分割した値は一時キー）と原文のマップ。 */
+	private final Map<String, String> units = new LinkedHashMap<String, String>();
+	
+	/** 分割した値の元のキーと一時キーのリスト。 */
+	private final Map<String, List<String>> partKeys = new HashMap<String, List<String>>();
+	
+	/** 分割した値の元のキーと、分割位置の区切り文字列のリスト。 */
+	private final Map<String, List<String>> separators = new HashMap<String, List<String>>();
+	
+	/** 一時キーと元のキーのマップ。 */
+	private final Map<String, String> originalKeys = new HashMap<String, String>();
+	
+	/**
+	 * インスタンス化は{@link #split}から行います。
+	 */
+	private SegmentedEntries() {
+	}
+	
+	/**
+	 * 出力トークン数の目安を超える値を文境界で分割します。
+	 * 1文だけで目安を超える場合はそれ以上分割しません。
+	 * @param entries 翻訳するキーと値のマップ
+	 * @param maxOutputTokens 1翻訳単位の出力トークン数の目安
+	 * @return 翻訳単位に分割したマップ
+	 */
+	public static SegmentedEntries split(Map<String, String> entries, int maxOutputTokens) {
+		SegmentedEntries result = new SegmentedEntries();
+		
+		for (Map.Entry<String, String> entry : entries.entrySet()) {
+			String key = entry.getKey();
+			String value = entry.getValue();
+			if (value == null || TokenEstimator.estimateOutputEntry(key, value) <= maxOutputTokens) {
+				result.units.put(key, value);
+				continue;
+			}
+			
+			List<String> segments = new ArrayList<String>();
+			List<String> boundaries = new ArrayList<String>();
+			splitSentences(value, maxOutputTokens, segments, boundaries);
+			if (segments.size() < 2) {
+				result.units.put(key, value);
+				continue;
+			}
+			
+			List<String> keys = new ArrayList<String>();
+			for (int i = 0; i < segments.size(); i++) {
+				String partKey = key + "#" + (i + 1) + "/" + segments.size();
+				while (entries.containsKey(partKey) || result.units.containsKey(partKey)) {
+					partKey += "#";
+				}
+				keys.add(partKey);
+				result.units.put(partKey, segments.get(i));
+				result.originalKeys.put(partKey, key);
+			}
+			result.partKeys.put(key, keys);
+			result.separators.put(key, boundaries);
+		}
+		return result;
+	}
+	
+	/**
+	 * テキストを文境界で区切り、出力トークン数の目安に収まるように文をまとめます。
+	 * @param text テキスト
+	 * @param maxOutputTokens 1セグメントの出力トークン数の目安
+	 * @param segments セグメントの格納先
+	 * @param boundaries セグメント間の区切り文字列の格納先
+	 */
+	private static void splitSentences(String text, int maxOutputTokens,
+			List<String> segments, List<String> boundaries) {
+		StringBuilder current = new StringBuilder();
+		int sentenceStart = 0;
+		String pendingSeparator = "";
+		
+		Matcher matcher = SENTENCE_BOUNDARY.matcher(text);
+		while (true) {
+			boolean found = matcher.find();
+			if (found && (matcher.start() == 0 || matcher.end() == text.length())) {
+				continue;
+			}
+			String sentence = text.substring(sentenceStart, found ? matcher.start() : text.length());
+			
+			if (current.length() > 0 && TokenEstimator.estimateTranslation(
+					current + pendingSeparator + sentence) > maxOutputTokens) {
+				segments.add(current.toString());
+				boundaries.add(pendingSeparator);
+				current.setLength(0);
+			} else {
+				current.append(pendingSeparator);
+			}
+			current.append(sentence);
+			
+			if (!found) {
+				break;
+			}
+			pendingSeparator = matcher.group();
+			sentenceStart = matcher.end();
+		}
+		segments.add(current.toString());
+	}
+	
+	/**
+	 * 翻訳単位のマップを取得します。
+	 * @return 翻訳単位と原文のマップ（元の順序）
+	 */
+	public Map<String, String> getUnits() {
+		return units;
+	}
+	
+	/**
+	 * 分割した値の数を取得します。
+	 * @return 分割した値の数
+	 */
+	public int getSegmentedCount() {
+		return partKeys.size();
+	}
+	
+	/**
+	 * 翻訳が完了した翻訳単位から、元のキーの翻訳結果を組み立てます。
+	 * 分割した値は全セグメントが翻訳済みになった時点で結合して返します。
+	 * @param unitKeys 新たに翻訳が完了した翻訳単位のキー
+	 * @param translatedUnits 翻訳単位ごとの翻訳結果
+	 * @return 翻訳が完了した元のキーと翻訳結果のマップ
+	 */
+	public Map<String, String> collectCompleted(Collection<String> unitKeys, Map<String, String> translatedUnits) {
+		Map<String, String> completed = new LinkedHashMap<String, String>();
+		for (String unitKey : unitKeys) {
+			String originalKey = originalKeys.containsKey(unitKey) ? originalKeys.get(unitKey) : unitKey;
+			String translated = reassemble(originalKey, translatedUnits);
+			if (translated != null) {
+				completed.put(originalKey, translated);
+			}
+		}
+		return completed;
+	}
+	
+	/**
+	 * 元のキーの翻訳結果を組み立てます。
+	 * セグメント間の区切りは、改行を含む場合と前のセグメントがASCII文字で終わる場合のみ保持します。
+	 * @param key 元のキー
+	 * @param translatedUnits 翻訳単位ごとの翻訳結果
+	 * @return 翻訳結果（未翻訳のセグメントがある場合はnull）
+	 */
+	public String reassemble(String key, Map<String, String> translatedUnits) {
+		List<String> keys = partKeys.get(key);
+		if (keys == null) {
+			return translatedUnits.get(key);
+		}
+		
+		List<String> boundaries = separators.get(key);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < keys.size(); i++) {
+			String part = translatedUnits.get(keys.get(i));
+			if (part == null) {
+				return null;
+			}
+			if (i > 0) {
+				String separator = boundaries.get(i - 1);
+				char last = sb.length() > 0 ? sb.charAt(sb.length() - 1) : '\n';
+				if (separator.indexOf('\n') >= 0 || last < 0x80) {
+					sb.append(separator);
+				}
+			}
+			sb.append(part);
+		}
+		return sb.toString();
+	}
+}
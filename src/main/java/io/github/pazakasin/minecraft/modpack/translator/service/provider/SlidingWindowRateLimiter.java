@@ -0,0 +1,213 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ロックを使わないスライディングウィンドウ方式のトークンレート制限。
+ * 集計期間を固定長のバケットに分割したリングバッファで使用量を保持し、
+ * 各バケットは「バケット番号」と「トークン数」を1つのlongに詰めてCASで更新する。
+ * 予約は見積もり値で行い、実際の値が判明した時点で補正する。
+ */
+public class SlidingWindowRateLimiter {
+	/** バケット番号を格納するビットのマスク。 */
+	private static final long EPOCH_MASK = 0x7FFFFFFFL;
+	
+	/** トークン数を格納する下位32ビットのマスク。 */
+	private static final long TOKEN_MASK = 0xFFFFFFFFL;
+	
+	/** 集計期間（ミリ秒）。 */
+	private final long windowMs;
+	
+	/** 1バケットの長さ（ミリ秒）。 */
+	private final long bucketMs;
+	
+	/** バケット数。 */
+	private final int bucketCount;
+	
+	/** バケット（上位：バケット番号、下位：トークン数）。 */
+	private final AtomicLongArray buckets;
+	
+	/** 集計期間内のトークン上限（0以下は無制限）。 */
+	private volatile int limit;
+	
+	/**
+	 * 1分間を60バケットで集計するSlidingWindowRateLimiterのコンストラクタ。
+	 * @param limit 1分間のトークン上限（0以下は無制限）
+	 */
+	public SlidingWindowRateLimiter(int limit) {
+		this(limit, 60000, 60);
+	}
+	
+	/**
+	 * SlidingWindowRateLimiterのコンストラクタ。
+	 * @param limit 集計期間内のトークン上限（0以下は無制限）
+	 * @param windowMs 集計期間（ミリ秒）
+	 * @param bucketCount バケット数
+	 */
+	public SlidingWindowRateLimiter(int limit, long windowMs, int bucketCount) {
+		this.limit = limit;
+		this.bucketCount = Math.max(1, bucketCount);
+		this.bucketMs = Math.max(1, windowMs / this.bucketCount);
+		this.windowMs = this.bucketMs * this.bucketCount;
+		this.buckets = new AtomicLongArray(this.bucketCount);
+	}
+	
+	/**
+	 * トークンの予約を試みます。待機はしません。
+	 * 集計期間内に他の使用量がない場合は上限を超える見積もりでも予約できます。
+	 * @param tokens 見積もりトークン数
+	 * @return 予約した使用量（上限に達している場合はnull）
+	 */
+	public TokenUsage tryAcquire(int tokens) {
+		long now = System.currentTimeMillis();
+		long epoch = now / bucketMs;
+		add(epoch, tokens);
+		
+		int currentLimit = limit;
+		if (currentLimit > 0) {
+			long total = sum(epoch);
+			if (total > currentLimit && total - tokens > 0) {
+				add(epoch, -tokens);
+				return null;
+			}
+		}
+		return new TokenUsage(now, tokens);
+	}
+	
+	/**
+	 * トークンを予約します。上限に達している場合はロックを保持せずに待機します。
+	 * @param tokens 見積もりトークン数
+	 * @return 予約した使用量
+	 * @throws InterruptedException スレッド中断
+	 */
+	public TokenUsage acquire(int tokens) throws InterruptedException {
+		while (true) {
+			TokenUsage usage = tryAcquire(tokens);
+			if (usage != null) {
+				return usage;
+			}
+			Thread.sleep(Math.max(1, getWaitMillis(tokens)));
+		}
+	}
+	
+	/**
+	 * 予約済みの使用量を実際の値に補正します。
+	 * 予約したバケットが既に集計期間外の場合は記録のみ更新します。
+	 * @param usage 予約した使用量
+	 * @param actualTokens 実際のトークン数
+	 */
+	public void correct(TokenUsage usage, int actualTokens) {
+		if (usage == null) {
+			return;
+		}
+		int delta = actualTokens - usage.tokens;
+		usage.tokens = actualTokens;
+		if (delta != 0) {
+			add(usage.timestamp / bucketMs, delta);
+		}
+	}
+	
+	/**
+	 * 指定トークン数を予約できるようになるまでの待機時間を求めます。
+	 * @param tokens 見積もりトークン数
+	 * @return 待機時間（ミリ秒、即時予約可能なら0）
+	 */
+	public long getWaitMillis(int tokens) {
+		int currentLimit = limit;
+		if (currentLimit <= 0) {
+			return 0;
+		}
+		long now = System.currentTimeMillis();
+		long currentEpoch = now / bucketMs;
+		long total = sum(currentEpoch);
+		long excess = total + tokens - currentLimit;
+		if (excess <= 0 || total == 0) {
+			return 0;
+		}
+		
+		long freed = 0;
+		for (long epoch = currentEpoch - bucketCount + 1; epoch <= currentEpoch; epoch++) {
+			freed += tokensOf(epoch);
+			if (freed >= excess || freed >= total) {
+				return Math.max(0, (epoch + 1) * bucketMs + windowMs - now);
+			}
+		}
+		return windowMs;
+	}
+	
+	/**
+	 * 集計期間内のトークン使用量を取得します。
+	 * @return トークン数
+	 */
+	public int getWindowTokens() {
+		return (int) Math.min(Integer.MAX_VALUE, sum(System.currentTimeMillis() / bucketMs));
+	}
+	
+	/**
+	 * トークン上限を設定します。
+	 * @param limit 集計期間内のトークン上限（0以下は無制限）
+	 */
+	public void setLimit(int limit) {
+		this.limit = limit;
+	}
+	
+	/**
+	 * トークン上限を取得します。
+	 * @return トークン上限（0以下は無制限）
+	 */
+	public int getLimit() {
+		return limit;
+	}
+	
+	/**
+	 * 指定バケットにトークン数を加算します。バケットが古い周回の場合は0から数え直します。
+	 * 既に集計期間外のバケットには加算しません。
+	 * @param epoch バケット番号
+	 * @param delta 加算するトークン数（負数可）
+	 */
+	private void add(long epoch, int delta) {
+		long currentEpoch = System.currentTimeMillis() / bucketMs;
+		if (epoch <= currentEpoch - bucketCount) {
+			return;
+		}
+		int index = (int) (epoch % bucketCount);
+		long tag = epoch & EPOCH_MASK;
+		while (true) {
+			long packed = buckets.get(index);
+			long storedTag = packed >>> 32;
+			long storedTokens = storedTag == tag ? (packed & TOKEN_MASK) : 0;
+			if (storedTag != tag && storedTag > tag && storedTag - tag < EPOCH_MASK / 2) {
+				// 既に新しい周回で使われているため加算しない
+				return;
+			}
+			long newTokens = Math.max(0, Math.min(TOKEN_MASK, storedTokens + delta));
+			long updated = (tag << 32) | newTokens;
+			if (buckets.compareAndSet(index, packed, updated)) {
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * 指定バケットのトークン数を取得します。
+	 * @param epoch バケット番号
+	 * @return トークン数（別周回のバケットは0）
+	 */
+	private long tokensOf(long epoch) {
+		long packed = buckets.get((int) (epoch % bucketCount));
+		return (packed >>> 32) == (epoch & EPOCH_MASK) ? (packed & TOKEN_MASK) : 0;
+	}
+	
+	/**
+	 * 集計期間内のトークン数を合計します。
+	 * @param currentEpoch 現在のバケット番号
+	 * @return トークン数
+	 */
+	private long sum(long currentEpoch) {
+		long total = 0;
+		for (long epoch = currentEpoch - bucketCount + 1; epoch <= currentEpoch; epoch++) {
+			total += tokensOf(epoch);
+		}
+		return total;
+	}
+}
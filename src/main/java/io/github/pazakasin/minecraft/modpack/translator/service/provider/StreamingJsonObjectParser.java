@@ -0,0 +1,266 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 分割して届くテキストから1階層のJSONオブジェクトを逐次解析するパーサー。
+ * LLMのストリーミング応答を受信しながら、完成したキーと値の組を順に取り出す。
+ * 最初の「{」より前のテキスト（コードフェンス等）は読み飛ばす。
+ */
+public class StreamingJsonObjectParser {
+	/** 状態：オブジェクト開始前。 */
+	private static final int BEFORE_OBJECT = 0;
+	
+	/** 状態：キーまたはオブジェクト終了待ち。 */
+	private static final int EXPECT_KEY = 1;
+	
+	/** 状態：キー文字列の解析中。 */
+	private static final int IN_KEY = 2;
+	
+	/** 状態：コロン待ち。 */
+	private static final int EXPECT_COLON = 3;
+	
+	/** 状態：値の開始待ち。 */
+	private static final int EXPECT_VALUE = 4;
+	
+	/** 状態：文字列値の解析中。 */
+	private static final int IN_STRING_VALUE = 5;
+	
+	/** 状態：文字列以外の値の解析中。 */
+	private static final int IN_RAW_VALUE = 6;
+	
+	/** 状態：カンマまたはオブジェクト終了待ち。 */
+	private static final int EXPECT_SEPARATOR = 7;
+	
+	/** 状態：オブジェクト終了済み。 */
+	private static final int COMPLETE = 8;
+	
+	/** 現在の状態。 */
+	private int state = BEFORE_OBJECT;
+	
+	/** 解析中の文字列。 */
+	private final StringBuilder token = new StringBuilder();
+	
+	/** 解析済みのキー。 */
+	private String currentKey;
+	
+	/** 直前の文字がエスケープ文字か。 */
+	private boolean escaping = false;
+	
+	/** 解析中のUnicodeエスケープの16進数（未解析時はnull）。 */
+	private StringBuilder unicodeDigits;
+	
+	/** 文字列以外の値の入れ子の深さ。 */
+	private int rawDepth = 0;
+	
+	/** 文字列以外の値の中で文字列を解析中か。 */
+	private boolean rawInString = false;
+	
+	/** 解析済みの全キーと値。 */
+	private final Map<String, String> result = new LinkedHashMap<String, String>();
+	
+	/**
+	 * テキストの断片を解析し、新たに完成したキーと値の組を返します。
+	 * @param chunk 受信したテキストの断片
+	 * @return 新たに完成したキーと値（順序保持）
+	 * @throws IllegalStateException JSONとして不正な文字を検出した場合
+	 */
+	public Map<String, String> feed(CharSequence chunk) {
+		Map<String, String> completed = new LinkedHashMap<String, String>();
+		for (int i = 0; i < chunk.length() && state != COMPLETE; i++) {
+			accept(chunk.charAt(i), completed);
+		}
+		return completed;
+	}
+	
+	/**
+	 * オブジェクトの終端まで解析済みかを判定します。
+	 * @return 終端まで解析済みの場合true
+	 */
+	public boolean isComplete() {
+		return state == COMPLETE;
+	}
+	
+	/**
+	 * 解析済みの全キーと値を取得します。
+	 * @return 解析済みのキーと値（順序保持）
+	 */
+	public Map<String, String> getResult() {
+		return result;
+	}
+	
+	/**
+	 * 1文字を解析します。
+	 * @param c 文字
+	 * @param completed 完成したキーと値の格納先
+	 */
+	private void accept(char c, Map<String, String> completed) {
+		switch (state) {
+			case BEFORE_OBJECT:
+				if (c == '{') {
+					state = EXPECT_KEY;
+				}
+				break;
+			case EXPECT_KEY:
+				if (c == '"') {
+					token.setLength(0);
+					state = IN_KEY;
+				} else if (c == '}') {
+					state = COMPLETE;
+				} else if (!isSkippable(c)) {
+					throw unexpected(c);
+				}
+				break;
+			case IN_KEY:
+				if (appendStringChar(c)) {
+					currentKey = token.toString();
+					state = EXPECT_COLON;
+				}
+				break;
+			case EXPECT_COLON:
+				if (c == ':') {
+					state = EXPECT_VALUE;
+				} else if (!Character.isWhitespace(c)) {
+					throw unexpected(c);
+				}
+				break;
+			case EXPECT_VALUE:
+				if (c == '"') {
+					token.setLength(0);
+					state = IN_STRING_VALUE;
+				} else if (!Character.isWhitespace(c)) {
+					token.setLength(0);
+					rawDepth = 0;
+					rawInString = false;
+					state = IN_RAW_VALUE;
+					acceptRaw(c, completed);
+				}
+				break;
+			case IN_STRING_VALUE:
+				if (appendStringChar(c)) {
+					complete(token.toString(), completed);
+					state = EXPECT_SEPARATOR;
+				}
+				break;
+			case IN_RAW_VALUE:
+				acceptRaw(c, completed);
+				break;
+			case EXPECT_SEPARATOR:
+				if (c == ',') {
+					state = EXPECT_KEY;
+				} else if (c == '}') {
+					state = COMPLETE;
+				} else if (!Character.isWhitespace(c)) {
+					throw unexpected(c);
+				}
+				break;
+			default:
+				break;
+		}
+	}
+	
+	/**
+	 * 文字列中の1文字を解析します。エスケープシーケンスを復元します。
+	 * @param c 文字
+	 * @return 文字列の終端（閉じ引用符）の場合true
+	 */
+	private boolean appendStringChar(char c) {
+		if (unicodeDigits != null) {
+			unicodeDigits.append(c);
+			if (unicodeDigits.length() == 4) {
+				try {
+					token.append((char) Integer.parseInt(unicodeDigits.toString(), 16));
+				} catch (NumberFormatException e) {
+					throw new IllegalStateException("不正なUnicodeエスケープ: \\u" + unicodeDigits);
+				}
+				unicodeDigits = null;
+			}
+			return false;
+		}
+		if (escaping) {
+			escaping = false;
+			switch (c) {
+				case 'n': token.append('\n'); break;
+				case 't': token.append('\t'); break;
+				case 'r': token.append('\r'); break;
+				case 'b': token.append('\b'); break;
+				case 'f': token.append('\f'); break;
+				case 'u': unicodeDigits = new StringBuilder(4); break;
+				default: token.append(c); break;
+			}
+			return false;
+		}
+		if (c == '\\') {
+			escaping = true;
+			return false;
+		}
+		if (c == '"') {
+			return true;
+		}
+		token.append(c);
+		return false;
+	}
+	
+	/**
+	 * 文字列以外の値（数値・真偽値・null・入れ子）の1文字を解析します。
+	 * 値は元のテキストのまま保持します。
+	 * @param c 文字
+	 * @param completed 完成したキーと値の格納先
+	 */
+	private void acceptRaw(char c, Map<String, String> completed) {
+		if (rawInString) {
+			token.append(c);
+			if (escaping) {
+				escaping = false;
+			} else if (c == '\\') {
+				escaping = true;
+			} else if (c == '"') {
+				rawInString = false;
+			}
+			return;
+		}
+		if (rawDepth == 0 && (c == ',' || c == '}')) {
+			complete(token.toString().trim(), completed);
+			state = c == ',' ? EXPECT_KEY : COMPLETE;
+			return;
+		}
+		if (c == '"') {
+			rawInString = true;
+		} else if (c == '{' || c == '[') {
+			rawDepth++;
+		} else if (c == '}' || c == ']') {
+			rawDepth--;
+		}
+		token.append(c);
+	}
+	
+	/**
+	 * キーと値の組を確定します。
+	 * @param value 値
+	 * @param completed 完成したキーと値の格納先
+	 */
+	private void complete(String value, Map<String, String> completed) {
+		result.put(currentKey, value);
+		completed.put(currentKey, value);
+		currentKey = null;
+	}
+	
+	/**
+	 * キーの前に現れても無視できる文字かを判定します（空白と末尾カンマの重複）。
+	 * @param c 文字
+	 * @return 無視できる場合true
+	 */
+	private boolean isSkippable(char c) {
+		return Character.isWhitespace(c) || c == ',';
+	}
+	
+	/**
+	 * 不正な文字を検出した際の例外を生成します。
+	 * @param c 文字
+	 * @return 例外
+	 */
+	private IllegalStateException unexpected(char c) {
+		return new IllegalStateException("JSONの解析に失敗しました: 予期しない文字 '" + c + "'");
+	}
+}
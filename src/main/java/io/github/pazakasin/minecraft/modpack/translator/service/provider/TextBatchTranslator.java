@@ -0,0 +1,18 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+import java.util.List;
+
+/**
+ * テキストのバッチを1回のAPIリクエストで翻訳する処理。
+ * {@link BatchRetryExecutor}からレート制限の予約後に呼び出される。
+ */
+public interface TextBatchTranslator {
+	/**
+	 * テキストのバッチを翻訳します。
+	 * @param texts 翻訳対象テキストリスト
+	 * @return 翻訳済みテキストリスト（入力と同順）
+	 * @throws RateLimitException 429エラー
+	 * @throws Exception その他の翻訳エラー
+	 */
+	List<String> translate(List<String> texts) throws Exception;
+}
@@ -0,0 +1,72 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+/**
+ * LLMのトークン数をローカルで概算するユーティリティ。
+ * ASCII文字は約4文字で1トークン、それ以外（日本語など）は1文字1トークンとして見積もる。
+ */
+public class TokenEstimator {
+	/** ASCII文字の1トークンあたりの文字数。 */
+	private static final double ASCII_CHARS_PER_TOKEN = 4.0;
+	
+	/** 英語の原文に対する日本語訳の出力トークン数の比率。 */
+	private static final double TRANSLATION_OUTPUT_RATIO = 2.0;
+	
+	/** JSONの1エントリーあたりの引用符・区切り・インデントのトークン数。 */
+	private static final int ENTRY_OVERHEAD_TOKENS = 4;
+	
+	/**
+	 * インスタンス化を禁止します。
+	 */
+	private TokenEstimator() {
+	}
+	
+	/**
+	 * テキストのトークン数を見積もります。
+	 * @param text テキスト
+	 * @return 見積もりトークン数（空でないテキストは1以上）
+	 */
+	public static int estimate(String text) {
+		if (text == null || text.isEmpty()) {
+			return 0;
+		}
+		int asciiChars = 0;
+		int otherChars = 0;
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) < 0x80) {
+				asciiChars++;
+			} else {
+				otherChars++;
+			}
+		}
+		return Math.max(1, (int) Math.ceil(asciiChars / ASCII_CHARS_PER_TOKEN) + otherChars);
+	}
+	
+	/**
+	 * 原文を日本語に翻訳した結果のトークン数を見積もります。
+	 * @param sourceText 原文
+	 * @return 見積もりトークン数
+	 */
+	public static int estimateTranslation(String sourceText) {
+		return (int) Math.ceil(estimate(sourceText) * TRANSLATION_OUTPUT_RATIO);
+	}
+	
+	/**
+	 * JSONの1エントリーとして送信する入力トークン数を見積もります。
+	 * @param key キー
+	 * @param value 原文
+	 * @return 見積もりトークン数
+	 */
+	public static int estimateInputEntry(String key, String value) {
+		return estimate(key) + estimate(value) + ENTRY_OVERHEAD_TOKENS;
+	}
+	
+	/**
+	 * JSONの1エントリーとして返される出力トークン数を見積もります。
+	 * @param key キー
+	 * @param value 原文
+	 * @return 見積もりトークン数
+	 */
+	public static int estimateOutputEntry(String key, String value) {
+		return estimate(key) + estimateTranslation(value) + ENTRY_OVERHEAD_TOKENS;
+	}
+}
@@ -0,0 +1,23 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+/**
+ * レート制限で予約したトークン使用量の記録。
+ * リクエスト前に見積もり値で予約し、レスポンス受信後に実際の値へ更新する。
+ */
+public class TokenUsage {
+	/** 記録時刻（ミリ秒）。 */
+	public final long timestamp;
+	
+	/** トークン数（見積もり値または実際の値）。 */
+	public int tokens;
+	
+	/**
+	 * TokenUsageのコンストラクタ。
+	 * @param timestamp 記録時刻（ミリ秒）
+	 * @param tokens トークン数
+	 */
+	public TokenUsage(long timestamp, int tokens) {
+		this.timestamp = timestamp;
+		this.tokens = tokens;
+	}
+}
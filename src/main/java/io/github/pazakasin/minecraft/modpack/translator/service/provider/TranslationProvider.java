@@ -1,6 +1,14 @@
 package io.github.pazakasin.minecraft.modpack.translator.service.provider;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.ProgressCallback;
+import io.github.pazakasin.minecraft.modpack.translator.service.callback.TranslationCheckpointCallback;
 
 /**
  * 翻訳プロバイダーの共通インターフェース。
@@ -16,6 +24,33 @@ public interface TranslationProvider {
      */
     String translateJsonFile(String jsonContent, ProgressCallback progressCallback) throws Exception;
     
+    /**
+     * JSON形式の言語ファイルを翻訳し、翻訳が完了したキーを途中で通知します。
+     * デフォルト実装は全体の翻訳完了後に、翻訳結果の全キーをまとめて通知します。
+     * @param jsonContent 翻訳元のJSONコンテンツ（null不可）
+     * @param progressCallback 進捗コールバック（null可）
+     * @param checkpointCallback 翻訳済みキーのコールバック（null可）
+     * @return 翻訳後のJSONコンテンツ
+     * @throws Exception 翻訳処理中のエラー
+     */
+    default String translateJsonFile(String jsonContent, ProgressCallback progressCallback,
+            TranslationCheckpointCallback checkpointCallback) throws Exception {
+        String result = translateJsonFile(jsonContent, progressCallback);
+        if (checkpointCallback != null && result != null) {
+            JsonObject translated = JsonParser.parseString(result).getAsJsonObject();
+            Map<String, String> translations = new LinkedHashMap<String, String>();
+            for (Map.Entry<String, JsonElement> entry : translated.entrySet()) {
+                if (entry.getValue().isJsonPrimitive()) {
+                    translations.put(entry.getKey(), entry.getValue().getAsString());
+                }
+            }
+            if (!translations.isEmpty()) {
+                checkpointCallback.onTranslated(translations);
+            }
+        }
+        return result;
+    }
+    
     /**
      * プロバイダー名を取得します。
      * @return プロバイダー名
@@ -30,4 +65,13 @@ public interface TranslationProvider {
     default void setDebugMode(boolean debugMode) {
         // デフォルト実装は何もしない（後方互換性のため）
     }
+    
+    /**
+     * APIのベースURLを上書きします。
+     * ローカルのモックサーバーなどへ接続先を切り替える場合に使用します。
+     * @param baseUrl ベースURL（nullまたは空文字列で既定のURL）
+     */
+    default void setBaseUrl(String baseUrl) {
+        // デフォルト実装は何もしない（接続先を持たないプロバイダー向け）
+    }
 }
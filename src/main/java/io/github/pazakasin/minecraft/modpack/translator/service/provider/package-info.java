@@ -14,5 +14,21 @@
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.ChatGPTTranslationProvider} - ChatGPT翻訳</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.ClaudeTranslationProvider} - Claude翻訳</li>
  * </ul>
+ * 
+ * <h2>共通処理</h2>
+ * <ul>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.ProviderExecutionContext} - プロバイダーごとの共有ワーカーとトークン集計</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.SlidingWindowRateLimiter} - ロックフリーのトークンレート制限</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.PayloadBatcher} - エントリー数・バイト数・見積もりトークン数によるバッチ分割</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.BatchRetryExecutor} - 文字数制限プロバイダーのバッチ翻訳の予約とリトライ</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.TextBatchTranslator} - 1リクエスト分のバッチ翻訳処理</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.TokenEstimator} - ローカルでのトークン数の概算</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.SegmentedEntries} - 長い値の文境界での分割と結合</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.ProviderHttpClient} - HTTP/2対応の共有HTTPクライアント</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.StreamingJsonObjectParser} - ストリーミング応答の逐次JSON解析</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.TokenUsage} - トークン使用量の記録</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.RateLimitStatus} - レスポンスヘッダーのレート制限状態</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.provider.RateLimitException} - レート制限エラー</li>
+ * </ul>
  */
 package io.github.pazakasin.minecraft.modpack.translator.service.provider;
@@ -1,6 +1,7 @@
 package io.github.pazakasin.minecraft.modpack.translator.service.quest;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 
 import io.github.pazakasin.minecraft.modpack.translator.model.QuestFileResult;
@@ -8,6 +9,7 @@ import io.github.pazakasin.minecraft.modpack.translator.model.QuestTranslationRe
 import io.github.pazakasin.minecraft.modpack.translator.service.TranslationService;
 import io.github.pazakasin.minecraft.modpack.translator.service.backup.BackupManager;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.LogCallback;
+import io.github.pazakasin.minecraft.modpack.translator.service.modpack.PackTranslationScheduler;
 import io.github.pazakasin.minecraft.modpack.translator.service.quest.processor.LangFileProcessor;
 import io.github.pazakasin.minecraft.modpack.translator.service.quest.processor.QuestFileContentProcessor;
 import io.github.pazakasin.minecraft.modpack.translator.service.quest.util.QuestTranslationHelper;
@@ -61,6 +63,7 @@ public class QuestFileProcessor {
 	
 	/**
 	 * ModPackディレクトリ内のクエストファイルを検出して翻訳します。
+	 * Lang Fileを処理した後、クエストファイル本体を同時処理ファイル数の範囲で並行して処理します。
 	 * @param modpackDir ModPackディレクトリ
 	 * @return 翻訳結果
 	 * @throws Exception 処理エラー
@@ -78,20 +81,20 @@ public class QuestFileProcessor {
 		log("=== FTB Quests翻訳処理開始 ===");
 		log("検出されたファイル数: " + files.size());
 		
+		List<File> questFiles = new ArrayList<File>();
 		for (QuestFileInfo fileInfo : files) {
 			if (fileInfo.getType() == QuestFileType.LANG_FILE) {
 				processLangFile(fileInfo.getFile(), fileInfo.getJaJpFile(), result);
 			} else {
+				questFiles.add(fileInfo.getFile());
 				result.questFileCount++;
 			}
 		}
 		
-		int questFileIndex = 0;
-		for (QuestFileInfo fileInfo : files) {
-			if (fileInfo.getType() == QuestFileType.QUEST_FILE) {
-				questFileIndex++;
-				processQuestFile(fileInfo.getFile(), result, questFileIndex, result.questFileCount);
-			}
+		List<QuestFileResult> questFileResults = questFileContentProcessor.processAll(
+				questFiles, PackTranslationScheduler.getConfiguredParallelFiles());
+		for (QuestFileResult fileResult : questFileResults) {
+			addQuestFileResult(fileResult, result);
 		}
 		
 		logSummary(result);
@@ -128,35 +131,19 @@ public class QuestFileProcessor {
 	}
 	
 	/**
-	 * Quest File本体を処理します。
-	 * @param questFile Quest File
-	 * @param result 処理結果
-	 * @param currentIndex 現在のインデックス
-	 * @param totalCount 合計数
+	 * Quest File本体の処理結果を集計します。
+	 * @param fileResult 処理結果
+	 * @param result 翻訳結果
 	 */
-	private void processQuestFile(File questFile, QuestTranslationResult result,
-			int currentIndex, int totalCount) {
-		try {
-			QuestFileResult fileResult = questFileContentProcessor.process(
-					questFile, currentIndex, totalCount);
-			
-			result.questFileCharacterCount += fileResult.characterCount;
-			result.fileResults.add(fileResult);
-			
-			if (fileResult.translated) {
-				result.questFileTranslated++;
-				if (fileResult.success) {
-					result.questFileSuccess++;
-				}
-			}
-			
-		} catch (Exception e) {
-			helper.logError("クエストファイル翻訳エラー", questFile, e);
+	private void addQuestFileResult(QuestFileResult fileResult, QuestTranslationResult result) {
+		result.questFileCharacterCount += fileResult.characterCount;
+		result.fileResults.add(fileResult);
+		
+		if (fileResult.translated) {
 			result.questFileTranslated++;
-			
-			QuestFileResult fileResult = QuestFileResult.createQuestFileResult(
-					questFile, null, true, false, 0);
-			result.fileResults.add(fileResult);
+			if (fileResult.success) {
+				result.questFileSuccess++;
+			}
 		}
 	}
 	
@@ -0,0 +1,155 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.quest;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * FTB Quests形式（要素間のカンマを省略したSNBT）を、SNBTUtilで読める標準形式に変換するクラス。
+ * 入力を先頭から1回だけ読み、値の終わりの後に改行を挟んで次の要素が始まる位置にカンマを挿入する。
+ * 文字列リテラルの内側は変更しない。入力を分割して渡せるため、ファイルを読みながら変換できる。
+ */
+class SNBTCommaNormalizer {
+    /** 読み込みバッファのサイズ。 */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** 変換結果の出力先。 */
+    private final StringBuilder out;
+
+    /** 値の直後から保留している空白文字（カンマの挿入位置を決めるため）。 */
+    private final StringBuilder pendingWhitespace = new StringBuilder();
+
+    /** 保留中の空白に改行が含まれるかどうか。 */
+    private boolean pendingNewline;
+
+    /** 直前のトークンが値の終わりかどうか。 */
+    private boolean valueEnded;
+
+    /** 文字列リテラルの引用符（文字列外では0）。 */
+    private char quote;
+
+    /** 文字列リテラル内のエスケープ直後かどうか。 */
+    private boolean escaping;
+
+    /**
+     * SNBTCommaNormalizerのコンストラクタ。
+     * @param out 変換結果の出力先
+     */
+    SNBTCommaNormalizer(StringBuilder out) {
+        this.out = out;
+    }
+
+    /**
+     * 文字列を変換します。
+     * @param content FTB Quests形式のSNBT
+     * @return 標準形式のSNBT
+     */
+    static String normalize(String content) {
+        StringBuilder out = new StringBuilder(content.length() + content.length() / 16 + 16);
+        SNBTCommaNormalizer normalizer = new SNBTCommaNormalizer(out);
+        for (int i = 0; i < content.length(); i++) {
+            normalizer.accept(content.charAt(i));
+        }
+        normalizer.finish();
+        return out.toString();
+    }
+
+    /**
+     * リーダーから読み込みながら変換します。
+     * @param reader FTB Quests形式のSNBTのリーダー
+     * @param sizeHint 入力の文字数の目安（出力バッファの初期容量に使用）
+     * @return 標準形式のSNBTを格納したバッファ
+     * @throws IOException 読み込みエラー
+     */
+    static StringBuilder normalize(Reader reader, long sizeHint) throws IOException {
+        long capacity = Math.min(Integer.MAX_VALUE - 8, sizeHint + sizeHint / 16 + 16);
+        StringBuilder out = new StringBuilder((int) Math.max(16, capacity));
+        SNBTCommaNormalizer normalizer = new SNBTCommaNormalizer(out);
+
+        char[] buffer = new char[BUFFER_SIZE];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                normalizer.accept(buffer[i]);
+            }
+        }
+        normalizer.finish();
+        return out;
+    }
+
+    /**
+     * 1文字を変換します。
+     * @param c 入力文字
+     */
+    void accept(char c) {
+        if (quote != 0) {
+            out.append(c);
+            if (escaping) {
+                escaping = false;
+            } else if (c == '\\') {
+                escaping = true;
+            } else if (c == quote) {
+                quote = 0;
+                valueEnded = true;
+            }
+            return;
+        }
+
+        if (Character.isWhitespace(c)) {
+            if (valueEnded) {
+                pendingWhitespace.append(c);
+                if (c == '\n' || c == '\r') {
+                    pendingNewline = true;
+                }
+            } else {
+                out.append(c);
+            }
+            return;
+        }
+
+        if (pendingWhitespace.length() > 0) {
+            if (pendingNewline && startsElement(c)) {
+                out.append(',');
+            }
+            out.append(pendingWhitespace);
+            pendingWhitespace.setLength(0);
+            pendingNewline = false;
+        }
+
+        out.append(c);
+        if (c == '"' || c == '\'') {
+            quote = c;
+            valueEnded = false;
+        } else {
+            valueEnded = c == '}' || c == ']' || isUnquotedChar(c);
+        }
+    }
+
+    /**
+     * 入力の終わりを通知し、保留中の空白を出力します。
+     */
+    void finish() {
+        out.append(pendingWhitespace);
+        pendingWhitespace.setLength(0);
+        pendingNewline = false;
+    }
+
+    /**
+     * 値の後に続く文字が新しい要素の始まりかを判定します。
+     * 区切り・閉じ括弧・キーの区切りの前にはカンマを挿入しません。
+     * @param c 空白の後の最初の文字
+     * @return 新しい要素の始まりの場合true
+     */
+    private static boolean startsElement(char c) {
+        return c != ',' && c != ':' && c != ';' && c != '}' && c != ']';
+    }
+
+    /**
+     * 引用符なしの値（数値、真偽値など）に使用できる文字かを判定します。
+     * @param c 文字
+     * @return 使用できる場合true
+     */
+    private static boolean isUnquotedChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+            || c == '_' || c == '-' || c == '.' || c == '+';
+    }
+}
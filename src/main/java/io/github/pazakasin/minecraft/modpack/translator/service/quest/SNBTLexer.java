@@ -0,0 +1,215 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.quest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Quest File本体のSNBTを先頭から1回だけ走査し、翻訳対象の値の位置を取得する字句解析器。
+ * 文字列リテラルの内側はキーとして解釈しないため、説明文中の「title:」などは誤検出しない。
+ * 走査結果は抽出と翻訳適用の双方で共有する。
+ */
+class SNBTLexer {
+    /**
+     * コンテンツを走査し、翻訳対象の値をファイル内の出現順に取得します。
+     * 同じキーが複数回出現する場合は連番付きのユニークキーを割り当てます。
+     * @param content Quest Fileの内容
+     * @return 走査結果
+     */
+    SNBTTextScan scan(String content) {
+        List<TextMatch> matches = new ArrayList<TextMatch>();
+        Map<String, Integer> keyCounters = new HashMap<String, Integer>();
+        int length = content.length();
+        int i = 0;
+        
+        while (i < length) {
+            char c = content.charAt(i);
+            
+            if (c == '"') {
+                i = skipString(content, i);
+                continue;
+            }
+            if (!isUnquotedChar(c)) {
+                i++;
+                continue;
+            }
+            
+            int keyStart = i;
+            while (i < length && isUnquotedChar(content.charAt(i))) {
+                i++;
+            }
+            int colon = skipWhitespace(content, i);
+            if (colon >= length || content.charAt(colon) != ':') {
+                continue;
+            }
+            String key = content.substring(keyStart, i);
+            if (!SNBTStringHelper.isTranslatableKey(key)) {
+                i = colon + 1;
+                continue;
+            }
+            
+            int valueStart = skipWhitespace(content, colon + 1);
+            TextMatch match = null;
+            if (valueStart < length && content.charAt(valueStart) == '"') {
+                i = skipString(content, valueStart);
+                match = createStringMatch(content, key, keyStart, valueStart, i);
+            } else if (valueStart < length && content.charAt(valueStart) == '[') {
+                int arrayEnd = findTextArrayEnd(content, valueStart);
+                if (arrayEnd < 0) {
+                    // 複合タグの配列などは中のキーを続けて走査する
+                    i = valueStart + 1;
+                    continue;
+                }
+                i = arrayEnd + 1;
+                match = createArrayMatch(content, key, keyStart, valueStart, i);
+            } else {
+                i = valueStart;
+            }
+            
+            if (match != null) {
+                int counter = keyCounters.getOrDefault(key, 0);
+                match.uniqueKey = key + "_" + counter;
+                keyCounters.put(key, counter + 1);
+                matches.add(match);
+            }
+        }
+        
+        return new SNBTTextScan(content, matches);
+    }
+    
+    /**
+     * 文字列値の翻訳対象を生成します。空文字列と変数参照は対象外です。
+     * @param content コンテンツ
+     * @param key キー名
+     * @param keyStart キーの開始位置
+     * @param valueStart 開始の'"'の位置
+     * @param end 終了の'"'の直後の位置
+     * @return 翻訳対象（対象外の場合null）
+     */
+    private TextMatch createStringMatch(String content, String key, int keyStart, int valueStart, int end) {
+        if (end > content.length() || content.charAt(end - 1) != '"' || end - valueStart < 3) {
+            return null;
+        }
+        String unescaped = SNBTStringHelper.unescapeSnbtString(content.substring(valueStart + 1, end - 1));
+        if (SNBTStringHelper.isVariableReference(unescaped)) {
+            return null;
+        }
+        return new TextMatch(key, unescaped, keyStart, valueStart, end, null);
+    }
+    
+    /**
+     * 文字列配列の翻訳対象を生成します。
+     * 空行と変数参照を除いた要素を改行で結合した値が空の場合は対象外です。
+     * @param content コンテンツ
+     * @param key キー名
+     * @param keyStart キーの開始位置
+     * @param arrayStart '['の位置
+     * @param end ']'の直後の位置
+     * @return 翻訳対象（対象外の場合null）
+     */
+    private TextMatch createArrayMatch(String content, String key, int keyStart, int arrayStart, int end) {
+        List<String> rawElements = new ArrayList<String>();
+        StringBuilder combined = new StringBuilder();
+        
+        int i = arrayStart + 1;
+        while (i < end - 1) {
+            if (content.charAt(i) != '"') {
+                i++;
+                continue;
+            }
+            int elementEnd = skipString(content, i);
+            String raw = content.substring(i + 1, elementEnd - 1);
+            rawElements.add(raw);
+            
+            String element = SNBTStringHelper.unescapeSnbtString(raw);
+            if (!element.trim().isEmpty() && !SNBTStringHelper.isVariableReference(element)) {
+                if (combined.length() > 0) {
+                    combined.append("\n");
+                }
+                combined.append(element);
+            }
+            i = elementEnd;
+        }
+        
+        if (combined.length() == 0) {
+            return null;
+        }
+        return new TextMatch(key, combined.toString(), keyStart, arrayStart, end, rawElements);
+    }
+    
+    /**
+     * 翻訳対象となり得る配列の閉じ括弧を探します。
+     * 空の配列と複合タグの配列は対象外です。
+     * @param content コンテンツ
+     * @param arrayStart '['の位置
+     * @return 対応する']'の位置（対象外または閉じていない場合は-1）
+     */
+    private int findTextArrayEnd(String content, int arrayStart) {
+        int first = skipWhitespace(content, arrayStart + 1);
+        if (first >= content.length() || content.charAt(first) == '{' || content.charAt(first) == ']') {
+            return -1;
+        }
+        
+        int depth = 0;
+        int i = arrayStart;
+        while (i < content.length()) {
+            char c = content.charAt(i);
+            if (c == '"') {
+                i = skipString(content, i);
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+            } else if (c == ']' && --depth == 0) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+    
+    /**
+     * 文字列リテラルを読み飛ばします。
+     * @param content コンテンツ
+     * @param quote 開始の'"'の位置
+     * @return 終了の'"'の直後の位置（閉じていない場合はコンテンツの長さ）
+     */
+    private static int skipString(String content, int quote) {
+        int i = quote + 1;
+        while (i < content.length()) {
+            char c = content.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '"') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return content.length();
+    }
+    
+    /**
+     * 空白文字を読み飛ばします。
+     * @param content コンテンツ
+     * @param index 開始位置
+     * @return 最初の空白以外の文字の位置
+     */
+    private static int skipWhitespace(String content, int index) {
+        while (index < content.length() && Character.isWhitespace(content.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+    
+    /**
+     * 引用符なしのキー・値に使用できる文字かを判定します。
+     * @param c 文字
+     * @return 使用できる場合true
+     */
+    private static boolean isUnquotedChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+            || c == '_' || c == '-' || c == '.' || c == '+';
+    }
+}
@@ -4,13 +4,14 @@ import net.querz.nbt.io.SNBTUtil;
 import net.querz.nbt.tag.Tag;
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Map;
 
 /**
  * SNBTファイルのパース・書き込みを行うメインクラス。
- * Lang FileにはNBTパース、Quest File本体には正規表現ベースの処理を提供。
+ * Lang FileにはNBTパース、Quest File本体には字句解析ベースの処理を提供。
  */
 public class SNBTParser {
     /** テキスト抽出処理を担当するヘルパー */
@@ -36,8 +37,9 @@ public class SNBTParser {
     public Tag<?> parse(File snbtFile) throws IOException {
         String content = null;
         try {
-            content = Files.readString(snbtFile.toPath(), StandardCharsets.UTF_8);
-            content = preprocessFTBQuestsFormat(content);
+            try (Reader reader = Files.newBufferedReader(snbtFile.toPath(), StandardCharsets.UTF_8)) {
+                content = SNBTCommaNormalizer.normalize(reader, snbtFile.length()).toString();
+            }
             return SNBTUtil.fromSNBT(content);
         } catch (IOException e) {
             String preview = "";
@@ -59,7 +61,18 @@ public class SNBTParser {
     }
     
     /**
-     * Quest File本体用: 正規表現で翻訳対象テキストを抽出します。
+     * Quest File本体用: 翻訳対象の位置を走査します。
+     * 走査結果から抽出したテキストの翻訳を、同じ走査結果を使って適用できます。
+     * @param questFile Quest Fileファイル
+     * @return 走査結果
+     * @throws IOException ファイル読み込みエラー
+     */
+    public SNBTTextScan scan(File questFile) throws IOException {
+        return textExtractor.scan(questFile);
+    }
+    
+    /**
+     * Quest File本体用: 翻訳対象テキストを抽出します。
      * @param questFile Quest Fileファイル
      * @return キーと値のマップ（連番付きキー）
      * @throws IOException ファイル読み込みエラー
@@ -81,36 +94,28 @@ public class SNBTParser {
     }
     
     /**
-     * FTB Quests形式のSNBTを標準形式に変換します（Lang File用）。
-     * FTB Questsはカンマ区切りを省略しているため、パース前に追加。
-     * @param content 元のSNBT文字列
-     * @return 標準形式に変換されたSNBT文字列
+     * Quest File本体用: 抽出時の走査結果を使用して翻訳を適用します。
+     * @param scan 抽出時の走査結果
+     * @param targetFile 出力先ファイル
+     * @param translations キーと翻訳のマップ（連番付きキー）
+     * @throws IOException ファイルI/Oエラー
      */
-    private String preprocessFTBQuestsFormat(String content) {
-        for (int i = 0; i < 5; i++) {
-            String before = content;
-            content = applySinglePass(content);
-            if (content.equals(before)) {
-                break;
-            }
-        }
-        return content;
+    public void applyTranslations(SNBTTextScan scan, File targetFile,
+                                  Map<String, String> translations) throws IOException {
+        translationApplier.applyTranslations(scan, targetFile, translations);
     }
     
     /**
-     * カンマ追加処理を1回実行します（Lang File用）。
-     * @param content 処理対象の文字列
-     * @return 処理後の文字列
+     * FTB Quests形式のSNBTを標準形式に変換します（Lang File用）。
+     * FTB Questsはカンマ区切りを省略しているため、パース前に1回の走査で追加。
+     * ベンチマークから直接呼び出すため、パッケージプライベートとしています。
+     * @param content 元のSNBT文字列
+     * @return 標準形式に変換されたSNBT文字列
      */
-    private String applySinglePass(String content) {
-        content = content.replaceAll("\"(\\s*[\\r\\n]+\\s*)([a-zA-Z_0-9\"\\}\\]])", "\",$1$2");
-        content = content.replaceAll("\\](\\s*[\\r\\n]+\\s*)([a-zA-Z_0-9\\{\"\\}\\]])", "],$1$2");
-        content = content.replaceAll("\\}(\\s*[\\r\\n]+\\s*)([a-zA-Z_0-9\\{\"\\}\\]])", "},$1$2");
-        content = content.replaceAll("(true|false)(\\s*[\\r\\n]+\\s*)([a-zA-Z_0-9\\}\\]])", "$1,$2$3");
-        content = content.replaceAll("([-+]?[0-9]+\\.?[0-9]*([eE][-+]?[0-9]+)?[dDfFlLbBsS]?)(\\s*[\\r\\n]+\\s*)([a-zA-Z_0-9\"\\}\\]])", "$1,$3$4");
-        return content;
+    String preprocessFTBQuestsFormat(String content) {
+        return SNBTCommaNormalizer.normalize(content);
     }
-
+    
     /**
      * TagオブジェクトをSNBT文字列に変換します（Lang File用）。
      * @param tag 変換対象のTagオブジェクト
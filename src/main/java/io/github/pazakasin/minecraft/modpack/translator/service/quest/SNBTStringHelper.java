@@ -7,6 +7,9 @@ import java.util.regex.Pattern;
  * エスケープ処理、変数参照判定などの補助機能を提供。
  */
 public class SNBTStringHelper {
+    /** ドット区切りの変数参照（3セグメント以上）。 */
+    private static final Pattern DOT_REFERENCE = Pattern.compile("^[a-z][a-z0-9_]*(\\.[a-z0-9_]+){2,}$");
+    
     /**
      * キーが翻訳対象かどうかを判定します。
      * Quest File本体で翻訳対象とするキー: title, description, subtitle
@@ -42,8 +45,7 @@ public class SNBTStringHelper {
             return true;
         }
         
-        Pattern dotReference = Pattern.compile("^[a-z][a-z0-9_]*(\\.[a-z0-9_]+){2,}$");
-        if (dotReference.matcher(trimmed).matches()) {
+        if (DOT_REFERENCE.matcher(trimmed).matches()) {
             return true;
         }
         
@@ -93,83 +95,4 @@ public class SNBTStringHelper {
         
         return end > start ? arrayContent.substring(start, end) : "\t";
     }
-    
-    /**
-     * マッチ範囲から配列の開始位置（'['の位置）を見つけます。
-     * @param content コンテンツ
-     * @param matchStart マッチ開始位置
-     * @param matchEnd マッチ終了位置
-     * @return '['の位置
-     */
-    public static int findArrayStart(String content, int matchStart, int matchEnd) {
-        for (int i = matchStart; i < matchEnd; i++) {
-            if (content.charAt(i) == '[') {
-                return i;
-            }
-        }
-        return matchStart;
-    }
-    
-    /**
-     * マッチ範囲から値の開始位置（最初の'"'の位置）を見つけます。
-     * @param content コンテンツ
-     * @param matchStart マッチ開始位置
-     * @param matchEnd マッチ終了位置
-     * @return 最初の'"'の位置
-     */
-    public static int findValueStart(String content, int matchStart, int matchEnd) {
-        for (int i = matchStart; i < matchEnd; i++) {
-            if (content.charAt(i) == '"') {
-                return i;
-            }
-        }
-        return matchStart;
-    }
-    
-    /**
-     * 配列の開始位置から対応する閉じ括弧を見つけます。
-     * 括弧のネストを考慮します。
-     * @param content コンテンツ
-     * @param start 開始位置（'['の位置）
-     * @return 対応する']'の位置、見つからない場合は-1
-     */
-    public static int findMatchingBracket(String content, int start) {
-        int depth = 1;
-        boolean inString = false;
-        boolean escaped = false;
-        
-        for (int i = start + 1; i < content.length(); i++) {
-            char c = content.charAt(i);
-            
-            if (escaped) {
-                escaped = false;
-                continue;
-            }
-            
-            if (c == '\\') {
-                escaped = true;
-                continue;
-            }
-            
-            if (c == '"') {
-                inString = !inString;
-                continue;
-            }
-            
-            if (inString) {
-                continue;
-            }
-            
-            if (c == '[') {
-                depth++;
-            } else if (c == ']') {
-                depth--;
-                if (depth == 0) {
-                    return i;
-                }
-            }
-        }
-        
-        return -1;
-    }
 }
@@ -0,0 +1,40 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.quest;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Quest File本体の走査結果。
+ * ファイルの内容と翻訳対象の位置を保持し、テキスト抽出と翻訳適用で同じ結果を使用する。
+ */
+public class SNBTTextScan {
+    /** 走査したファイルの内容。 */
+    final String content;
+    
+    /** 翻訳対象（ファイル内の出現順）。 */
+    final List<TextMatch> matches;
+    
+    /**
+     * SNBTTextScanのコンストラクタ。
+     * @param content 走査したファイルの内容
+     * @param matches 翻訳対象（出現順）
+     */
+    SNBTTextScan(String content, List<TextMatch> matches) {
+        this.content = content;
+        this.matches = Collections.unmodifiableList(matches);
+    }
+    
+    /**
+     * 翻訳対象テキストを取得します。
+     * @return 連番付きユニークキーと値のマップ（出現順）
+     */
+    public Map<String, String> getTexts() {
+        Map<String, String> texts = new LinkedHashMap<String, String>();
+        for (TextMatch match : matches) {
+            texts.put(match.uniqueKey, match.value);
+        }
+        return texts;
+    }
+}
@@ -1,23 +1,26 @@
 package io.github.pazakasin.minecraft.modpack.translator.service.quest;
 
+import io.github.pazakasin.minecraft.modpack.translator.util.AtomicFileUtil;
+import io.github.pazakasin.minecraft.modpack.translator.util.ContentWriter;
+
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * SNBTファイルに翻訳を適用するクラス。
- * 元のフォーマットを保持したまま翻訳テキストで置換。
+ * SNBTLexerの走査結果に基づき、元のフォーマットを保持したまま翻訳テキストで置換。
+ * 置換は先頭から順に、未変更の範囲と置換後の文字列を交互に出力先へ書き出す。
  */
 public class SNBTTranslationApplier {
+    /** 字句解析器。 */
+    private final SNBTLexer lexer = new SNBTLexer();
+    
     /**
      * 元のSNBTファイルのフォーマットを保持したまま翻訳を適用します。
      * @param sourceFile 元のSNBTファイル
@@ -28,104 +31,40 @@ public class SNBTTranslationApplier {
     public void applyTranslations(File sourceFile, File targetFile, 
                                   Map<String, String> translations) throws IOException {
         String content = Files.readString(sourceFile.toPath(), StandardCharsets.UTF_8);
-        
-        List<TextMatch> matches = collectMatches(content);
-        List<Replacement> replacements = buildReplacements(content, matches, translations);
-        
-        String result = applyReplacements(content, replacements);
-        Files.writeString(targetFile.toPath(), result, StandardCharsets.UTF_8);
+        applyTranslations(lexer.scan(content), targetFile, translations);
     }
     
     /**
-     * コンテンツから翻訳対象のマッチを収集します。
+     * 抽出時の走査結果を使用して翻訳を適用します。元のファイルは再度読み込みません。
+     * 置換範囲以外の内容は元のファイルとバイト単位で一致します。
+     * 出力は一時ファイル経由で置き換えるため、書き込み途中の内容が出力先に残りません。
+     * @param scan 抽出時の走査結果
+     * @param targetFile 出力先ファイル
+     * @param translations キーと翻訳のマップ（連番付きキー）
+     * @throws IOException ファイルI/Oエラー
      */
-    private List<TextMatch> collectMatches(String content) {
-        List<TextMatch> matches = new ArrayList<TextMatch>();
-        
-        collectStringMatches(content, matches);
-        collectArrayMatches(content, matches);
+    public void applyTranslations(final SNBTTextScan scan, File targetFile,
+                                  Map<String, String> translations) throws IOException {
+        final List<Replacement> replacements = buildReplacements(scan.content, scan.matches, translations);
         
-        Collections.sort(matches, new Comparator<TextMatch>() {
+        AtomicFileUtil.write(targetFile.toPath(), new ContentWriter() {
             @Override
-            public int compare(TextMatch a, TextMatch b) {
-                return Integer.compare(a.start, b.start);
+            public void writeTo(Writer out) throws IOException {
+                writeReplacements(scan.content, replacements, out);
             }
         });
-        
-        return matches;
-    }
-    
-    /**
-     * 文字列値のマッチを収集します。
-     */
-    private void collectStringMatches(String content, List<TextMatch> matches) {
-        Pattern stringPattern = Pattern.compile(
-            "([a-zA-Z_][a-zA-Z_0-9]*):\\s*\"([^\"\\\\]*(\\\\.[^\"\\\\]*)*)\"");
-        Matcher stringMatcher = stringPattern.matcher(content);
-        
-        while (stringMatcher.find()) {
-            String key = stringMatcher.group(1);
-            String stringValue = stringMatcher.group(2);
-            
-            if (SNBTStringHelper.isTranslatableKey(key) && stringValue.length() > 0) {
-                String unescaped = SNBTStringHelper.unescapeSnbtString(stringValue);
-                if (!SNBTStringHelper.isVariableReference(unescaped)) {
-                    matches.add(new TextMatch(key, stringValue, 
-                        stringMatcher.start(), stringMatcher.end(), false));
-                }
-            }
-        }
     }
     
     /**
-     * 配列値のマッチを収集します。
-     */
-    private void collectArrayMatches(String content, List<TextMatch> matches) {
-        Pattern arrayKeyPattern = Pattern.compile("([a-zA-Z_][a-zA-Z_0-9]*):\\s*\\[");
-        Matcher arrayKeyMatcher = arrayKeyPattern.matcher(content);
-        
-        while (arrayKeyMatcher.find()) {
-            String key = arrayKeyMatcher.group(1);
-            
-            if (!SNBTStringHelper.isTranslatableKey(key)) {
-                continue;
-            }
-            
-            int arrayStart = arrayKeyMatcher.end() - 1;
-            int arrayEnd = SNBTStringHelper.findMatchingBracket(content, arrayStart);
-            
-            if (arrayEnd == -1) {
-                continue;
-            }
-            
-            String arrayContent = content.substring(arrayStart + 1, arrayEnd);
-            String trimmed = arrayContent.trim();
-            
-            if (trimmed.isEmpty() || trimmed.startsWith("{")) {
-                continue;
-            }
-            
-            if (hasTranslatableElement(arrayContent)) {
-                matches.add(new TextMatch(key, "", 
-                    arrayKeyMatcher.start(), arrayEnd + 1, true));
-            }
-        }
-    }
-    
-    /**
-     * 配列内に翻訳対象要素があるか判定します。
+     * 抽出時の走査結果を使用して、翻訳を適用した内容を出力先に書き込みます。
+     * @param scan 抽出時の走査結果
+     * @param out 出力先
+     * @param translations キーと翻訳のマップ（連番付きキー）
+     * @throws IOException 書き込みエラー
      */
-    private boolean hasTranslatableElement(String arrayContent) {
-        Pattern elementPattern = Pattern.compile("\"([^\"\\\\]*(\\\\.[^\"\\\\]*)*)\"");
-        Matcher elementMatcher = elementPattern.matcher(arrayContent);
-        
-        while (elementMatcher.find()) {
-            String element = SNBTStringHelper.unescapeSnbtString(elementMatcher.group(1));
-            if (!SNBTStringHelper.isVariableReference(element)) {
-                return true;
-            }
-        }
-        return false;
+    public void applyTranslations(SNBTTextScan scan, Writer out,
+                                  Map<String, String> translations) throws IOException {
+        writeReplacements(scan.content, buildReplacements(scan.content, scan.matches, translations), out);
     }
     
     /**
@@ -134,23 +73,17 @@ public class SNBTTranslationApplier {
     private List<Replacement> buildReplacements(String content, List<TextMatch> matches, 
                                                 Map<String, String> translations) {
         List<Replacement> replacements = new ArrayList<Replacement>();
-        Map<String, Integer> keyCounters = new HashMap<String, Integer>();
         
         for (TextMatch match : matches) {
-            int counter = keyCounters.getOrDefault(match.key, 0);
-            String uniqueKey = match.key + "_" + counter;
-            keyCounters.put(match.key, counter + 1);
-            
-            if (!translations.containsKey(uniqueKey)) {
+            String translatedValue = translations.get(match.uniqueKey);
+            if (translatedValue == null) {
                 continue;
             }
             
-            String translatedValue = translations.get(uniqueKey);
-            
             if (match.isArray) {
                 replacements.add(buildArrayReplacement(content, match, translatedValue));
             } else {
-                replacements.add(buildStringReplacement(content, match, translatedValue));
+                replacements.add(buildStringReplacement(match, translatedValue));
             }
         }
         
@@ -160,45 +93,28 @@ public class SNBTTranslationApplier {
     /**
      * 文字列値の置換情報を構築します。
      */
-    private Replacement buildStringReplacement(String content, TextMatch match, String translatedValue) {
+    private Replacement buildStringReplacement(TextMatch match, String translatedValue) {
         String replacementText = "\"" + SNBTStringHelper.escapeSnbtString(translatedValue) + "\"";
-        int valueStart = SNBTStringHelper.findValueStart(content, match.start, match.end);
-        return new Replacement(valueStart, match.end, replacementText);
+        return new Replacement(match.valueStart, match.end, replacementText);
     }
     
     /**
      * 配列値の置換情報を構築します。
      */
     private Replacement buildArrayReplacement(String content, TextMatch match, String translatedValue) {
-        int arrayStart = SNBTStringHelper.findArrayStart(content, match.start, match.end);
+        int arrayStart = match.valueStart;
         int arrayEnd = match.end - 1;
         
         String arrayContent = content.substring(arrayStart + 1, arrayEnd);
         String indent = SNBTStringHelper.extractIndent(arrayContent);
         
-        List<String> originalElements = extractOriginalElements(arrayContent);
         String[] translatedLines = translatedValue.split("\n");
-        List<String> mergedElements = mergeElements(originalElements, translatedLines);
+        List<String> mergedElements = mergeElements(match.rawElements, translatedLines);
         
         String newArray = buildArrayString(mergedElements, indent);
         return new Replacement(arrayStart, match.end, newArray);
     }
     
-    /**
-     * 配列から元の要素を抽出します。
-     */
-    private List<String> extractOriginalElements(String arrayContent) {
-        List<String> elements = new ArrayList<String>();
-        Pattern elementPattern = Pattern.compile("\"([^\"\\\\]*(\\\\.[^\"\\\\]*)*)\"");
-        Matcher elementMatcher = elementPattern.matcher(arrayContent);
-        
-        while (elementMatcher.find()) {
-            elements.add(elementMatcher.group(1));
-        }
-        
-        return elements;
-    }
-    
     /**
      * 元の要素と翻訳をマージします。
      */
@@ -247,21 +163,21 @@ public class SNBTTranslationApplier {
     }
     
     /**
-     * コンテンツに置換を適用します。
+     * コンテンツに置換を適用し、先頭から順に出力先へ書き込みます。
+     * 置換リストは走査結果と同じく開始位置の昇順であることを前提とし、
+     * 前の置換と重なる置換は無視します。
      */
-    private String applyReplacements(String content, List<Replacement> replacements) {
-        Collections.sort(replacements, new Comparator<Replacement>() {
-            @Override
-            public int compare(Replacement a, Replacement b) {
-                return Integer.compare(b.start, a.start);
-            }
-        });
-        
-        StringBuilder result = new StringBuilder(content);
+    private void writeReplacements(String content, List<Replacement> replacements,
+                                   Writer out) throws IOException {
+        int position = 0;
         for (Replacement r : replacements) {
-            result.replace(r.start, r.end, r.replacement);
+            if (r.start < position) {
+                continue;
+            }
+            out.write(content, position, r.start - position);
+            out.write(r.replacement);
+            position = r.end;
         }
-        
-        return result.toString();
+        out.write(content, position, content.length() - position);
     }
 }
@@ -1,38 +1,52 @@
 package io.github.pazakasin.minecraft.modpack.translator.service.quest;
 
+import java.util.List;
+
 /**
  * マッチした翻訳対象テキストの位置情報を保持するクラス。
- * SNBTParserで使用され、テキストの抽出と置換処理を支援。
+ * SNBTLexerが生成し、テキストの抽出と置換処理で共有する。
  */
 class TextMatch {
     /** キー名 */
     String key;
     
-    /** 値 */
+    /** 連番付きユニークキー */
+    String uniqueKey;
+    
+    /** 値（アンエスケープ済み、配列は翻訳対象の要素を改行で結合） */
     String value;
     
-    /** テキストの開始位置 */
+    /** テキストの開始位置（キーの先頭） */
     int start;
     
-    /** テキストの終了位置 */
+    /** 値の開始位置（文字列は'"'、配列は'['の位置） */
+    int valueStart;
+    
+    /** テキストの終了位置（値の直後） */
     int end;
     
     /** 配列値かどうか */
     boolean isArray;
     
+    /** 配列の全要素（エスケープされたまま、文字列値の場合はnull） */
+    List<String> rawElements;
+    
     /**
      * TextMatchのコンストラクタ。
      * @param key キー名
      * @param value 値
      * @param start 開始位置
+     * @param valueStart 値の開始位置
      * @param end 終了位置
-     * @param isArray 配列値かどうか
+     * @param rawElements 配列の全要素（文字列値の場合はnull）
      */
-    TextMatch(String key, String value, int start, int end, boolean isArray) {
+    TextMatch(String key, String value, int start, int valueStart, int end, List<String> rawElements) {
         this.key = key;
         this.value = value;
         this.start = start;
+        this.valueStart = valueStart;
         this.end = end;
-        this.isArray = isArray;
+        this.isArray = rawElements != null;
+        this.rawElements = rawElements;
     }
 }
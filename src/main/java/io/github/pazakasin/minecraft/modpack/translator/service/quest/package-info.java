@@ -14,6 +14,7 @@
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.quest.SNBTParser} - SNBTパーサー</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.quest.SNBTTextExtractor} - テキスト抽出</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.quest.SNBTTranslationApplier} - 翻訳適用</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.quest.SNBTTextScan} - 抽出・適用で共有する走査結果</li>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.service.quest.LangFileSNBTExtractor} - Lang.snbt抽出</li>
  * </ul>
  */
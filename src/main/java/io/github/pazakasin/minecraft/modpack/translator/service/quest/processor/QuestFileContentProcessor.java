@@ -1,17 +1,28 @@
 package io.github.pazakasin.minecraft.modpack.translator.service.quest.processor;
 
 import java.io.File;
-import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.github.pazakasin.minecraft.modpack.translator.model.QuestFileResult;
 import io.github.pazakasin.minecraft.modpack.translator.service.quest.SNBTParser;
+import io.github.pazakasin.minecraft.modpack.translator.service.quest.SNBTTextScan;
 import io.github.pazakasin.minecraft.modpack.translator.service.quest.util.QuestTranslationHelper;
 import io.github.pazakasin.minecraft.modpack.translator.service.callback.LogCallback;
+import io.github.pazakasin.minecraft.modpack.translator.util.AtomicFileUtil;
 
 /**
  * Quest File本体の処理を担当するクラス。
- * 正規表現ベースでテキスト抽出、翻訳適用を実行。
+ * 1回の走査結果を共有してテキスト抽出、翻訳適用を実行。
+ * 各処理はインスタンスの状態を変更しないため、複数ファイルを並行して処理できる。
  */
 public class QuestFileContentProcessor {
 	/** SNBTパーサー。 */
@@ -41,6 +52,63 @@ public class QuestFileContentProcessor {
 		this.outputDir = outputDir;
 	}
 	
+	/**
+	 * 複数のQuest Fileを並行して処理します。
+	 * 同時に処理するファイル数を制限し、結果は入力順で返します。
+	 * @param questFiles 元のQuest Fileのリスト
+	 * @param maxFilesInFlight 同時処理ファイル数（1未満は1として扱う）
+	 * @return 入力順に並んだ処理結果
+	 * @throws InterruptedException 処理待機中の割り込み
+	 */
+	public List<QuestFileResult> processAll(final List<File> questFiles, int maxFilesInFlight)
+			throws InterruptedException {
+		List<QuestFileResult> results = new ArrayList<QuestFileResult>();
+		if (questFiles.isEmpty()) {
+			return results;
+		}
+		
+		final int total = questFiles.size();
+		int poolSize = Math.min(Math.max(1, maxFilesInFlight), total);
+		ExecutorService executor = Executors.newFixedThreadPool(poolSize, new ThreadFactory() {
+			private final AtomicInteger threadNumber = new AtomicInteger(1);
+			
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "quest-file-" + threadNumber.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		
+		List<Future<QuestFileResult>> futures = new ArrayList<Future<QuestFileResult>>();
+		try {
+			for (int i = 0; i < total; i++) {
+				final File questFile = questFiles.get(i);
+				final int currentIndex = i + 1;
+				futures.add(executor.submit(new Callable<QuestFileResult>() {
+					@Override
+					public QuestFileResult call() {
+						return process(questFile, currentIndex, total);
+					}
+				}));
+			}
+			
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					results.add(futures.get(i).get());
+				} catch (ExecutionException e) {
+					helper.logError("クエストファイル翻訳エラー", questFiles.get(i), e);
+					results.add(QuestFileResult.createQuestFileResult(
+							questFiles.get(i), null, true, false, 0));
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		
+		return results;
+	}
+	
 	/**
 	 * Quest Fileを処理します。
 	 * @param questFile 元のQuest File
@@ -65,7 +133,8 @@ public class QuestFileContentProcessor {
 		try {
 			// ログ出力を削除（開始メッセージ不要）
 			
-			Map<String, String> texts = parser.extractTranslatableTexts(questFile);
+			SNBTTextScan scan = parser.scan(questFile);
+			Map<String, String> texts = scan.getTexts();
 			
 			File relativePath = getRelativePath(questFile);
 			File outputBase = outputDir.getParentFile();
@@ -76,8 +145,7 @@ public class QuestFileContentProcessor {
 				// 翻訳対象なしの場合もログ出力
 				log(String.format("[Quest %d/%d][スキップ] %s - 翻訳対象テキストなし",
 						currentIndex, totalCount, questFile.getName()));
-				Files.copy(questFile.toPath(), outputFile.toPath(),
-						java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+				AtomicFileUtil.copy(questFile.toPath(), outputFile.toPath());
 				return QuestFileResult.createQuestFileResult(
 						questFile, outputFile, false, true, 0);
 			}
@@ -91,7 +159,7 @@ public class QuestFileContentProcessor {
 			
 			Map<String, String> translations = helper.translateQuestFileTexts(texts, progressCallback);
 			
-			parser.applyTranslations(questFile, outputFile, translations);
+			parser.applyTranslations(scan, outputFile, translations);
 			
 			// Mod言語ファイル形式に合わせたログ
 			log(String.format("[Quest %d/%d][翻訳] %s - 翻訳完了 (%d文字)",
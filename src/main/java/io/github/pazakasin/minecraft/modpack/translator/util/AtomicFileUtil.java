@@ -0,0 +1,102 @@
+package io.github.pazakasin.minecraft.modpack.translator.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * ファイルを原子的に書き込むユーティリティクラス。
+ * 同じディレクトリの一時ファイルに書き込んでから置き換えるため、
+ * 書き込み途中のファイルが出力先に残らない。
+ */
+public class AtomicFileUtil {
+    /** 一時ファイルの拡張子。 */
+    private static final String TEMP_SUFFIX = ".tmp";
+    
+    /**
+     * インスタンス化を禁止するコンストラクタ。
+     */
+    private AtomicFileUtil() {
+    }
+    
+    /**
+     * 文字列をUTF-8でファイルに書き込みます。
+     * @param target 出力先ファイル
+     * @param content 書き込む内容
+     * @throws IOException 書き込み失敗
+     */
+    public static void writeString(Path target, final CharSequence content) throws IOException {
+        write(target, new ContentWriter() {
+            @Override
+            public void writeTo(Writer out) throws IOException {
+                out.append(content);
+            }
+        });
+    }
+    
+    /**
+     * 内容を順に書き出しながらUTF-8でファイルに書き込みます。
+     * 内容全体をメモリ上に組み立てずに出力できます。
+     * @param target 出力先ファイル
+     * @param contentWriter 内容を書き込む処理
+     * @throws IOException 書き込み失敗
+     */
+    public static void write(Path target, ContentWriter contentWriter) throws IOException {
+        Path temp = createTempFile(target);
+        try {
+            try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                contentWriter.writeTo(out);
+            }
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    /**
+     * ファイルを複製します。
+     * @param source 複製元ファイル
+     * @param target 出力先ファイル
+     * @throws IOException 複製失敗
+     */
+    public static void copy(Path source, Path target) throws IOException {
+        Path temp = createTempFile(target);
+        try {
+            Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    /**
+     * 出力先と同じディレクトリに一時ファイルを作成します。
+     * @param target 出力先ファイル
+     * @return 一時ファイル
+     * @throws IOException 作成失敗
+     */
+    private static Path createTempFile(Path target) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        return Files.createTempFile(dir, target.getFileName().toString() + ".", TEMP_SUFFIX);
+    }
+    
+    /**
+     * 一時ファイルを出力先に移動します。
+     * ファイルシステムが原子的な移動に対応しない場合は通常の置き換えで移動します。
+     * @param temp 一時ファイル
+     * @param target 出力先ファイル
+     * @throws IOException 移動失敗
+     */
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
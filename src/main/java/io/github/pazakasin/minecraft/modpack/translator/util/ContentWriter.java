@@ -0,0 +1,17 @@
+package io.github.pazakasin.minecraft.modpack.translator.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 出力先のWriterに内容を書き込む処理。
+ * {@link AtomicFileUtil#write}で、内容全体をメモリ上に組み立てずにファイルへ書き出すために使用する。
+ */
+public interface ContentWriter {
+    /**
+     * 内容を書き込みます。
+     * @param out 出力先（バッファ付き、UTF-8）
+     * @throws IOException 書き込み失敗
+     */
+    void writeTo(Writer out) throws IOException;
+}
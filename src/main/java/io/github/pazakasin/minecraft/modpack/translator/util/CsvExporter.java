@@ -111,7 +111,7 @@ public class CsvExporter {
         writer.write(String.valueOf(file.getCharacterCount()));
         writer.write(",");
         
-        writer.write(file.getFileContent() != null ? "○" : "×");
+        writer.write(file.hasFileContent() ? "○" : "×");
         writer.write(",");
         
         writer.write(file.isHasExistingJaJp() ? "○" : "×");
@@ -0,0 +1,77 @@
+package io.github.pazakasin.minecraft.modpack.translator.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256ハッシュ計算のユーティリティクラス。
+ */
+public class HashUtil {
+    /** ファイル読み込み時のバッファサイズ。 */
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    /**
+     * インスタンス化を禁止するコンストラクタ。
+     */
+    private HashUtil() {
+    }
+    
+    /**
+     * 文字列（UTF-8）のSHA-256ハッシュを計算します。
+     * @param text 対象文字列
+     * @return 16進文字列のハッシュ
+     */
+    public static String sha256(String text) {
+        MessageDigest digest = newDigest();
+        return toHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    /**
+     * ファイル内容のSHA-256ハッシュを計算します。
+     * @param file 対象ファイル
+     * @return 16進文字列のハッシュ
+     * @throws IOException 読み込み失敗
+     */
+    public static String sha256(File file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream is = Files.newInputStream(file.toPath())) {
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+    
+    /**
+     * SHA-256のMessageDigestを生成します。
+     * @return MessageDigest
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256が利用できません", e);
+        }
+    }
+    
+    /**
+     * バイト列を16進文字列に変換します。
+     * @param bytes バイト列
+     * @return 16進文字列
+     */
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
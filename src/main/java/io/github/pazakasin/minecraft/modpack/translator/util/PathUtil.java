@@ -0,0 +1,30 @@
+package io.github.pazakasin.minecraft.modpack.translator.util;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * ファイルパス処理のユーティリティクラス。
+ */
+public class PathUtil {
+    /**
+     * インスタンス化を禁止するコンストラクタ。
+     */
+    private PathUtil() {
+    }
+    
+    /**
+     * パスを比較用の正規化された絶対パスに変換します。
+     * シンボリックリンクや相対表記の違いを吸収し、解決できない場合は絶対パスを返します。
+     * @param path 対象パス
+     * @return 正規化されたパス
+     */
+    public static String canonicalPath(String path) {
+        File file = new File(path);
+        try {
+            return file.getCanonicalPath();
+        } catch (IOException e) {
+            return file.getAbsolutePath();
+        }
+    }
+}
@@ -5,6 +5,10 @@
  * <h2>主要クラス</h2>
  * <ul>
  *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.util.CsvExporter} - CSVエクスポート機能</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.util.HashUtil} - SHA-256ハッシュ計算</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.util.AtomicFileUtil} - 一時ファイル経由の原子的なファイル書き込み</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.util.ContentWriter} - 原子的な書き込みで内容を順に書き出す処理</li>
+ *   <li>{@link io.github.pazakasin.minecraft.modpack.translator.util.PathUtil} - パスの正規化</li>
  * </ul>
  */
 package io.github.pazakasin.minecraft.modpack.translator.util;
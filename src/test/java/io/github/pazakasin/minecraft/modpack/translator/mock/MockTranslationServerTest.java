@@ -0,0 +1,147 @@
+package io.github.pazakasin.minecraft.modpack.translator.mock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.github.pazakasin.minecraft.modpack.translator.service.provider.DeepLTranslationProvider;
+import io.github.pazakasin.minecraft.modpack.translator.service.provider.GoogleTranslationProvider;
+import io.github.pazakasin.minecraft.modpack.translator.service.provider.TranslationProvider;
+
+/**
+ * MockTranslationServerのテスト。
+ * 実際の翻訳プロバイダーの接続先を模擬翻訳サーバーに切り替え、正常応答・5xx・429の扱いを確認する。
+ */
+class MockTranslationServerTest {
+	/** テスト用の言語ファイル。 */
+	private static final String LANG_JSON = "{\"item.test.apple\":\"Apple\",\"item.test.stone\":\"Stone\"}";
+	
+	/**
+	 * Google形式の正常応答で、全エントリーが翻訳されることを確認します。
+	 * @throws Exception 翻訳エラー
+	 */
+	@Test
+	void googleProviderTranslatesThroughServer() throws Exception {
+		MockTranslationServer server = startServer(createConfig());
+		try {
+			JsonObject result = translate(new GoogleTranslationProvider("test-key"), server);
+			
+			assertEquals(MockTranslationServer.TRANSLATION_PREFIX + "Apple", result.get("item.test.apple").getAsString());
+			assertEquals(MockTranslationServer.TRANSLATION_PREFIX + "Stone", result.get("item.test.stone").getAsString());
+			assertEquals(1, server.getRequestCount());
+			assertEquals(2, server.getTranslatedEntryCount());
+		} finally {
+			server.stop();
+		}
+	}
+	
+	/**
+	 * DeepL形式（フォーム送信）の正常応答で、全エントリーが翻訳されることを確認します。
+	 * @throws Exception 翻訳エラー
+	 */
+	@Test
+	void deepLProviderTranslatesThroughServer() throws Exception {
+		MockTranslationServer server = startServer(createConfig());
+		try {
+			JsonObject result = translate(new DeepLTranslationProvider("test-key"), server);
+			
+			assertEquals(MockTranslationServer.TRANSLATION_PREFIX + "Apple", result.get("item.test.apple").getAsString());
+			assertEquals(2, server.getTranslatedEntryCount());
+		} finally {
+			server.stop();
+		}
+	}
+	
+	/**
+	 * 5xxエラーはリトライせずに翻訳エラーになることを確認します。
+	 * @throws Exception サーバー起動エラー
+	 */
+	@Test
+	void serverErrorFailsWithoutRetry() throws Exception {
+		MockServerConfig config = createConfig();
+		config.serverErrorRate = 1.0;
+		final MockTranslationServer server = startServer(config);
+		try {
+			assertThrows(IOException.class, new Executable() {
+				@Override
+				public void execute() throws Throwable {
+					translate(new GoogleTranslationProvider("test-key"), server);
+				}
+			});
+			assertEquals(1, server.getRequestCount());
+			assertEquals(1, server.getServerErrorCount());
+			assertEquals(0, server.getTranslatedEntryCount());
+		} finally {
+			server.stop();
+		}
+	}
+	
+	/**
+	 * 429エラーはRetry-Afterに従ってリトライされ、上限回数で翻訳エラーになることを確認します。
+	 * @throws Exception サーバー起動エラー
+	 */
+	@Test
+	void rateLimitIsRetriedUntilLimit() throws Exception {
+		MockServerConfig config = createConfig();
+		config.rateLimitErrorRate = 1.0;
+		config.retryAfterSeconds = 1;
+		final MockTranslationServer server = startServer(config);
+		try {
+			Exception e = assertThrows(Exception.class, new Executable() {
+				@Override
+				public void execute() throws Throwable {
+					translate(new GoogleTranslationProvider("test-key"), server);
+				}
+			});
+			assertTrue(e.getMessage().contains("最大リトライ回数"), "例外: " + e);
+			assertTrue(server.getRequestCount() > 1, "リクエスト数: " + server.getRequestCount());
+			assertEquals(server.getRequestCount(), server.getRateLimitedCount());
+			assertEquals(0, server.getTranslatedEntryCount());
+		} finally {
+			server.stop();
+		}
+	}
+	
+	/**
+	 * 遅延なし・空きポートで待ち受ける設定を生成します。
+	 * @return サーバー設定
+	 */
+	private static MockServerConfig createConfig() {
+		MockServerConfig config = new MockServerConfig();
+		config.port = 0;
+		config.latencyMs = 0;
+		return config;
+	}
+	
+	/**
+	 * 模擬翻訳サーバーを起動します。
+	 * @param config サーバー設定
+	 * @return 起動したサーバー
+	 * @throws IOException 起動エラー
+	 */
+	private static MockTranslationServer startServer(MockServerConfig config) throws IOException {
+		MockTranslationServer server = new MockTranslationServer(config);
+		server.start();
+		return server;
+	}
+	
+	/**
+	 * プロバイダーの接続先をサーバーに切り替えて、テスト用の言語ファイルを翻訳します。
+	 * @param provider 翻訳プロバイダー
+	 * @param server 模擬翻訳サーバー
+	 * @return 翻訳結果
+	 * @throws Exception 翻訳エラー
+	 */
+	private static JsonObject translate(TranslationProvider provider, MockTranslationServer server) throws Exception {
+		provider.setBaseUrl(server.getBaseUrl());
+		return JsonParser.parseString(provider.translateJsonFile(LANG_JSON, null)).getAsJsonObject();
+	}
+}
@@ -0,0 +1,130 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.provider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * SlidingWindowRateLimiterのテスト。
+ * 集計期間を短くして、期間の経過・補正・待機・並行予約の動作を確認する。
+ */
+class SlidingWindowRateLimiterTest {
+	/** テスト用の集計期間（ミリ秒）。 */
+	private static final long WINDOW_MS = 200;
+
+	/** テスト用のバケット数。 */
+	private static final int BUCKET_COUNT = 4;
+
+	/**
+	 * 集計期間が過ぎた使用量は上限の判定に含まれないことを確認します。
+	 * @throws InterruptedException スレッド中断
+	 */
+	@Test
+	void releasesTokensAfterWindowExpires() throws InterruptedException {
+		SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(100, WINDOW_MS, BUCKET_COUNT);
+
+		assertNotNull(limiter.tryAcquire(100));
+		assertNull(limiter.tryAcquire(10));
+
+		Thread.sleep(WINDOW_MS + WINDOW_MS / BUCKET_COUNT + 20);
+
+		assertEquals(0, limiter.getWindowTokens());
+		assertNotNull(limiter.tryAcquire(10));
+		assertEquals(10, limiter.getWindowTokens());
+	}
+
+	/**
+	 * 実際のトークン数が見積もりより少ない場合、差分が返却されることを確認します。
+	 */
+	@Test
+	void correctRefundsOverestimatedTokens() {
+		SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(100, 60000, 60);
+
+		TokenUsage usage = limiter.tryAcquire(80);
+		assertNotNull(usage);
+		assertNull(limiter.tryAcquire(50));
+
+		limiter.correct(usage, 30);
+
+		assertEquals(30, limiter.getWindowTokens());
+		assertNotNull(limiter.tryAcquire(50));
+		assertEquals(80, limiter.getWindowTokens());
+	}
+
+	/**
+	 * 上限に達している間はacquireが待機し、集計期間内の使用量が解放されてから予約できることを確認します。
+	 * @throws InterruptedException スレッド中断
+	 */
+	@Test
+	void acquireBlocksUntilWindowFrees() throws InterruptedException {
+		SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(100, WINDOW_MS, BUCKET_COUNT);
+		assertNotNull(limiter.tryAcquire(100));
+
+		long start = System.currentTimeMillis();
+		TokenUsage usage = limiter.acquire(50);
+		long elapsed = System.currentTimeMillis() - start;
+
+		assertNotNull(usage);
+		assertTrue(elapsed >= WINDOW_MS - WINDOW_MS / BUCKET_COUNT, "待機時間: " + elapsed + "ms");
+		assertTrue(elapsed < WINDOW_MS * 5, "待機時間: " + elapsed + "ms");
+		assertEquals(50, limiter.getWindowTokens());
+	}
+
+	/**
+	 * 複数スレッドから同時に予約しても、予約済みの合計が上限を超えないことを確認します。
+	 * @throws Exception スレッドの実行失敗
+	 */
+	@Test
+	void concurrentReservationsNeverExceedLimit() throws Exception {
+		final int limit = 1000;
+		final int tokensPerRequest = 7;
+		final int threadCount = 16;
+		final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(limit, 60000, 60);
+		final CountDownLatch start = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+			for (int i = 0; i < threadCount; i++) {
+				futures.add(executor.submit(new Callable<Integer>() {
+					@Override
+					public Integer call() throws Exception {
+						start.await();
+						int acquired = 0;
+						for (int attempt = 0; attempt < 200; attempt++) {
+							if (limiter.tryAcquire(tokensPerRequest) != null) {
+								acquired++;
+							}
+							assertTrue(limiter.getWindowTokens() <= limit + tokensPerRequest * threadCount);
+						}
+						return acquired;
+					}
+				}));
+			}
+			start.countDown();
+
+			int totalAcquired = 0;
+			for (Future<Integer> future : futures) {
+				totalAcquired += future.get();
+			}
+
+			assertTrue(totalAcquired > 0);
+			assertTrue(totalAcquired * tokensPerRequest <= limit,
+					"予約済み: " + totalAcquired * tokensPerRequest);
+			assertEquals(totalAcquired * tokensPerRequest, limiter.getWindowTokens());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package io.github.pazakasin.minecraft.modpack.translator.service.quest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * SNBTLexerとSNBTTranslationApplierのテスト。
+ * 代表的なチャプターを走査し、抽出結果と、置換箇所以外がバイト単位で保たれることを確認する。
+ */
+class SNBTTranslationApplierTest {
+	/** FTB Questsのチャプターを模したSNBT（タブインデント）。 */
+	private static final String CHAPTER = String.join("\n",
+		"{",
+		"\tdefault_hide_dependency_lines: false",
+		"\tfilename: \"getting_started\"",
+		"\ticon: \"minecraft:oak_log\"",
+		"\tid: \"0A1B2C3D4E5F6071\"",
+		"\tquests: [",
+		"\t\t{",
+		"\t\t\tdescription: [",
+		"\t\t\t\t\"Chop some logs.\"",
+		"\t\t\t\t\"\"",
+		"\t\t\t\t\"{image:ftbquests:textures/tree.png width:100 height:100}\"",
+		"\t\t\t\t\"Then craft planks. title: not a key\"",
+		"\t\t\t]",
+		"\t\t\tid: \"1111111111111111\"",
+		"\t\t\tsubtitle: \"ftbquests.chapter.getting_started.subtitle\"",
+		"\t\t\ttasks: [{",
+		"\t\t\t\tid: \"2222222222222222\"",
+		"\t\t\t\titem: \"minecraft:oak_log\"",
+		"\t\t\t\ttitle: \"Logs\"",
+		"\t\t\t\ttype: \"item\"",
+		"\t\t\t}]",
+		"\t\t\ttitle: \"Punch a Tree\"",
+		"\t\t\tx: 0.0d",
+		"\t\t\ty: 0.0d",
+		"\t\t}",
+		"\t\t{",
+		"\t\t\tdescription: [\"Say \\\"hello\\\" to title: everyone\"]",
+		"\t\t\tid: \"3333333333333333\"",
+		"\t\t\tsub-title: \"Not translatable\"",
+		"\t\t\ttitle: \"Second Quest\"",
+		"\t\t\tx: 1.5d",
+		"\t\t}",
+		"\t]",
+		"\tsubtitle: [ ]",
+		"\ttitle: \"Getting Started\"",
+		"}",
+		"");
+
+	/**
+	 * 翻訳対象の値が出現順に連番付きキーで抽出されることを確認します。
+	 * 空行・変数参照・空配列は対象外で、文字列リテラル内の「title:」や
+	 * 「sub-title」のようなキーの一部に含まれる「title」は検出しません。
+	 */
+	@Test
+	void scanExtractsTranslatableValuesInOrder() {
+		Map<String, String> expected = new LinkedHashMap<String, String>();
+		expected.put("description_0", "Chop some logs.\nThen craft planks. title: not a key");
+		expected.put("title_0", "Logs");
+		expected.put("title_1", "Punch a Tree");
+		expected.put("description_1", "Say \"hello\" to title: everyone");
+		expected.put("title_2", "Second Quest");
+		expected.put("title_3", "Getting Started");
+
+		Map<String, String> texts = new SNBTLexer().scan(CHAPTER).getTexts();
+
+		assertEquals(expected, texts);
+		// Mapの比較は順序を見ないため、出現順はキーの並びで確認する
+		assertEquals(expected.keySet().toString(), texts.keySet().toString());
+	}
+
+	/**
+	 * 翻訳が空の場合、出力が入力と完全に一致することを確認します。
+	 * @throws IOException 書き込みエラー
+	 */
+	@Test
+	void emptyTranslationsLeaveContentUnchanged() throws IOException {
+		assertEquals(CHAPTER, apply(new HashMap<String, String>()));
+	}
+
+	/**
+	 * 一部のキーのみ翻訳した場合、対象の値だけが置き換わり、
+	 * それ以外（配列内の空行・変数参照やインデントを含む）は元のまま残ることを確認します。
+	 * @throws IOException 書き込みエラー
+	 */
+	@Test
+	void partialTranslationsReplaceOnlyTargetSpans() throws IOException {
+		Map<String, String> translations = new HashMap<String, String>();
+		translations.put("description_0", "丸太を集める。\n板材を作る。");
+		translations.put("title_1", "木を叩く");
+		translations.put("description_1", "みんなに\"こんにちは\"と言う");
+
+		String expected = CHAPTER
+			.replace("\"Chop some logs.\"", "\"丸太を集める。\"")
+			.replace("\"Then craft planks. title: not a key\"", "\"板材を作る。\"")
+			.replace("title: \"Punch a Tree\"", "title: \"木を叩く\"")
+			.replace("[\"Say \\\"hello\\\" to title: everyone\"]",
+				"[\n\t\"みんなに\\\"こんにちは\\\"と言う\"\n]");
+
+		String output = apply(translations);
+
+		assertEquals(expected, output);
+		assertTrue(output.contains("title: \"Logs\""));
+		assertTrue(output.contains("title: \"Second Quest\""));
+		assertTrue(output.endsWith("\ttitle: \"Getting Started\"\n}\n"));
+	}
+
+	/**
+	 * 抽出した値をそのまま翻訳として適用しても、出力が入力と一致することを確認します。
+	 * @throws IOException 書き込みエラー
+	 */
+	@Test
+	void identityTranslationsRoundTrip() throws IOException {
+		Map<String, String> translations = new HashMap<String, String>(new SNBTLexer().scan(CHAPTER).getTexts());
+		// 1行で書かれた配列は置換時に複数行へ組み直されるため対象外とする
+		translations.remove("description_1");
+
+		assertEquals(CHAPTER, apply(translations));
+	}
+
+	/**
+	 * チャプターを走査して翻訳を適用した結果を返します。
+	 * @param translations キーと翻訳のマップ（連番付きキー）
+	 * @return 適用後の内容
+	 * @throws IOException 書き込みエラー
+	 */
+	private String apply(Map<String, String> translations) throws IOException {
+		SNBTTextScan scan = new SNBTLexer().scan(CHAPTER);
+		StringWriter out = new StringWriter();
+		new SNBTTranslationApplier().applyTranslations(scan, out, translations);
+		return out.toString();
+	}
+}